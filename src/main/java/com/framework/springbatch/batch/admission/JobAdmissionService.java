@@ -0,0 +1,241 @@
+package com.framework.springbatch.batch.admission;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.JobPriority;
+import com.framework.springbatch.global.error.ErrorCode;
+import com.framework.springbatch.global.error.exception.BatchJobException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.job.AbstractJob;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 Job 실행 승인 서비스
+ * - asyncJobLauncher 앞에서 노드당 동시 실행 수, Job별 동시 실행 수를 제한
+ * - 한도를 넘는 요청은 우선순위(HIGH, NORMAL, LOW) -> 요청 순서로 대기열에 보관하고, 실행 중인 Job이 끝나면 다음 요청을 실행
+ * - 대기열이 maxQueueSize에 도달하면 BATCH_QUEUE_FULL(429)로 거절
+ *
+ * Job 종료는 모든 Job에 등록한 JobExecutionListener(afterJob)로 감지하며,
+ * 어떤 요청의 실행인지는 식별에 쓰지 않는 Job 파라미터(admission.ticket)로 구분한다.
+ * 대기열과 실행 수는 노드(JVM) 단위이며 동기 실행, 재시작, 스케줄러 실행은 대상이 아니다.
+ */
+@Slf4j
+@Service
+public class JobAdmissionService implements JobExecutionListener, SmartInitializingSingleton {
+
+    public static final String TICKET_PARAMETER = "admission.ticket";
+
+    private final ApplicationContext applicationContext;
+    private final BatchProperties batchProperties;
+    private final JobLauncher asyncJobLauncher;
+
+    private final NavigableSet<JobAdmissionTicket> queue = new TreeSet<>(JobAdmissionTicket.ORDER);
+    private final Map<String, JobAdmissionTicket> tickets = new LinkedHashMap<>();
+    private final Map<String, Integer> runningByJob = new HashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private int running;
+
+    public JobAdmissionService(ApplicationContext applicationContext,
+                               BatchProperties batchProperties,
+                               @Qualifier("asyncJobLauncher") JobLauncher asyncJobLauncher) {
+        this.applicationContext = applicationContext;
+        this.batchProperties = batchProperties;
+        this.asyncJobLauncher = asyncJobLauncher;
+    }
+
+    /**
+     * 모든 Job에 종료 감지 리스너 등록
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        applicationContext.getBeansOfType(Job.class).values().forEach(job -> {
+            if (job instanceof AbstractJob abstractJob) {
+                abstractJob.registerJobExecutionListener(this);
+            } else {
+                log.warn("Job {} does not support listener registration, admitted runs will not release slots",
+                        job.getName());
+            }
+        });
+    }
+
+    /**
+     * 실행 요청 제출
+     * - 한도 안이면 즉시 실행하고, 아니면 대기열에 보관
+     *
+     * @param priority 우선순위 (null이면 batch.admission.priorities 설정 또는 NORMAL)
+     * @return 요청 티켓 (즉시 실행되었으면 executionId 포함)
+     */
+    public JobAdmissionTicket submit(Job job, JobParameters jobParameters, JobPriority priority) {
+        BatchProperties.Admission properties = batchProperties.getAdmission();
+        String ticketId = UUID.randomUUID().toString();
+        JobParameters parameters = new JobParametersBuilder(jobParameters)
+                .addString(TICKET_PARAMETER, ticketId, false)
+                .toJobParameters();
+        JobAdmissionTicket ticket = new JobAdmissionTicket(ticketId, job, parameters,
+                priority != null ? priority : properties.getPriority(job.getName()), sequence.incrementAndGet());
+
+        synchronized (this) {
+            if (queue.size() >= properties.getMaxQueueSize() && !hasCapacity(job.getName())) {
+                log.warn("Admission queue full ({}), rejecting {}", queue.size(), job.getName());
+                throw new BatchJobException(ErrorCode.BATCH_QUEUE_FULL, job.getName());
+            }
+            queue.add(ticket);
+            tickets.put(ticketId, ticket);
+        }
+
+        RuntimeException failure = dispatch(ticket);
+        if (failure != null) {
+            throw failure;
+        }
+        if (!ticket.isStarted()) {
+            log.info("Job {} queued: ticket={}, priority={}, position={}",
+                    job.getName(), ticketId, ticket.getPriority(), getPosition(ticketId));
+        }
+        return ticket;
+    }
+
+    /**
+     * 대기 중인 요청 취소
+     *
+     * @return 취소 여부 (이미 실행되었으면 false)
+     */
+    public synchronized boolean cancel(String ticketId) {
+        JobAdmissionTicket ticket = getTicket(ticketId);
+        if (ticket.isStarted()) {
+            return false;
+        }
+        queue.remove(ticket);
+        tickets.remove(ticketId);
+        log.info("Queued job {} cancelled: ticket={}", ticket.getJobName(), ticketId);
+        return true;
+    }
+
+    public synchronized JobAdmissionTicket getTicket(String ticketId) {
+        JobAdmissionTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new BatchJobException(ErrorCode.BATCH_QUEUE_TICKET_NOT_FOUND, "ticket:" + ticketId);
+        }
+        return ticket;
+    }
+
+    /**
+     * 실행 중 요청(시작 순) + 대기 요청(실행 순)
+     */
+    public synchronized List<JobAdmissionTicket> getTickets() {
+        List<JobAdmissionTicket> result = new ArrayList<>();
+        tickets.values().stream()
+                .filter(JobAdmissionTicket::isStarted)
+                .sorted(Comparator.comparing(JobAdmissionTicket::getStartedAt))
+                .forEach(result::add);
+        result.addAll(queue);
+        return result;
+    }
+
+    /**
+     * 대기열 순번 (1부터, 대기 중이 아니면 null)
+     */
+    public synchronized Integer getPosition(String ticketId) {
+        int position = 1;
+        for (JobAdmissionTicket ticket : queue) {
+            if (ticket.getTicketId().equals(ticketId)) {
+                return position;
+            }
+            position++;
+        }
+        return null;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        String ticketId = jobExecution.getJobParameters().getString(TICKET_PARAMETER);
+        if (ticketId != null && release(ticketId)) {
+            dispatch(null);
+        }
+    }
+
+    /**
+     * 한도 안에서 대기 요청 실행
+     *
+     * @param submitted 실행 실패를 호출자에게 돌려줄 요청 (없으면 null)
+     * @return submitted 요청의 실행 실패 예외
+     */
+    private RuntimeException dispatch(JobAdmissionTicket submitted) {
+        RuntimeException failure = null;
+        JobAdmissionTicket next;
+        while ((next = takeNext()) != null) {
+            try {
+                JobExecution execution = asyncJobLauncher.run(next.getJob(), next.getJobParameters());
+                next.setExecutionId(execution.getId());
+                log.info("Job {} admitted: ticket={}, execution={}, waited={}ms",
+                        next.getJobName(), next.getTicketId(), execution.getId(), next.getWaitTime().toMillis());
+                if (!execution.isRunning()) {
+                    // TaskExecutor 거절 등으로 Job이 실행되지 않아 afterJob이 호출되지 않는 경우
+                    release(next.getTicketId());
+                }
+            } catch (Exception e) {
+                release(next.getTicketId());
+                log.error("Failed to launch admitted job {}: ticket={}", next.getJobName(), next.getTicketId(), e);
+                if (next == submitted) {
+                    failure = new BatchJobException(ErrorCode.BATCH_JOB_FAILED, next.getJobName(), e);
+                }
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * 실행 가능한 가장 앞선 요청을 꺼내 실행 수에 반영
+     * - Job별 한도에 걸린 요청은 건너뛰고 다음 요청을 확인
+     */
+    private synchronized JobAdmissionTicket takeNext() {
+        if (running >= batchProperties.getAdmission().getMaxConcurrentJobs()) {
+            return null;
+        }
+        for (JobAdmissionTicket ticket : queue) {
+            if (hasCapacity(ticket.getJobName())) {
+                queue.remove(ticket);
+                ticket.setStartedAt(LocalDateTime.now());
+                running++;
+                runningByJob.merge(ticket.getJobName(), 1, Integer::sum);
+                return ticket;
+            }
+        }
+        return null;
+    }
+
+    private synchronized boolean release(String ticketId) {
+        JobAdmissionTicket ticket = tickets.remove(ticketId);
+        if (ticket == null || !ticket.isStarted()) {
+            return false;
+        }
+        running--;
+        runningByJob.computeIfPresent(ticket.getJobName(), (name, count) -> count > 1 ? count - 1 : null);
+        return true;
+    }
+
+    private boolean hasCapacity(String jobName) {
+        BatchProperties.Admission properties = batchProperties.getAdmission();
+        return running < properties.getMaxConcurrentJobs()
+                && runningByJob.getOrDefault(jobName, 0) < properties.getJobLimit(jobName);
+    }
+}
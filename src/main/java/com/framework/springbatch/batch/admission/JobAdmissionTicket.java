@@ -0,0 +1,96 @@
+package com.framework.springbatch.batch.admission;
+
+import com.framework.springbatch.batch.config.BatchProperties.JobPriority;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 비동기 Job 실행 요청 (대기열 항목)
+ * - 우선순위(HIGH -> LOW) 다음 요청 순서(sequence)로 정렬
+ */
+public class JobAdmissionTicket {
+
+    static final Comparator<JobAdmissionTicket> ORDER = Comparator
+            .comparing(JobAdmissionTicket::getPriority)
+            .thenComparingLong(JobAdmissionTicket::getSequence);
+
+    private final String ticketId;
+    private final Job job;
+    private final JobParameters jobParameters;
+    private final JobPriority priority;
+    private final long sequence;
+    private final LocalDateTime queuedAt = LocalDateTime.now();
+
+    private volatile LocalDateTime startedAt;
+    private volatile Long executionId;
+
+    JobAdmissionTicket(String ticketId, Job job, JobParameters jobParameters, JobPriority priority, long sequence) {
+        this.ticketId = ticketId;
+        this.job = job;
+        this.jobParameters = jobParameters;
+        this.priority = priority;
+        this.sequence = sequence;
+    }
+
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    public String getJobName() {
+        return job.getName();
+    }
+
+    Job getJob() {
+        return job;
+    }
+
+    JobParameters getJobParameters() {
+        return jobParameters;
+    }
+
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    public LocalDateTime getQueuedAt() {
+        return queuedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * 실행 시작 후 JobExecution ID (대기 중이면 null)
+     */
+    public Long getExecutionId() {
+        return executionId;
+    }
+
+    void setExecutionId(Long executionId) {
+        this.executionId = executionId;
+    }
+
+    public boolean isStarted() {
+        return startedAt != null;
+    }
+
+    /**
+     * 대기 시간 (실행 시작 전이면 현재까지)
+     */
+    public Duration getWaitTime() {
+        return Duration.between(queuedAt, startedAt != null ? startedAt : LocalDateTime.now());
+    }
+}
@@ -0,0 +1,24 @@
+package com.framework.springbatch.batch.chunk;
+
+/**
+ * 원격 청크 요청
+ *
+ * @param chunkId        청크 식별자 (매니저 StepExecution ID + 순번, 재시도 시 동일)
+ * @param replyTo        응답 채널
+ * @param jobExecutionId 매니저 JobExecution ID
+ * @param sequence       청크 순번
+ * @param attempt        전송 회차 (1부터)
+ * @param payload        항목 목록 JSON
+ * @param deliveryId     전송 계층 메시지 ID (수신 시 채워짐, ACK용)
+ */
+public record ChunkRequest(String chunkId, String replyTo, long jobExecutionId, int sequence,
+                           int attempt, String payload, String deliveryId) {
+
+    public ChunkRequest withAttempt(int newAttempt) {
+        return new ChunkRequest(chunkId, replyTo, jobExecutionId, sequence, newAttempt, payload, null);
+    }
+
+    public ChunkRequest withDeliveryId(String newDeliveryId) {
+        return new ChunkRequest(chunkId, replyTo, jobExecutionId, sequence, attempt, payload, newDeliveryId);
+    }
+}
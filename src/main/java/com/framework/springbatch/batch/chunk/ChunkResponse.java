@@ -0,0 +1,23 @@
+package com.framework.springbatch.batch.chunk;
+
+/**
+ * 원격 청크 응답
+ *
+ * @param chunkId     청크 식별자
+ * @param attempt     처리한 요청 회차
+ * @param successful  처리 성공 여부 (실패 시 워커 트랜잭션은 롤백됨)
+ * @param writeCount  적재 건수
+ * @param filterCount Processor가 걸러낸 건수
+ * @param message     실패 사유
+ */
+public record ChunkResponse(String chunkId, int attempt, boolean successful,
+                            int writeCount, int filterCount, String message) {
+
+    public static ChunkResponse success(ChunkRequest request, int writeCount, int filterCount) {
+        return new ChunkResponse(request.chunkId(), request.attempt(), true, writeCount, filterCount, null);
+    }
+
+    public static ChunkResponse failure(ChunkRequest request, String message) {
+        return new ChunkResponse(request.chunkId(), request.attempt(), false, 0, 0, message);
+    }
+}
@@ -0,0 +1,45 @@
+package com.framework.springbatch.batch.chunk;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 원격 청크 전송 계층
+ * - 요청 채널: 매니저가 청크를 발행하고 워커 그룹이 나누어 수신 (한 요청은 한 워커만 처리)
+ * - 응답 채널: 매니저 StepExecution별 채널로 워커가 처리 결과를 회신
+ *
+ * 구현체: RedisStreamChunkTransport(Redis Streams + Consumer Group), InMemoryChunkTransport(JVM 내부, 로컬/테스트용)
+ */
+public interface ChunkTransport {
+
+    /**
+     * 청크 요청 발행
+     */
+    void send(String channel, ChunkRequest request);
+
+    /**
+     * 청크 요청 수신 (워커, 최대 timeout 대기)
+     * - ACK 전에 워커가 죽은 요청은 일정 시간 후 다른 워커에 다시 전달
+     */
+    List<ChunkRequest> receive(String channel, String consumer, int maxCount, Duration timeout);
+
+    /**
+     * 요청 처리 완료 확인 (회신 후 호출)
+     */
+    void acknowledge(String channel, ChunkRequest request);
+
+    /**
+     * 처리 결과 회신
+     */
+    void reply(String replyTo, ChunkResponse response);
+
+    /**
+     * 처리 결과 수신 (매니저, 최대 timeout 대기)
+     */
+    List<ChunkResponse> receiveReplies(String replyTo, Duration timeout);
+
+    /**
+     * 응답 채널 정리 (매니저 Step 종료 시)
+     */
+    void release(String replyTo);
+}
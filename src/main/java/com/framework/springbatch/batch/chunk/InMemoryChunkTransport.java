@@ -0,0 +1,73 @@
+package com.framework.springbatch.batch.chunk;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM 내부 청크 전송 계층
+ * - 채널별 BlockingQueue로 매니저와 워커 스레드를 연결 (로컬 실행, 테스트용)
+ * - 워커와 매니저가 같은 프로세스이므로 ACK/재전달이 필요 없음
+ */
+public class InMemoryChunkTransport implements ChunkTransport {
+
+    private final Map<String, BlockingQueue<ChunkRequest>> requests = new ConcurrentHashMap<>();
+    private final Map<String, BlockingQueue<ChunkResponse>> replies = new ConcurrentHashMap<>();
+
+    @Override
+    public void send(String channel, ChunkRequest request) {
+        requestQueue(channel).add(request);
+    }
+
+    @Override
+    public List<ChunkRequest> receive(String channel, String consumer, int maxCount, Duration timeout) {
+        return drain(requestQueue(channel), maxCount, timeout);
+    }
+
+    @Override
+    public void acknowledge(String channel, ChunkRequest request) {
+    }
+
+    @Override
+    public void reply(String replyTo, ChunkResponse response) {
+        replyQueue(replyTo).add(response);
+    }
+
+    @Override
+    public List<ChunkResponse> receiveReplies(String replyTo, Duration timeout) {
+        return drain(replyQueue(replyTo), Integer.MAX_VALUE, timeout);
+    }
+
+    @Override
+    public void release(String replyTo) {
+        replies.remove(replyTo);
+    }
+
+    private BlockingQueue<ChunkRequest> requestQueue(String channel) {
+        return requests.computeIfAbsent(channel, key -> new LinkedBlockingQueue<>());
+    }
+
+    private BlockingQueue<ChunkResponse> replyQueue(String replyTo) {
+        return replies.computeIfAbsent(replyTo, key -> new LinkedBlockingQueue<>());
+    }
+
+    private static <T> List<T> drain(BlockingQueue<T> queue, int maxCount, Duration timeout) {
+        List<T> result = new ArrayList<>();
+        try {
+            T first = timeout.isZero() ? queue.poll() : queue.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return result;
+            }
+            result.add(first);
+            queue.drainTo(result, maxCount - 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}
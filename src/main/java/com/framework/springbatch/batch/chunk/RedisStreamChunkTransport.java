@@ -0,0 +1,233 @@
+package com.framework.springbatch.batch.chunk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Streams 기반 청크 전송 계층
+ * - 요청 채널: Stream + Consumer Group (XREADGROUP으로 워커 간 분배, 처리 후 XACK/XDEL)
+ * - 응답 채널: 매니저 StepExecution별 Stream (XREAD로 마지막 ID 이후 조회, Step 종료 시 삭제)
+ * - ACK 전에 워커가 죽어 reclaimIdle 이상 대기 중인 요청은 다른 워커가 XCLAIM으로 가져감
+ *
+ * 기존 RedisConfig의 Lettuce 연결(StringRedisTemplate)을 사용한다.
+ */
+@Slf4j
+public class RedisStreamChunkTransport implements ChunkTransport {
+
+    private static final String CHUNK_ID = "chunkId";
+    private static final String REPLY_TO = "replyTo";
+    private static final String JOB_EXECUTION_ID = "jobExecutionId";
+    private static final String SEQUENCE = "sequence";
+    private static final String ATTEMPT = "attempt";
+    private static final String PAYLOAD = "payload";
+    private static final String SUCCESSFUL = "successful";
+    private static final String WRITE_COUNT = "writeCount";
+    private static final String FILTER_COUNT = "filterCount";
+    private static final String MESSAGE = "message";
+
+    private static final Duration REPLY_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final StreamOperations<String, Object, Object> streams;
+    private final String group;
+    private final Duration reclaimIdle;
+
+    private final Set<String> initializedChannels = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> replyOffsets = new ConcurrentHashMap<>();
+
+    public RedisStreamChunkTransport(StringRedisTemplate redisTemplate, String group, Duration reclaimIdle) {
+        this.redisTemplate = redisTemplate;
+        this.streams = redisTemplate.opsForStream();
+        this.group = group;
+        this.reclaimIdle = reclaimIdle;
+    }
+
+    @Override
+    public void send(String channel, ChunkRequest request) {
+        ensureGroup(channel);
+        Map<String, String> fields = new HashMap<>();
+        fields.put(CHUNK_ID, request.chunkId());
+        fields.put(REPLY_TO, request.replyTo());
+        fields.put(JOB_EXECUTION_ID, String.valueOf(request.jobExecutionId()));
+        fields.put(SEQUENCE, String.valueOf(request.sequence()));
+        fields.put(ATTEMPT, String.valueOf(request.attempt()));
+        fields.put(PAYLOAD, request.payload());
+        streams.add(StreamRecords.newRecord().in(channel).ofMap(fields));
+    }
+
+    @Override
+    public List<ChunkRequest> receive(String channel, String consumer, int maxCount, Duration timeout) {
+        ensureGroup(channel);
+
+        List<ChunkRequest> reclaimed = reclaim(channel, consumer, maxCount);
+        if (!reclaimed.isEmpty()) {
+            return reclaimed;
+        }
+
+        StreamReadOptions options = StreamReadOptions.empty().count(maxCount);
+        if (!timeout.isZero()) {
+            options = options.block(timeout);
+        }
+        List<MapRecord<String, Object, Object>> records = streams.read(
+                Consumer.from(group, consumer), options, offsets(StreamOffset.create(channel, ReadOffset.lastConsumed())));
+        return toRequests(records);
+    }
+
+    @Override
+    public void acknowledge(String channel, ChunkRequest request) {
+        RecordId recordId = RecordId.of(request.deliveryId());
+        streams.acknowledge(channel, group, recordId);
+        streams.delete(channel, recordId);
+    }
+
+    @Override
+    public void reply(String replyTo, ChunkResponse response) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(CHUNK_ID, response.chunkId());
+        fields.put(ATTEMPT, String.valueOf(response.attempt()));
+        fields.put(SUCCESSFUL, String.valueOf(response.successful()));
+        fields.put(WRITE_COUNT, String.valueOf(response.writeCount()));
+        fields.put(FILTER_COUNT, String.valueOf(response.filterCount()));
+        fields.put(MESSAGE, response.message() != null ? response.message() : "");
+        streams.add(StreamRecords.newRecord().in(replyTo).ofMap(fields));
+        redisTemplate.expire(replyTo, REPLY_TTL);
+    }
+
+    @Override
+    public List<ChunkResponse> receiveReplies(String replyTo, Duration timeout) {
+        String offset = replyOffsets.getOrDefault(replyTo, "0-0");
+        StreamReadOptions options = StreamReadOptions.empty().count(100);
+        if (!timeout.isZero()) {
+            options = options.block(timeout);
+        }
+        List<MapRecord<String, Object, Object>> records = streams.read(
+                options, offsets(StreamOffset.create(replyTo, ReadOffset.from(offset))));
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<ChunkResponse> responses = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            String message = field(fields, MESSAGE);
+            responses.add(new ChunkResponse(
+                    field(fields, CHUNK_ID),
+                    Integer.parseInt(field(fields, ATTEMPT)),
+                    Boolean.parseBoolean(field(fields, SUCCESSFUL)),
+                    Integer.parseInt(field(fields, WRITE_COUNT)),
+                    Integer.parseInt(field(fields, FILTER_COUNT)),
+                    message == null || message.isEmpty() ? null : message));
+        }
+        replyOffsets.put(replyTo, records.get(records.size() - 1).getId().getValue());
+        return responses;
+    }
+
+    @Override
+    public void release(String replyTo) {
+        replyOffsets.remove(replyTo);
+        redisTemplate.delete(replyTo);
+    }
+
+    /**
+     * ACK 없이 reclaimIdle 이상 방치된 요청을 이 워커로 가져옴 (XPENDING + XCLAIM)
+     */
+    private List<ChunkRequest> reclaim(String channel, String consumer, int maxCount) {
+        PendingMessages pending = streams.pending(channel, group, Range.unbounded(), maxCount);
+        if (pending == null || pending.isEmpty()) {
+            return List.of();
+        }
+
+        List<RecordId> staleIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(reclaimIdle) >= 0) {
+                staleIds.add(message.getId());
+            }
+        }
+        if (staleIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<MapRecord<String, Object, Object>> records = streams.claim(
+                channel, group, consumer, reclaimIdle, staleIds.toArray(new RecordId[0]));
+        if (records != null && !records.isEmpty()) {
+            log.warn("Reclaimed {} stale chunk requests on [{}] for consumer {}", records.size(), channel, consumer);
+        }
+        return toRequests(records);
+    }
+
+    private List<ChunkRequest> toRequests(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        List<ChunkRequest> requests = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            requests.add(new ChunkRequest(
+                    field(fields, CHUNK_ID),
+                    field(fields, REPLY_TO),
+                    Long.parseLong(field(fields, JOB_EXECUTION_ID)),
+                    Integer.parseInt(field(fields, SEQUENCE)),
+                    Integer.parseInt(field(fields, ATTEMPT)),
+                    field(fields, PAYLOAD),
+                    record.getId().getValue()));
+        }
+        return requests;
+    }
+
+    /**
+     * Consumer Group 생성 (Stream이 없으면 MKSTREAM으로 함께 생성)
+     */
+    private void ensureGroup(String channel) {
+        if (initializedChannels.contains(channel)) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<String>) (RedisConnection connection) ->
+                    connection.streamCommands().xGroupCreate(
+                            channel.getBytes(StandardCharsets.UTF_8), group, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        initializedChannels.add(channel);
+    }
+
+    private static String field(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * 단일 Stream 조회 오프셋 (StreamOperations.read는 제네릭 가변 인자만 받으므로 배열을 직접 생성)
+     */
+    @SuppressWarnings("unchecked")
+    private static StreamOffset<String>[] offsets(StreamOffset<String> offset) {
+        return new StreamOffset[]{offset};
+    }
+}
@@ -0,0 +1,195 @@
+package com.framework.springbatch.batch.chunk;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 원격 청크 처리기 (워커)
+ * - 요청 payload(JSON)를 항목 목록으로 복원하여 ItemProcessor -> ItemWriter를 한 트랜잭션으로 실행
+ * - 처리 완료 영수증(BATCH_REMOTE_CHUNK)을 같은 트랜잭션에 기록하여, 재전달된 요청은 다시 적재하지 않고 기존 결과를 회신
+ * - 예외 발생 시 트랜잭션을 롤백하고 실패 응답을 회신 (재전송 여부는 매니저가 결정)
+ * - 매니저 JobExecution이 이미 끝난 요청(실패한 실행의 잔여 요청)은 처리하지 않고 실패 응답만 회신
+ *   (재시작한 실행은 새 chunkId로 같은 항목을 다시 보내므로, 잔여 요청을 처리하면 같은 항목이 두 번 적재됨)
+ *
+ * 상태 확인 직후 매니저가 끝나는 짧은 구간은 남으므로, 항목 단위 중복은 적재 대상의 자연키(UNIQUE)로 막는다.
+ * 영수증(BATCH_REMOTE_CHUNK)은 실행이 끝나면 필요 없으므로 dataCleanupJob이 보관 기간 경과분을 삭제한다.
+ *
+ * 워커에서는 Step이 실행되지 않으므로 StepExecutionListener(beforeStep 등)는 호출되지 않는다.
+ * 매니저 JobExecution 값이 필요한 항목은 resultInitializer로 채운다.
+ */
+@Slf4j
+public class RemoteChunkHandler<I, O> implements InitializingBean {
+
+    private static final String SELECT_RECEIPT_SQL =
+            "SELECT WRITE_COUNT, FILTER_COUNT FROM BATCH_REMOTE_CHUNK WHERE CHUNK_ID = ?";
+
+    private static final String INSERT_RECEIPT_SQL =
+            "INSERT INTO BATCH_REMOTE_CHUNK (CHUNK_ID, JOB_EXECUTION_ID, WRITE_COUNT, FILTER_COUNT) VALUES (?, ?, ?, ?)";
+
+    private String channel;
+    private Class<I> itemType;
+    private ItemProcessor<? super I, ? extends O> itemProcessor;
+    private ItemWriter<? super O> itemWriter;
+    private BiConsumer<ChunkRequest, O> resultInitializer;
+    private ObjectMapper objectMapper;
+    private PlatformTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private JobExplorer jobExplorer;
+
+    private JavaType listType;
+
+    /**
+     * 수신할 요청 채널 (매니저 RemoteChunkItemWriter의 channel과 동일)
+     */
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setItemType(Class<I> itemType) {
+        this.itemType = itemType;
+    }
+
+    public void setItemProcessor(ItemProcessor<? super I, ? extends O> itemProcessor) {
+        this.itemProcessor = itemProcessor;
+    }
+
+    public void setItemWriter(ItemWriter<? super O> itemWriter) {
+        this.itemWriter = itemWriter;
+    }
+
+    /**
+     * 적재 전 처리 결과 보정 (예: 매니저 JobExecution ID 기록)
+     */
+    public void setResultInitializer(BiConsumer<ChunkRequest, O> resultInitializer) {
+        this.resultInitializer = resultInitializer;
+    }
+
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    public void setJdbcTemplate(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 매니저 JobExecution 상태 조회 (메타데이터를 방금 기록한 내용으로 읽는 jobExplorer)
+     */
+    public void setJobExplorer(JobExplorer jobExplorer) {
+        this.jobExplorer = jobExplorer;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.hasText(channel, "channel is required");
+        Assert.notNull(itemType, "itemType is required");
+        Assert.notNull(itemProcessor, "itemProcessor is required");
+        Assert.notNull(itemWriter, "itemWriter is required");
+        Assert.notNull(objectMapper, "objectMapper is required");
+        Assert.notNull(transactionManager, "transactionManager is required");
+        Assert.notNull(jdbcTemplate, "jdbcTemplate is required");
+        Assert.notNull(jobExplorer, "jobExplorer is required");
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, itemType);
+    }
+
+    /**
+     * 청크 요청 처리
+     */
+    public ChunkResponse handle(ChunkRequest request) {
+        ChunkResponse receipt = findReceipt(request);
+        if (receipt != null) {
+            log.info("Chunk {} already processed, replying with previous result", request.chunkId());
+            return receipt;
+        }
+
+        JobExecution jobExecution = jobExplorer.getJobExecution(request.jobExecutionId());
+        if (jobExecution == null || !jobExecution.isRunning()) {
+            log.warn("Chunk {} discarded: JobExecution {} is no longer running ({})", request.chunkId(),
+                    request.jobExecutionId(), jobExecution != null ? jobExecution.getStatus() : "missing");
+            return ChunkResponse.failure(request, "JobExecution " + request.jobExecutionId() + " is not running");
+        }
+
+        TransactionStatus transaction = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try {
+            ChunkResponse response = process(request);
+            jdbcTemplate.update(INSERT_RECEIPT_SQL,
+                    request.chunkId(), request.jobExecutionId(), response.writeCount(), response.filterCount());
+            transactionManager.commit(transaction);
+            return response;
+        } catch (DuplicateKeyException e) {
+            // 동일 요청을 다른 워커가 먼저 커밋
+            rollbackQuietly(transaction);
+            ChunkResponse previous = findReceipt(request);
+            return previous != null ? previous : ChunkResponse.failure(request, e.getMessage());
+        } catch (Exception e) {
+            rollbackQuietly(transaction);
+            log.warn("Chunk {} (attempt {}) failed: {}", request.chunkId(), request.attempt(), e.getMessage());
+            return ChunkResponse.failure(request, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private ChunkResponse process(ChunkRequest request) throws Exception {
+        List<I> items = objectMapper.readValue(request.payload(), listType);
+
+        Chunk<O> outputs = new Chunk<>();
+        int filtered = 0;
+        for (I item : items) {
+            O output = itemProcessor.process(item);
+            if (output == null) {
+                filtered++;
+                continue;
+            }
+            if (resultInitializer != null) {
+                resultInitializer.accept(request, output);
+            }
+            outputs.add(output);
+        }
+
+        if (!outputs.isEmpty()) {
+            itemWriter.write(outputs);
+        }
+        return ChunkResponse.success(request, outputs.size(), filtered);
+    }
+
+    private ChunkResponse findReceipt(ChunkRequest request) {
+        List<ChunkResponse> receipts = jdbcTemplate.query(SELECT_RECEIPT_SQL, (rs, rowNum) ->
+                ChunkResponse.success(request, rs.getInt("WRITE_COUNT"), rs.getInt("FILTER_COUNT")),
+                request.chunkId());
+        return receipts.isEmpty() ? null : receipts.get(0);
+    }
+
+    private void rollbackQuietly(TransactionStatus transaction) {
+        if (transaction.isCompleted()) {
+            return;
+        }
+        try {
+            transactionManager.rollback(transaction);
+        } catch (Exception e) {
+            log.warn("Chunk transaction rollback failed", e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.framework.springbatch.batch.chunk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.WriteFailedException;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 원격 청크 Writer (매니저)
+ * - Step은 Reader만 실행하고, 읽은 청크를 JSON으로 직렬화하여 요청 채널로 발행
+ * - 미응답(in-flight) 청크가 maxInFlight에 도달하면 응답이 올 때까지 읽기를 멈춤 (백프레셔)
+ * - 실패 응답을 받은 청크는 retryLimit까지 같은 chunkId로 재전송하고, 초과하면 Step을 실패 처리
+ * - Step 종료 시 남은 응답을 모두 기다리고 원격 적재/필터 건수를 ExecutionContext에 기록
+ *
+ * 매니저의 청크 커밋은 "발행 완료"를 의미하므로 Reader 위치는 저장하지 않고(saveState=false),
+ * 재시작 시 미처리 조건(PROCESSED = FALSE)으로 다시 조회해야 한다.
+ */
+@Slf4j
+public class RemoteChunkItemWriter<T> implements ItemWriter<T>, StepExecutionListener, InitializingBean {
+
+    public static final String REMOTE_WRITE_COUNT_KEY = "remote.chunk.writeCount";
+    public static final String REMOTE_FILTER_COUNT_KEY = "remote.chunk.filterCount";
+    public static final String REMOTE_RETRY_COUNT_KEY = "remote.chunk.retryCount";
+
+    private ChunkTransport chunkTransport;
+    private ObjectMapper objectMapper;
+    private String channel;
+    private int maxInFlight = 4;
+    private int retryLimit = 3;
+    private Duration responseTimeout = Duration.ofMinutes(5);
+    private Duration pollTimeout = Duration.ofSeconds(1);
+
+    private final Map<String, ChunkRequest> inFlight = new LinkedHashMap<>();
+    private String replyTo;
+    private long jobExecutionId;
+    private long stepExecutionId;
+    private int sequence;
+    private long writeCount;
+    private long filterCount;
+    private long retryCount;
+
+    public void setChunkTransport(ChunkTransport chunkTransport) {
+        this.chunkTransport = chunkTransport;
+    }
+
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 요청 채널 (워커 RemoteChunkHandler의 channel과 동일)
+     */
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * 응답 대기 중인 청크 최대 수
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * 청크별 최대 전송 횟수
+     */
+    public void setRetryLimit(int retryLimit) {
+        this.retryLimit = retryLimit;
+    }
+
+    /**
+     * 응답이 전혀 없을 때 실패로 판단하는 대기 한도
+     */
+    public void setResponseTimeout(Duration responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    public void setPollTimeout(Duration pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(chunkTransport, "chunkTransport is required");
+        Assert.notNull(objectMapper, "objectMapper is required");
+        Assert.hasText(channel, "channel is required");
+        Assert.isTrue(maxInFlight > 0, "maxInFlight must be greater than zero");
+        Assert.isTrue(retryLimit > 0, "retryLimit must be greater than zero");
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        jobExecutionId = stepExecution.getJobExecutionId();
+        stepExecutionId = stepExecution.getId();
+        replyTo = channel + ":replies:" + stepExecutionId;
+        inFlight.clear();
+        sequence = 0;
+        writeCount = 0;
+        filterCount = 0;
+        retryCount = 0;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        collect(Duration.ZERO);
+        while (inFlight.size() >= maxInFlight) {
+            awaitResponses();
+        }
+
+        int current = ++sequence;
+        ChunkRequest request = new ChunkRequest(stepExecutionId + "-" + current, replyTo, jobExecutionId,
+                current, 1, objectMapper.writeValueAsString(chunk.getItems()), null);
+        inFlight.put(request.chunkId(), request);
+        chunkTransport.send(channel, request);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        try {
+            if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+                while (!inFlight.isEmpty()) {
+                    awaitResponses();
+                }
+            } else if (!inFlight.isEmpty()) {
+                log.warn("Step {} ended with {} chunks still in flight", stepExecution.getStepName(), inFlight.size());
+            }
+        } catch (Exception e) {
+            log.error("Remote chunk step {} failed", stepExecution.getStepName(), e);
+            stepExecution.addFailureException(e);
+            stepExecution.setStatus(BatchStatus.FAILED);
+            return ExitStatus.FAILED.addExitDescription(e);
+        } finally {
+            stepExecution.getExecutionContext().putLong(REMOTE_WRITE_COUNT_KEY, writeCount);
+            stepExecution.getExecutionContext().putLong(REMOTE_FILTER_COUNT_KEY, filterCount);
+            stepExecution.getExecutionContext().putLong(REMOTE_RETRY_COUNT_KEY, retryCount);
+            chunkTransport.release(replyTo);
+            log.info("Remote chunk step [{}]: {} chunks sent, {} written, {} filtered, {} retried",
+                    stepExecution.getStepName(), sequence, writeCount, filterCount, retryCount);
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    /**
+     * 응답을 하나 이상 받을 때까지 대기 (responseTimeout 동안 응답이 없으면 실패)
+     */
+    private void awaitResponses() {
+        long deadline = System.nanoTime() + responseTimeout.toNanos();
+        while (collect(pollTimeout) == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new WriteFailedException("No response for " + inFlight.size()
+                        + " in-flight chunks on " + channel + " within " + responseTimeout);
+            }
+        }
+    }
+
+    /**
+     * 도착한 응답 처리
+     *
+     * @return 처리한 응답 수
+     */
+    private int collect(Duration timeout) {
+        int handled = 0;
+        for (ChunkResponse response : chunkTransport.receiveReplies(replyTo, timeout)) {
+            ChunkRequest request = inFlight.get(response.chunkId());
+            if (request == null || request.attempt() != response.attempt()) {
+                // 재전달로 인한 중복 응답 또는 이전 회차 응답
+                continue;
+            }
+            handled++;
+
+            if (response.successful()) {
+                inFlight.remove(response.chunkId());
+                writeCount += response.writeCount();
+                filterCount += response.filterCount();
+                continue;
+            }
+
+            if (request.attempt() >= retryLimit) {
+                inFlight.remove(response.chunkId());
+                throw new WriteFailedException("Chunk " + response.chunkId() + " failed after "
+                        + request.attempt() + " attempts: " + response.message());
+            }
+
+            ChunkRequest retry = request.withAttempt(request.attempt() + 1);
+            log.warn("Chunk {} failed (attempt {}), resending: {}",
+                    response.chunkId(), request.attempt(), response.message());
+            inFlight.put(retry.chunkId(), retry);
+            chunkTransport.send(channel, retry);
+            retryCount++;
+        }
+        return handled;
+    }
+}
@@ -0,0 +1,100 @@
+package com.framework.springbatch.batch.chunk;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원격 청크 워커
+ * - 등록된 RemoteChunkHandler마다 workerConcurrency개 스레드로 요청 채널을 수신
+ * - 요청 처리 -> 결과 회신 -> ACK 순서로 진행 (회신 전에 죽으면 전송 계층이 다른 워커에 재전달)
+ * - batch.remote-chunk.worker=false 이면 이 노드는 매니저 역할만 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RemoteChunkWorker implements SmartLifecycle {
+
+    private final ObjectProvider<RemoteChunkHandler<?, ?>> handlers;
+    private final ChunkTransport chunkTransport;
+    private final BatchProperties batchProperties;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        BatchProperties.RemoteChunk properties = batchProperties.getRemoteChunk();
+        running = true;
+        if (!properties.isWorker()) {
+            return;
+        }
+
+        String node = ManagementFactory.getRuntimeMXBean().getName();
+        Duration pollTimeout = Duration.ofMillis(properties.getPollTimeout());
+        handlers.orderedStream().forEach(handler -> {
+            for (int i = 0; i < properties.getWorkerConcurrency(); i++) {
+                String consumer = node + "-" + i;
+                Thread thread = new Thread(() -> consume(handler, consumer, pollTimeout),
+                        "remote-chunk-" + handler.getChannel() + "-" + i);
+                thread.setDaemon(true);
+                thread.start();
+                threads.add(thread);
+            }
+            log.info("Remote chunk worker started: channel={}, consumers={}",
+                    handler.getChannel(), properties.getWorkerConcurrency());
+        });
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(batchProperties.getRemoteChunk().getPollTimeout() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume(RemoteChunkHandler<?, ?> handler, String consumer, Duration pollTimeout) {
+        String channel = handler.getChannel();
+        while (running) {
+            try {
+                for (ChunkRequest request : chunkTransport.receive(channel, consumer, 1, pollTimeout)) {
+                    ChunkResponse response = handler.handle(request);
+                    chunkTransport.reply(request.replyTo(), response);
+                    chunkTransport.acknowledge(channel, request);
+                }
+            } catch (Exception e) {
+                log.error("Remote chunk worker [{}] on channel {} failed", consumer, channel, e);
+                sleep(pollTimeout);
+            }
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
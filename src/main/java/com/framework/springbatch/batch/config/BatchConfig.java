@@ -1,71 +1,77 @@
 package com.framework.springbatch.batch.config;
 
+import com.framework.springbatch.batch.executor.ConnectionBudget;
+import com.framework.springbatch.batch.executor.SemaphoreTaskExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
 import org.springframework.batch.core.configuration.JobRegistry;
-import org.springframework.batch.core.configuration.support.ReferenceJobFactory;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.launch.support.SimpleJobOperator;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.beans.BeansException;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import jakarta.annotation.PostConstruct;
+import javax.sql.DataSource;
 
 /**
  * ═══════════════════════════════════════════════════════════════════════════════
  * Spring Batch 핵심 설정
  * ═══════════════════════════════════════════════════════════════════════════════
+ *
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상이면 비동기 Launcher, 청크, 파티션 Executor를
+ * 가상 스레드로 전환하고, 동시성은 스레드 수 대신 커넥션 예산(ConnectionBudget) permit으로 제한한다.
+ * (Tomcat 요청 처리 스레드는 Spring Boot가 같은 설정으로 가상 스레드로 전환)
+ *
+ * 청크/파티션 워커의 커넥션 예산 적용은 Step 단위로 ConnectionBudgetCoordinator가 담당한다.
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
-public class BatchConfig implements ApplicationContextAware {
+public class BatchConfig {
 
     private final JobRepository jobRepository;
     private final JobExplorer jobExplorer;
     private final JobRegistry jobRegistry;
-    private ApplicationContext applicationContext;
-
-    @Override
-    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
-        this.applicationContext = applicationContext;
-    }
+    private final BatchProperties batchProperties;
+    private final DataSource dataSource;
+    private final Environment environment;
 
     /**
-     * 모든 Job Bean을 JobRegistry에 등록
+     * 배치 커넥션 예산
+     * - 워커 동시성 한도 (커넥션 풀 최대 크기 - 예약 커넥션 - Job permit)
      */
-    @PostConstruct
-    public void registerJobs() {
-        applicationContext.getBeansOfType(Job.class).forEach((name, job) -> {
-            try {
-                jobRegistry.register(new ReferenceJobFactory(job));
-                log.info("Registered job: {}", job.getName());
-            } catch (Exception e) {
-                log.warn("Failed to register job: {}", job.getName(), e);
-            }
-        });
+    @Bean
+    public ConnectionBudget connectionBudget() {
+        return ConnectionBudget.of(dataSource,
+                batchProperties.getConnections().getReservedConnections(),
+                batchProperties.getVirtualThreads().getJobPermits());
     }
 
     /**
      * 비동기 Job Launcher
      * - 배치 작업을 비동기로 실행
+     * - 커넥션 예산 적용 시(가상 스레드 실행은 항상) Job permit을 얻은 뒤 실행 (대기 중인 Job은 STARTING 상태 유지)
      */
     @Bean
     public JobLauncher asyncJobLauncher() throws Exception {
+        TaskExecutor taskExecutor = isVirtualThreads()
+                ? virtualThreadExecutor("async-batch-")
+                : new SimpleAsyncTaskExecutor("async-batch-");
+        if (batchProperties.getConnections().isEnabled() || isVirtualThreads()) {
+            taskExecutor = new SemaphoreTaskExecutor(taskExecutor, connectionBudget().getJobPermits());
+        }
+
         TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
         jobLauncher.setJobRepository(jobRepository);
-        jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("async-batch-"));
+        jobLauncher.setTaskExecutor(taskExecutor);
         jobLauncher.afterPropertiesSet();
         return jobLauncher;
     }
@@ -87,13 +93,20 @@ public class BatchConfig implements ApplicationContextAware {
 
     /**
      * Chunk 처리용 TaskExecutor
-     * - 병렬 청크 처리를 위한 스레드 풀
+     * - 병렬 청크 처리를 위한 스레드 풀 (MULTI_THREADED 실행 방식)
+     * - 큐가 찬 뒤에야 core 이상 스레드를 만들므로 core를 throttleLimit 이상으로 유지
+     * - 가상 스레드 실행 시 스레드 수 제한 없음 (Step별 워커 permit으로 제한)
      */
     @Bean(name = "batchTaskExecutor")
     public TaskExecutor batchTaskExecutor() {
+        if (isVirtualThreads()) {
+            return virtualThreadExecutor("batch-chunk-");
+        }
+
+        int throttleLimit = batchProperties.getThrottleLimit();
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(8);
+        executor.setCorePoolSize(Math.max(4, throttleLimit));
+        executor.setMaxPoolSize(Math.max(8, throttleLimit));
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("batch-chunk-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -105,9 +118,14 @@ public class BatchConfig implements ApplicationContextAware {
     /**
      * Partitioner용 TaskExecutor
      * - 파티셔닝 병렬 처리를 위한 스레드 풀
+     * - 가상 스레드 실행 시 스레드 수 제한 없음 (Step별 워커 permit으로 제한)
      */
     @Bean(name = "partitionTaskExecutor")
     public TaskExecutor partitionTaskExecutor() {
+        if (isVirtualThreads()) {
+            return virtualThreadExecutor("partition-");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(16);
@@ -118,4 +136,30 @@ public class BatchConfig implements ApplicationContextAware {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 선행 조회(PrefetchingItemReader)용 TaskExecutor
+     * - Reader가 열려 있는 동안 조회 작업 1개가 스레드를 점유하므로 대기열 없이 작업마다 스레드 생성
+     *   (풀 대기열에 들어가면 Reader가 첫 묶음을 기다리며 멈춤)
+     * - 가상 스레드 실행 시 가상 스레드 사용
+     */
+    @Bean(name = "prefetchTaskExecutor")
+    public TaskExecutor prefetchTaskExecutor() {
+        if (isVirtualThreads()) {
+            return virtualThreadExecutor("prefetch-");
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("prefetch-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    private boolean isVirtualThreads() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
@@ -0,0 +1,141 @@
+package com.framework.springbatch.batch.config;
+
+import org.springframework.batch.core.configuration.BatchConfigurationException;
+import org.springframework.batch.core.configuration.support.DefaultBatchConfiguration;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.batch.BatchDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.batch.JobLauncherApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Spring Batch 인프라 설정 (JobRepository, JobExplorer)
+ * - JobRepository 메타데이터는 기본적으로 업무 dataSource + transactionManager 공유
+ *   (batch.datasource.meta.enabled=true 이면 batchMetaDataSource + batchMetaTransactionManager 사용)
+ * - REST API 조회용 webJobExplorer는 webDataSource 사용
+ * - Spring Boot Batch 자동 설정을 대신하므로 spring.batch.jdbc.*(스키마 초기화, 테이블 접두어, 격리 수준)와
+ *   spring.batch.job.*(기동 시 실행)을 직접 적용
+ * - Job Bean은 상속한 jobRegistryBeanPostProcessor가 JobRegistry에 등록
+ *
+ * jobRegistryBeanPostProcessor는 BeanPostProcessor라 이 설정 클래스도 기동 초기에 생성된다.
+ * 이때 DataSource/트랜잭션 매니저(EntityManagerFactory)까지 함께 만들어지면 다른 BeanPostProcessor의
+ * 처리를 받지 못하므로, 생성자에서는 ObjectProvider만 받고 JobRepository 생성 시점에 조회한다.
+ *
+ * 공유하면 청크의 업무 데이터 쓰기와 체크포인트(ExecutionContext, StepExecution 갱신)가 한 트랜잭션으로 커밋된다.
+ * 메타데이터 풀을 분리하면 TaskletStep이 청크 콜백 안에서 체크포인트를 메타데이터 트랜잭션으로 먼저 커밋하고
+ * 업무 트랜잭션은 그 뒤에 커밋하므로 원자성이 깨진다.
+ * - 두 커밋 사이에 장애가 나면 체크포인트(예: Reader의 마지막 키)는 이미 적재되지 않은 행 뒤로 넘어가 있어
+ *   재시작 시 그 행들을 건너뛴다 (재처리가 아니라 누락).
+ * - 업무 커밋이 실패하면 메모리의 StepExecution 버전만 되돌아가 DB와 어긋나므로
+ *   다음 JobRepository 갱신이 낙관적 잠금 오류로 실패하고 Step이 UNKNOWN 상태가 된다.
+ * 따라서 분리는 Reader 위치를 저장하지 않고 미처리 조건으로 다시 조회하며 Writer가 멱등인 Job에서만 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(org.springframework.boot.autoconfigure.batch.BatchProperties.class)
+public class BatchInfrastructureConfig extends DefaultBatchConfiguration {
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final ObjectProvider<DataSource> batchMetaDataSource;
+    private final ObjectProvider<PlatformTransactionManager> batchMetaTransactionManager;
+    private final org.springframework.boot.autoconfigure.batch.BatchProperties properties;
+
+    public BatchInfrastructureConfig(ObjectProvider<DataSource> dataSource,
+                                     ObjectProvider<PlatformTransactionManager> transactionManager,
+                                     @Qualifier("batchMetaDataSource") ObjectProvider<DataSource> batchMetaDataSource,
+                                     @Qualifier("batchMetaTransactionManager")
+                                     ObjectProvider<PlatformTransactionManager> batchMetaTransactionManager,
+                                     org.springframework.boot.autoconfigure.batch.BatchProperties properties) {
+        this.dataSource = dataSource;
+        this.transactionManager = transactionManager;
+        this.batchMetaDataSource = batchMetaDataSource;
+        this.batchMetaTransactionManager = batchMetaTransactionManager;
+        this.properties = properties;
+    }
+
+    @Override
+    protected DataSource getDataSource() {
+        return batchMetaDataSource.getIfAvailable(dataSource::getObject);
+    }
+
+    @Override
+    protected PlatformTransactionManager getTransactionManager() {
+        return batchMetaTransactionManager.getIfAvailable(transactionManager::getObject);
+    }
+
+    @Override
+    protected String getTablePrefix() {
+        String tablePrefix = properties.getJdbc().getTablePrefix();
+        return tablePrefix != null ? tablePrefix : super.getTablePrefix();
+    }
+
+    @Override
+    protected Isolation getIsolationLevelForCreate() {
+        Isolation isolation = properties.getJdbc().getIsolationLevelForCreate();
+        return isolation != null ? isolation : super.getIsolationLevelForCreate();
+    }
+
+    /**
+     * Job 실행 이력 조회 (Job 실행 경로, 메타데이터 풀)
+     */
+    @Bean
+    @Primary
+    @Override
+    public JobExplorer jobExplorer() throws BatchConfigurationException {
+        return super.jobExplorer();
+    }
+
+    /**
+     * REST API용 Job 실행 이력 조회 (webDataSource)
+     * - API 조회 폭주가 Job의 메타데이터 갱신 커넥션을 빼앗지 않도록 별도 풀 사용
+     */
+    @Bean
+    public JobExplorer webJobExplorer(@Qualifier("webDataSource") DataSource webDataSource,
+                                      @Qualifier("webTransactionManager") PlatformTransactionManager webTransactionManager)
+            throws Exception {
+        JobExplorerFactoryBean factoryBean = new JobExplorerFactoryBean();
+        factoryBean.setDataSource(webDataSource);
+        factoryBean.setTransactionManager(webTransactionManager);
+        factoryBean.setTablePrefix(getTablePrefix());
+        factoryBean.setSerializer(getExecutionContextSerializer());
+        factoryBean.setConversionService(getConversionService());
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    /**
+     * 메타데이터 스키마 초기화 (spring.batch.jdbc.initialize-schema)
+     */
+    @Bean
+    public BatchDataSourceScriptDatabaseInitializer batchDataSourceInitializer() {
+        return new BatchDataSourceScriptDatabaseInitializer(getDataSource(), properties.getJdbc());
+    }
+
+    /**
+     * 기동 시 Job 실행 (spring.batch.job.enabled, 기본 설정은 비활성화)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.batch.job", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public JobLauncherApplicationRunner jobLauncherApplicationRunner(JobLauncher jobLauncher, JobExplorer jobExplorer,
+                                                                     JobRepository jobRepository) {
+        JobLauncherApplicationRunner runner = new JobLauncherApplicationRunner(jobLauncher, jobExplorer, jobRepository);
+        String jobName = properties.getJob().getName();
+        if (StringUtils.hasText(jobName)) {
+            runner.setJobName(jobName);
+        }
+        return runner;
+    }
+}
@@ -5,6 +5,11 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 배치 프레임워크 속성
  */
@@ -24,6 +29,16 @@ public class BatchProperties {
      */
     private int pageSize = 1000;
 
+    /**
+     * 페치 사이즈 (Cursor Reader용)
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Reader 선행 조회 깊이 (청크 단위 묶음 수, 0: 미사용)
+     */
+    private int prefetchDepth = 0;
+
     /**
      * 스킵 한도
      */
@@ -44,6 +59,66 @@ public class BatchProperties {
      */
     private int gridSize = 4;
 
+    /**
+     * Reader 설정
+     */
+    private Reader reader = new Reader();
+
+    /**
+     * Writer 설정
+     */
+    private Writer writer = new Writer();
+
+    /**
+     * 파티셔닝 설정
+     */
+    private Partition partition = new Partition();
+
+    /**
+     * 원격 청크 설정
+     */
+    private RemoteChunk remoteChunk = new RemoteChunk();
+
+    /**
+     * Job 실행 방식 설정
+     */
+    private Execution execution = new Execution();
+
+    /**
+     * 커넥션 예산 설정 (워커 동시성을 커넥션 풀 크기에 맞춤)
+     */
+    private Connections connections = new Connections();
+
+    /**
+     * 가상 스레드 실행 설정 (spring.threads.virtual.enabled=true, Java 21 이상에서만 적용)
+     */
+    private VirtualThreads virtualThreads = new VirtualThreads();
+
+    /**
+     * 비동기 Job 실행 승인(대기열) 설정
+     */
+    private Admission admission = new Admission();
+
+    /**
+     * 분할 삭제(Purge) 설정
+     */
+    private Purge purge = new Purge();
+
+    /**
+     * 분할 아카이브(Archive) 설정
+     */
+    private Archive archive = new Archive();
+
+    /**
+     * SAMPLE 상태별 통계(SAMPLE_STATISTICS) 설정
+     */
+    private Statistics statistics = new Statistics();
+
+    /**
+     * SAMPLE 근사 프로파일링(스케치) 설정
+     */
+    private Profiling profiling = new Profiling();
+
     /**
      * 분산 락 설정
      */
@@ -54,6 +129,477 @@ public class BatchProperties {
      */
     private Notification notification = new Notification();
 
+    @Getter
+    @Setter
+    public static class Connections {
+        /**
+         * 플랫폼 스레드 실행에서도 커넥션 예산으로 워커 동시성 제한 (가상 스레드 실행은 항상 적용)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 업무 커넥션 풀 중 배치 워커 permit에서 제외할 커넥션 수 (스케줄러, 로그인 등 Step 밖의 사용분)
+         */
+        private int reservedConnections = 2;
+
+        /**
+         * 워커(청크/파티션 작업) 하나가 동시에 쓰는 커넥션 수 기본값
+         * - 청크 트랜잭션 1 + Cursor Reader(MyBatis, StatelessSession)는 1 추가
+         */
+        private int connectionsPerWorker = 1;
+
+        /**
+         * Job별 워커당 커넥션 수 (key: Job 이름)
+         */
+        private Map<String, Integer> jobs = new HashMap<>();
+
+        /**
+         * Job 워커 하나가 쓰는 커넥션 수 조회
+         */
+        public int getConnectionsPerWorker(String jobName) {
+            return jobName != null ? jobs.getOrDefault(jobName, connectionsPerWorker) : connectionsPerWorker;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class VirtualThreads {
+        /**
+         * 동시 실행 Job 수 (0: 배치 커넥션의 1/3, 커넥션 예산 적용 시 플랫폼 스레드 실행에도 적용)
+         */
+        private int jobPermits = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class Execution {
+        /**
+         * Job별 실행 방식 (key: Job 이름, 지정하지 않으면 Job 기본값)
+         */
+        private Map<String, ExecutionMode> jobs = new HashMap<>();
+
+        /**
+         * Job에 적용할 실행 방식 조회
+         */
+        public ExecutionMode getMode(String jobName, ExecutionMode defaultMode) {
+            return jobs.getOrDefault(jobName, defaultMode);
+        }
+    }
+
+    /**
+     * Chunk Step 실행 방식
+     * - SINGLE: 단일 스레드 (Reader 위치 저장, 재시작 시 이어서 처리)
+     * - MULTI_THREADED: batchTaskExecutor에서 청크 병렬 처리 (동기화 Reader, 위치 미저장)
+     * - PARTITIONED: Partitioner로 구간을 나누어 워커 Step 병렬 실행 (파티션별 위치 저장)
+     */
+    public enum ExecutionMode {
+        SINGLE,
+        MULTI_THREADED,
+        PARTITIONED
+    }
+
+    @Getter
+    @Setter
+    public static class Reader {
+        /**
+         * 기본 Reader 유형
+         */
+        private ReaderType type = ReaderType.KEYSET;
+
+        /**
+         * Step별 Reader 유형 (key: Step 이름)
+         */
+        private Map<String, ReaderType> steps = new HashMap<>();
+
+        /**
+         * Step에 적용할 Reader 유형 조회
+         */
+        public ReaderType getType(String stepName) {
+            return steps.getOrDefault(stepName, type);
+        }
+    }
+
+    /**
+     * Reader 유형
+     * - KEYSET: JPA Keyset 페이징 (EntityManager)
+     * - STATELESS: Hibernate StatelessSession + ScrollableResults 스트리밍
+     */
+    public enum ReaderType {
+        KEYSET,
+        STATELESS
+    }
+
+    @Getter
+    @Setter
+    public static class Writer {
+        /**
+         * 기본 Writer 유형
+         */
+        private WriterType type = WriterType.JDBC;
+
+        /**
+         * Step별 Writer 유형 (key: Step 이름)
+         */
+        private Map<String, WriterType> steps = new HashMap<>();
+
+        /**
+         * JDBC 배치 INSERT 단위 (addBatch/executeBatch 1회당 건수, STATELESS는 StatelessSession 배치 크기)
+         */
+        private int jdbcBatchSize = 1000;
+
+        /**
+         * COPY 전송 단위 (bytes)
+         */
+        private int copyFlushThreshold = 64 * 1024;
+
+        /**
+         * UPSERT 자연키 컬럼 (SAMPLE_RESULT, 기동 시 같은 컬럼의 UNIQUE 인덱스를 확인/생성)
+         */
+        private List<String> upsertKeyColumns = new ArrayList<>(List.of("SAMPLE_ID"));
+
+        /**
+         * Step에 적용할 Writer 유형 조회
+         */
+        public WriterType getType(String stepName) {
+            return steps.getOrDefault(stepName, type);
+        }
+    }
+
+    /**
+     * Writer 유형
+     * - JDBC: JDBC 배치 INSERT
+     * - COPY: PostgreSQL COPY (PostgreSQL 이외에는 JDBC 배치로 대체)
+     * - UPSERT: 자연키 기준 멱등 적재 (PostgreSQL ON CONFLICT, H2 MERGE)
+     * - STATELESS: Hibernate StatelessSession INSERT (엔티티 매핑 사용, jdbcBatchSize 단위 JDBC 배치)
+     */
+    public enum WriterType {
+        JDBC,
+        COPY,
+        UPSERT,
+        STATELESS
+    }
+
+    @Getter
+    @Setter
+    public static class Partition {
+        /**
+         * 기본 Partitioner 유형
+         */
+        private PartitionerType type = PartitionerType.QUANTILE;
+
+        /**
+         * Job별 Partitioner 유형 (key: Job 이름)
+         */
+        private Map<String, PartitionerType> jobs = new HashMap<>();
+
+        /**
+         * 동적 파티셔닝 작업 단위당 목표 건수 (DYNAMIC)
+         */
+        private int unitSize = 10000;
+
+        /**
+         * 동적 파티셔닝 분할 최소 키 구간 (DYNAMIC)
+         */
+        private long minSplitSize = 1000;
+
+        /**
+         * 유휴 워커의 작업 단위 대기 간격 (밀리초, DYNAMIC)
+         */
+        private long pollInterval = 500;
+
+        /**
+         * 하트비트가 끊긴 작업 단위 회수 기준 (밀리초, DYNAMIC)
+         */
+        private long staleTimeout = 600000;
+
+        /**
+         * 원격 파티셔닝 설정
+         */
+        private Remote remote = new Remote();
+
+        /**
+         * Job에 적용할 Partitioner 유형 조회
+         */
+        public PartitionerType getType(String jobName) {
+            return jobs.getOrDefault(jobName, type);
+        }
+
+        @Getter
+        @Setter
+        public static class Remote {
+            /**
+             * 원격 파티셔닝 사용 여부 (파티션을 DB 큐로 발행하여 모든 노드가 처리)
+             */
+            private boolean enabled = false;
+
+            /**
+             * 이 노드가 파티션 요청을 받아 처리할지 여부
+             */
+            private boolean worker = true;
+
+            /**
+             * 노드당 동시 실행 워커 Step 수
+             */
+            private int workerConcurrency = 4;
+
+            /**
+             * 요청/결과 조회 간격 (밀리초)
+             */
+            private long pollInterval = 1000;
+
+            /**
+             * 하트비트(워커 Step 진행)가 끊긴 요청을 다른 노드가 회수하는 기준 (밀리초, 가장 긴 청크 처리 시간보다 길게)
+             */
+            private long staleTimeout = 300000;
+
+            /**
+             * 매니저의 전체 파티션 완료 대기 한도 (밀리초, 0: 무제한)
+             */
+            private long timeout = 21600000;
+
+            /**
+             * 첫 파티션이 워커에 할당되기까지 매니저 대기 한도 (밀리초, 0: 무제한, 초과 시 Step 실패)
+             */
+            private long claimTimeout = 300000;
+        }
+    }
+
+    /**
+     * Partitioner 유형
+     * - RANGE: [MIN(ID), MAX(ID)] 균등 폭 ID 구간
+     * - QUANTILE: 미처리 행 NTILE 분위수 ID 구간 (건수 균등)
+     * - HASH: MOD(ID, gridSize) 해시 분배
+     * - DATE: CREATED_AT 일자 구간 (누적 건수 기준)
+     * - DYNAMIC: 작업 단위 큐(BATCH_WORK_UNIT) 기반 동적 할당/분할
+     */
+    public enum PartitionerType {
+        RANGE,
+        QUANTILE,
+        HASH,
+        DATE,
+        DYNAMIC
+    }
+
+    @Getter
+    @Setter
+    public static class RemoteChunk {
+        /**
+         * 전송 계층 유형
+         */
+        private ChunkTransportType transport = ChunkTransportType.MEMORY;
+
+        /**
+         * 이 노드가 원격 청크를 받아 처리할지 여부
+         */
+        private boolean worker = true;
+
+        /**
+         * 요청 채널별 워커 스레드 수
+         */
+        private int workerConcurrency = 2;
+
+        /**
+         * 응답 대기 중인 청크 최대 수 (백프레셔)
+         */
+        private int maxInFlight = 4;
+
+        /**
+         * 청크별 최대 전송 횟수
+         */
+        private int retryLimit = 3;
+
+        /**
+         * 응답이 전혀 없을 때 실패로 판단하는 대기 한도 (밀리초)
+         */
+        private long responseTimeout = 300000;
+
+        /**
+         * 요청/응답 수신 대기 시간 (밀리초)
+         */
+        private long pollTimeout = 1000;
+
+        /**
+         * ACK 없이 방치된 요청을 다른 워커가 회수하는 기준 (밀리초, REDIS)
+         */
+        private long reclaimIdle = 60000;
+
+        /**
+         * Redis Streams Consumer Group 이름
+         */
+        private String group = "batch-chunk-workers";
+    }
+
+    /**
+     * 원격 청크 전송 계층 유형
+     * - MEMORY: JVM 내부 큐 (로컬 실행, 테스트)
+     * - REDIS: Redis Streams + Consumer Group (여러 Pod에 분산)
+     */
+    public enum ChunkTransportType {
+        MEMORY,
+        REDIS
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+        /**
+         * 비활성화하면 비동기 요청을 대기 없이 즉시 실행
+         */
+        private boolean enabled = true;
+
+        /**
+         * 노드당 동시 실행 Job 수
+         */
+        private int maxConcurrentJobs = 4;
+
+        /**
+         * Job별 동시 실행 수 기본값
+         */
+        private int defaultJobLimit = 1;
+
+        /**
+         * 대기열 최대 길이 (초과 시 거절)
+         */
+        private int maxQueueSize = 50;
+
+        /**
+         * Job별 동시 실행 수 (key: Job 이름)
+         */
+        private Map<String, Integer> jobLimits = new HashMap<>();
+
+        /**
+         * Job별 기본 우선순위 (key: Job 이름, 요청에 지정하지 않은 경우 적용)
+         */
+        private Map<String, JobPriority> priorities = new HashMap<>();
+
+        public int getJobLimit(String jobName) {
+            return jobLimits.getOrDefault(jobName, defaultJobLimit);
+        }
+
+        public JobPriority getPriority(String jobName) {
+            return priorities.getOrDefault(jobName, JobPriority.NORMAL);
+        }
+    }
+
+    /**
+     * Job 실행 우선순위 (대기열에서 높은 순으로, 같은 우선순위는 요청 순으로 실행)
+     */
+    public enum JobPriority {
+        HIGH,
+        NORMAL,
+        LOW
+    }
+
+    @Getter
+    @Setter
+    public static class Purge {
+        /**
+         * 보관 기간 (일, Job 파라미터 retentionDays로 변경 가능)
+         */
+        private int retentionDays = 30;
+
+        /**
+         * 묶음(트랜잭션) 당 삭제 건수
+         */
+        private int batchSize = 5000;
+
+        /**
+         * 초당 삭제 건수 제한 (0: 제한 없음)
+         */
+        private int rowsPerSecond = 0;
+
+        /**
+         * 첫 실행 시 삭제 조건 컬럼 인덱스 생성
+         */
+        private boolean createIndex = true;
+
+        /**
+         * 파티션 단위 (PostgreSQL Range 파티션 테이블일 때)
+         */
+        private PartitionInterval partitionInterval = PartitionInterval.MONTH;
+
+        /**
+         * 현재 구간 이후 미리 만들어 둘 파티션 수
+         */
+        private int premakePartitions = 3;
+
+        /**
+         * 만료 파티션 분리 시 DETACH PARTITION ... CONCURRENTLY 사용 (PostgreSQL 14 이상)
+         * - DEFAULT 파티션이 있으면 사용할 수 없으므로 일반 DETACH로 분리
+         */
+        private boolean detachConcurrently = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        /**
+         * 묶음(트랜잭션) 당 아카이브 건수
+         */
+        private int batchSize = 1000;
+
+        /**
+         * 초당 아카이브 건수 제한 (0: 제한 없음)
+         */
+        private int rowsPerSecond = 0;
+
+        /**
+         * 첫 실행 시 아카이브 조건(SAMPLE_RESULT.SAMPLE_ID) 인덱스 생성
+         */
+        private boolean createIndex = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Statistics {
+        /**
+         * 상태별 증분 반영 행(슬롯) 수 (동시 청크 커밋 간 같은 행 잠금 대기 분산)
+         */
+        private int slots = 8;
+
+        /**
+         * SAMPLE 전체 집계와 비교하여 보정하는 주기 (ms)
+         */
+        private long reconcileInterval = 3600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Profiling {
+        /**
+         * dataCleanupJob에 근사 프로파일링 Step(sampleProfileStep) 추가
+         */
+        private boolean enabled = false;
+
+        /**
+         * HyperLogLog 레지스터 수 지수 (4 ~ 18, 12: 상대 오차 약 1.6%)
+         */
+        private int hllPrecision = 12;
+
+        /**
+         * KLL 분위수 스케치 k (클수록 정확, 200: 순위 오차 약 0.8%)
+         */
+        private int quantileK = 200;
+
+        /**
+         * 빈도 상위 항목 스케치 카운터 수 (topK보다 충분히 크게)
+         */
+        private int frequentItemsCapacity = 64;
+
+        /**
+         * 저장/로그에 남길 빈도 상위 항목 수
+         */
+        private int topK = 10;
+    }
+
+    /**
+     * 시간 Range 파티션 단위
+     */
+    public enum PartitionInterval {
+        DAY,
+        MONTH
+    }
+
     @Getter
     @Setter
     public static class Lock {
@@ -0,0 +1,38 @@
+package com.framework.springbatch.batch.config;
+
+import com.framework.springbatch.batch.chunk.ChunkTransport;
+import com.framework.springbatch.batch.chunk.InMemoryChunkTransport;
+import com.framework.springbatch.batch.chunk.RedisStreamChunkTransport;
+import com.framework.springbatch.batch.config.BatchProperties.ChunkTransportType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 원격 청크 설정
+ * - batch.remote-chunk.transport에 따라 청크 전송 계층 생성
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RemoteChunkConfig {
+
+    private final BatchProperties batchProperties;
+
+    /**
+     * 청크 전송 계층
+     * - REDIS: 기존 Lettuce 연결 기반 Redis Streams
+     * - MEMORY: JVM 내부 큐
+     */
+    @Bean
+    public ChunkTransport chunkTransport(StringRedisTemplate stringRedisTemplate) {
+        BatchProperties.RemoteChunk properties = batchProperties.getRemoteChunk();
+        if (properties.getTransport() == ChunkTransportType.REDIS) {
+            return new RedisStreamChunkTransport(stringRedisTemplate, properties.getGroup(),
+                    Duration.ofMillis(properties.getReclaimIdle()));
+        }
+        return new InMemoryChunkTransport();
+    }
+}
@@ -1,5 +1,6 @@
 package com.framework.springbatch.batch.controller;
 
+import com.framework.springbatch.batch.dto.BatchJobAdmissionDTO;
 import com.framework.springbatch.batch.dto.BatchJobExecutionDTO;
 import com.framework.springbatch.batch.dto.BatchJobInfoDTO;
 import com.framework.springbatch.batch.dto.BatchJobRunRequest;
@@ -38,19 +39,43 @@ public class BatchJobController {
         return ApiResponse.success(batchJobService.getJobInfo(jobName));
     }
 
-    @Operation(summary = "배치 작업 실행", description = "배치 작업을 실행합니다.")
+    @Operation(summary = "배치 작업 실행",
+            description = "배치 작업을 실행합니다. 비동기 실행이 실행 한도를 넘으면 대기열에 등록됩니다(status: QUEUED).")
     @PostMapping("/run")
     public ApiResponse<BatchJobExecutionDTO> runJob(
             @Valid @RequestBody BatchJobRunRequest request) {
         BatchJobExecutionDTO result;
         if (request.isAsync()) {
-            result = batchJobService.runJobAsync(request.getJobName(), request.getParameters());
+            result = batchJobService.runJobAsync(request.getJobName(), request.getParameters(), request.getPriority());
         } else {
             result = batchJobService.runJob(request.getJobName(), request.getParameters());
         }
+        if (result.getExecutionId() == null) {
+            return ApiResponse.success(result, "배치 작업이 실행 대기열에 등록되었습니다.");
+        }
         return ApiResponse.success(result, "배치 작업이 시작되었습니다.");
     }
 
+    @Operation(summary = "실행 대기열 조회", description = "이 노드에서 실행 중이거나 대기 중인 비동기 실행 요청을 조회합니다.")
+    @GetMapping("/queue")
+    public ApiResponse<List<BatchJobAdmissionDTO>> getAdmissionQueue() {
+        return ApiResponse.success(batchJobService.getAdmissionQueue());
+    }
+
+    @Operation(summary = "실행 대기 요청 조회", description = "대기열 순번과 대기 시간을 조회합니다.")
+    @GetMapping("/queue/{ticketId}")
+    public ApiResponse<BatchJobAdmissionDTO> getAdmission(
+            @Parameter(description = "대기열 티켓 ID") @PathVariable String ticketId) {
+        return ApiResponse.success(batchJobService.getAdmission(ticketId));
+    }
+
+    @Operation(summary = "실행 대기 요청 취소", description = "아직 시작되지 않은 실행 요청을 대기열에서 제거합니다.")
+    @DeleteMapping("/queue/{ticketId}")
+    public ApiResponse<Boolean> cancelAdmission(
+            @Parameter(description = "대기열 티켓 ID") @PathVariable String ticketId) {
+        return ApiResponse.success(batchJobService.cancelAdmission(ticketId), "실행 대기 요청 취소가 처리되었습니다.");
+    }
+
     @Operation(summary = "배치 작업 중지", description = "실행 중인 배치 작업을 중지합니다.")
     @PostMapping("/executions/{executionId}/stop")
     public ApiResponse<Boolean> stopJob(
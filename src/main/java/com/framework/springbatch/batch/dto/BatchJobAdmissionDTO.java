@@ -0,0 +1,38 @@
+package com.framework.springbatch.batch.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 실행 승인(대기열) 정보 DTO
+ */
+@Getter
+@Builder
+public class BatchJobAdmissionDTO {
+
+    private final String ticketId;
+    private final String jobName;
+    private final String priority;
+
+    /**
+     * QUEUED: 대기 중, RUNNING: 실행 시작됨
+     */
+    private final String status;
+
+    /**
+     * 대기열 순번 (1부터, 실행 시작 후 null)
+     */
+    private final Integer position;
+
+    private final LocalDateTime queuedAt;
+    private final LocalDateTime startedAt;
+
+    /**
+     * 대기 시간 (실행 시작 전이면 현재까지)
+     */
+    private final long waitMillis;
+
+    private final Long executionId;
+}
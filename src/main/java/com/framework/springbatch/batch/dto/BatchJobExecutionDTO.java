@@ -27,6 +27,11 @@ public class BatchJobExecutionDTO {
     private final Map<String, String> parameters;
     private final List<StepExecutionDTO> stepExecutions;
 
+    /**
+     * 실행 승인 대기열 정보 (비동기 실행 요청만)
+     */
+    private final BatchJobAdmissionDTO admission;
+
     @Getter
     @Builder
     public static class StepExecutionDTO {
@@ -1,5 +1,6 @@
 package com.framework.springbatch.batch.dto;
 
+import com.framework.springbatch.batch.config.BatchProperties.JobPriority;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
@@ -25,4 +26,9 @@ public class BatchJobRunRequest {
      * 비동기 실행 여부
      */
     private boolean async = false;
+
+    /**
+     * 비동기 실행 우선순위 (HIGH, NORMAL, LOW, 지정하지 않으면 Job 기본값)
+     */
+    private JobPriority priority;
 }
@@ -0,0 +1,31 @@
+package com.framework.springbatch.batch.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * SAMPLE 상태별 통계 DTO (SAMPLE_STATISTICS 슬롯 합계)
+ */
+@Getter
+@Builder
+public class SampleStatisticsDTO {
+
+    private final String status;
+
+    /**
+     * 행 수
+     */
+    private final long count;
+
+    /**
+     * AMOUNT 합계
+     */
+    private final BigDecimal amountSum;
+
+    /**
+     * 처리 완료(PROCESSED = TRUE) 행 수
+     */
+    private final long processedCount;
+}
@@ -0,0 +1,105 @@
+package com.framework.springbatch.batch.executor;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 배치 커넥션 예산
+ * - 커넥션 풀 최대 크기에서 예약분(웹 요청, 스케줄러 등)을 뺀 값을 배치 커넥션으로 사용
+ * - Job 스레드(SINGLE Step, 파티션 마스터, 메타데이터 갱신)도 커넥션을 하나 쓰므로
+ *   워커 permit = 배치 커넥션 - Job permit (Job permit과 워커 permit을 모두 써도 풀을 넘지 않음)
+ * - 워커(청크/파티션 작업)와 Job 실행에 서로 다른 Semaphore를 두어,
+ *   permit을 쥔 Job 스레드가 워커 permit을 기다리며 교착되지 않도록 함
+ *
+ * Cursor Reader(MyBatis, StatelessSession)를 쓰는 Step은 청크 트랜잭션과 별도로 커넥션을 하나 더 점유하므로
+ * batch.connections.jobs.<jobName>=2 로 워커당 permit 수를 늘린다 (ConnectionBudgetCoordinator).
+ */
+@Slf4j
+public class ConnectionBudget {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final int poolSize;
+    private final int workerPermitCount;
+    private final Semaphore workerPermits;
+    private final Semaphore jobPermits;
+
+    /**
+     * @param poolSize            커넥션 풀 최대 크기
+     * @param reservedConnections 배치 작업에서 제외할 커넥션 수
+     * @param jobPermits          동시 실행 Job 수 (0 이하: 배치 커넥션의 1/3)
+     */
+    public ConnectionBudget(int poolSize, int reservedConnections, int jobPermits) {
+        Assert.isTrue(poolSize > 0, "poolSize must be greater than zero");
+        Assert.isTrue(reservedConnections >= 0, "reservedConnections must not be negative");
+
+        int connections = Math.max(1, poolSize - reservedConnections);
+        int jobs = jobPermits > 0 ? jobPermits : Math.max(1, connections / 3);
+        int workers = Math.max(1, connections - jobs);
+        if (jobs + workers > connections) {
+            log.warn("Connection pool {} (reserved {}) is too small for {} job permits and {} worker permits",
+                    poolSize, reservedConnections, jobs, workers);
+        }
+
+        this.poolSize = poolSize;
+        this.workerPermitCount = workers;
+        this.workerPermits = new Semaphore(workers, true);
+        this.jobPermits = new Semaphore(jobs, true);
+    }
+
+    /**
+     * DataSource(Hikari) 최대 풀 크기로 예산 생성
+     */
+    public static ConnectionBudget of(DataSource dataSource, int reservedConnections, int jobPermits) {
+        int poolSize = resolvePoolSize(dataSource);
+        ConnectionBudget budget = new ConnectionBudget(poolSize, reservedConnections, jobPermits);
+        log.info("Batch connection budget: pool={}, workerPermits={}, jobPermits={}",
+                poolSize, budget.workerPermitCount, budget.jobPermits.availablePermits());
+        return budget;
+    }
+
+    private static int resolvePoolSize(DataSource dataSource) {
+        try {
+            if (dataSource instanceof HikariDataSource hikari) {
+                return hikari.getMaximumPoolSize();
+            }
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to unwrap HikariDataSource: {}", e.getMessage());
+        }
+        log.warn("DataSource is not a HikariDataSource, assuming pool size {}", DEFAULT_POOL_SIZE);
+        return DEFAULT_POOL_SIZE;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * 설정된 워커 permit 수 (사용 중인 permit 포함)
+     */
+    public int getWorkerPermitCount() {
+        return workerPermitCount;
+    }
+
+    /**
+     * 청크/파티션 작업용 permit (동시에 커넥션을 쓰는 작업 수)
+     */
+    public Semaphore getWorkerPermits() {
+        return workerPermits;
+    }
+
+    /**
+     * Job 실행용 permit (비동기 Job Launcher, Job 스레드가 쓰는 커넥션)
+     */
+    public Semaphore getJobPermits() {
+        return jobPermits;
+    }
+}
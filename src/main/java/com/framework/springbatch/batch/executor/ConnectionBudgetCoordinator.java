@@ -0,0 +1,103 @@
+package com.framework.springbatch.batch.executor;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 커넥션 예산 기반 워커 동시성 조정
+ * - 청크(MULTI_THREADED)와 파티션 워커가 ConnectionBudget 워커 permit을 Job별 워커당 커넥션 수만큼 얻은 뒤 실행
+ * - 스레드 풀이 커넥션 풀보다 커도 초과 워커는 Hikari connection-timeout 대신 permit을 기다리므로,
+ *   스레드를 늘려도 커넥션 경합으로 느려지거나 타임아웃으로 실패하지 않음
+ * - 가상 스레드 실행은 스레드 수 제한이 없으므로 batch.connections.enabled와 관계없이 항상 적용
+ *
+ * 워커 permit은 노드의 모든 Job이 공유하며, Job 실행 스레드(asyncJobLauncher)는 워커 permit 대신 Job permit을 쥔다
+ * (워커 permit은 Job permit만큼 줄여 두었으므로 Job 스레드 커넥션까지 합쳐도 예산을 넘지 않음).
+ */
+@Component
+public class ConnectionBudgetCoordinator {
+
+    private final ConnectionBudget connectionBudget;
+    private final BatchProperties batchProperties;
+    private final ConnectionWaitMetrics connectionWaitMetrics;
+    private final Environment environment;
+
+    public ConnectionBudgetCoordinator(ConnectionBudget connectionBudget,
+                                       BatchProperties batchProperties,
+                                       ConnectionWaitMetrics connectionWaitMetrics,
+                                       Environment environment,
+                                       MeterRegistry meterRegistry) {
+        this.connectionBudget = connectionBudget;
+        this.batchProperties = batchProperties;
+        this.connectionWaitMetrics = connectionWaitMetrics;
+        this.environment = environment;
+
+        Gauge.builder("batch.connection.permits.available", connectionBudget.getWorkerPermits(), Semaphore::availablePermits)
+                .description("Connection budget permits not held by batch workers")
+                .register(meterRegistry);
+        Gauge.builder("batch.connection.permits.waiting", connectionBudget.getWorkerPermits(), Semaphore::getQueueLength)
+                .description("Batch workers waiting for connection budget permits")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커넥션 예산 적용 여부
+     */
+    public boolean isActive() {
+        return batchProperties.getConnections().isEnabled() || Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Job 워커 하나가 쓰는 커넥션 수 (워커 permit 전체를 넘지 않음)
+     */
+    public int getConnectionsPerWorker(String jobName) {
+        int connections = Math.max(1, batchProperties.getConnections().getConnectionsPerWorker(jobName));
+        return Math.min(connections, connectionBudget.getWorkerPermitCount());
+    }
+
+    /**
+     * 커넥션 예산 안에서 동시에 실행할 수 있는 Job 워커 수
+     */
+    public int getMaxWorkers(String jobName) {
+        return Math.max(1, connectionBudget.getWorkerPermitCount() / getConnectionsPerWorker(jobName));
+    }
+
+    /**
+     * 지금 permit을 바로 얻을 수 있는 워커 수 (기본 워커당 커넥션 수 기준, 예산 미적용 시 제한 없음)
+     */
+    public int getAvailableWorkers() {
+        if (!isActive()) {
+            return Integer.MAX_VALUE;
+        }
+        return connectionBudget.getWorkerPermits().availablePermits() / getConnectionsPerWorker(null);
+    }
+
+    /**
+     * 요청한 동시성(throttleLimit, workerConcurrency 등)을 커넥션 예산에 맞게 제한
+     */
+    public int limitConcurrency(String jobName, int requested) {
+        return isActive() ? Math.min(requested, getMaxWorkers(jobName)) : requested;
+    }
+
+    /**
+     * 워커 permit을 얻은 뒤 작업을 실행하는 Executor
+     *
+     * @param jobName 워커당 커넥션 수 조회용 Job 이름 (null이면 기본값)
+     * @param stage   permit 대기 메트릭 태그 (chunk, partition, remote-partition)
+     */
+    public TaskExecutor workerExecutor(String jobName, String stage, TaskExecutor delegate) {
+        if (!isActive()) {
+            return delegate;
+        }
+        SemaphoreTaskExecutor executor = new SemaphoreTaskExecutor(
+                delegate, connectionBudget.getWorkerPermits(), getConnectionsPerWorker(jobName));
+        executor.setWaitListener(connectionWaitMetrics.permitWaitRecorder(jobName, stage));
+        return executor;
+    }
+}
@@ -0,0 +1,64 @@
+package com.framework.springbatch.batch.executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * 배치 커넥션 대기 메트릭
+ * - batch.connection.acquire (datasource, job, step): Step 스레드에서 커넥션 풀의 커넥션을 얻기까지 걸린 시간
+ * - batch.connection.permit.wait (job, stage): 워커가 커넥션 예산 permit을 얻기까지 걸린 시간
+ *
+ * 파티션 Step 이름(workerStep:partition0)은 파티션 번호를 떼고 워커 Step 이름으로 집계한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionWaitMetrics {
+
+    public static final String ACQUIRE_METRIC = "batch.connection.acquire";
+    public static final String PERMIT_WAIT_METRIC = "batch.connection.permit.wait";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 현재 스레드가 실행 중인 Step 기준으로 커넥션 획득 시간 기록 (Step 밖의 호출은 기록하지 않음)
+     */
+    public void recordAcquire(String dataSourceName, Duration duration) {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return;
+        }
+        Timer.builder(ACQUIRE_METRIC)
+                .description("Time a batch step waited for a pooled connection")
+                .tag("datasource", dataSourceName)
+                .tag("job", context.getJobName())
+                .tag("step", stepTag(context.getStepName()))
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    /**
+     * permit 대기 시간 기록기
+     *
+     * @param stage 워커 종류 (chunk, partition, remote-partition)
+     */
+    public Consumer<Duration> permitWaitRecorder(String jobName, String stage) {
+        Timer timer = Timer.builder(PERMIT_WAIT_METRIC)
+                .description("Time a batch worker waited for a connection budget permit")
+                .tag("job", jobName != null ? jobName : "none")
+                .tag("stage", stage)
+                .register(meterRegistry);
+        return timer::record;
+    }
+
+    private static String stepTag(String stepName) {
+        int separator = stepName.indexOf(':');
+        return separator > 0 ? stepName.substring(0, separator) : stepName;
+    }
+}
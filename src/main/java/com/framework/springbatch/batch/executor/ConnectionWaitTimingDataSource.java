@@ -0,0 +1,61 @@
+package com.framework.springbatch.batch.executor;
+
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 커넥션 획득 시간 측정 DataSource
+ * - Step 스레드의 getConnection() 시간을 ConnectionWaitMetrics에 DataSource Bean 이름, Step별로 기록
+ * - 메트릭 Bean은 첫 Step 실행 시점에 조회하여, 기동 중(JobRepository 생성 등) 커넥션 획득과 순환 참조되지 않도록 함
+ */
+public class ConnectionWaitTimingDataSource extends DelegatingDataSource {
+
+    private final String name;
+    private final ObjectProvider<ConnectionWaitMetrics> connectionWaitMetrics;
+
+    public ConnectionWaitTimingDataSource(DataSource targetDataSource, String name,
+                                          ObjectProvider<ConnectionWaitMetrics> connectionWaitMetrics) {
+        super(targetDataSource);
+        this.name = name;
+        this.connectionWaitMetrics = connectionWaitMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (StepSynchronizationManager.getContext() == null) {
+            return super.getConnection();
+        }
+        long started = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            record(System.nanoTime() - started);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (StepSynchronizationManager.getContext() == null) {
+            return super.getConnection(username, password);
+        }
+        long started = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            record(System.nanoTime() - started);
+        }
+    }
+
+    private void record(long nanos) {
+        ConnectionWaitMetrics metrics = connectionWaitMetrics.getIfAvailable();
+        if (metrics != null) {
+            metrics.recordAcquire(name, Duration.ofNanos(nanos));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.framework.springbatch.batch.executor;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 허가(permit) 기반 동시 실행 제한 TaskExecutor
+ * - 작업마다 스레드를 만드는 delegate(SimpleAsyncTaskExecutor, 가상 스레드)는 작업을 즉시 넘기고
+ *   작업 스레드 안에서 permit을 얻어 제출 스레드(REST 요청 등)를 막지 않음
+ * - 크기가 제한된 스레드 풀 delegate는 제출 스레드에서 permit을 얻은 뒤 넘김
+ *   (풀 스레드가 permit을 기다리며 묶이면 같은 풀을 쓰는 다른 Job의 작업까지 밀림)
+ * - 가상 스레드 delegate와 함께 사용하면 스레드 수가 아니라 permit 수(커넥션 예산)로 동시성이 결정됨
+ * - permitsPerTask로 작업당 permit 수(작업이 동시에 쓰는 커넥션 수)를 지정할 수 있음
+ * - 같은 Semaphore를 여러 Executor가 공유할 수 있으나, permit을 쥔 작업이 같은 Semaphore의 다른 작업을
+ *   기다리는 구조(중첩)에서는 교착될 수 있으므로 단계별로 다른 Semaphore를 사용해야 한다.
+ */
+public class SemaphoreTaskExecutor implements TaskExecutor {
+
+    private final TaskExecutor delegate;
+    private final Semaphore permits;
+    private final int permitsPerTask;
+    private final boolean acquireInTask;
+
+    private Consumer<Duration> waitListener;
+
+    public SemaphoreTaskExecutor(TaskExecutor delegate, Semaphore permits) {
+        this(delegate, permits, 1);
+    }
+
+    public SemaphoreTaskExecutor(TaskExecutor delegate, Semaphore permits, int permitsPerTask) {
+        Assert.notNull(delegate, "delegate is required");
+        Assert.notNull(permits, "permits is required");
+        Assert.isTrue(permitsPerTask > 0, "permitsPerTask must be greater than zero");
+        this.delegate = delegate;
+        this.permits = permits;
+        this.permitsPerTask = permitsPerTask;
+        this.acquireInTask = delegate instanceof SimpleAsyncTaskExecutor simple && !simple.isThrottleActive();
+    }
+
+    /**
+     * permit 대기 시간 수신 (메트릭 기록용, 선택)
+     */
+    public void setWaitListener(Consumer<Duration> waitListener) {
+        this.waitListener = waitListener;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (acquireInTask) {
+            delegate.execute(() -> {
+                acquire();
+                runAndRelease(task);
+            });
+            return;
+        }
+
+        acquire();
+        try {
+            delegate.execute(() -> runAndRelease(task));
+        } catch (RuntimeException e) {
+            permits.release(permitsPerTask);
+            throw e;
+        }
+    }
+
+    private void acquire() {
+        long started = System.nanoTime();
+        try {
+            permits.acquire(permitsPerTask);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an execution permit", e);
+        }
+        if (waitListener != null) {
+            waitListener.accept(Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private void runAndRelease(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            permits.release(permitsPerTask);
+        }
+    }
+
+    /**
+     * 현재 남은 permit 수
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * permit을 기다리는 작업 수 (추정치)
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+}
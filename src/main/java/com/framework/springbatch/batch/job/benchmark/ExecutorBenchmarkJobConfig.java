@@ -0,0 +1,246 @@
+package com.framework.springbatch.batch.job.benchmark;
+
+import com.framework.springbatch.batch.executor.ConnectionBudget;
+import com.framework.springbatch.batch.executor.SemaphoreTaskExecutor;
+import com.framework.springbatch.batch.listener.JobExecutionLogListener;
+import com.framework.springbatch.batch.listener.StepExecutionLogListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Executor 벤치마크 Job 설정
+ * ═══════════════════════════════════════════════════════════════════════════════
+ *
+ * JDBC 조회 + I/O 대기로 구성된 동일 작업을 Executor 유형별로 실행하여 처리량과 메모리 비교
+ * - Step 1: 플랫폼 스레드 풀 (기존 partitionTaskExecutor 방식, 스레드 수로 동시성 제한)
+ * - Step 2: 가상 스레드 + 커넥션 예산 Semaphore (Java 21 미만이면 건너뜀)
+ * - Step 3: 결과 요약
+ *
+ * 측정 항목: 초당 작업 수, 최대 플랫폼 스레드 수, 최대 힙 증가량(가상 스레드 스택은 힙에 저장)
+ * 플랫폼 스레드 스택(-Xss, 기본 1MB)은 힙 밖의 메모리이므로 최대 스레드 수로 함께 판단한다.
+ *
+ * Job Parameter
+ * - tasks: 작업 수 (기본 2000)
+ * - waitMillis: 작업당 I/O 대기(Redis 등 외부 호출 모사) 시간 (기본 20)
+ * - platformThreads: 플랫폼 스레드 풀 크기 (기본 16)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ExecutorBenchmarkJobConfig {
+
+    private static final String TASKS_PER_SECOND_KEY = "benchmark.tasksPerSecond";
+    private static final String PEAK_THREADS_KEY = "benchmark.peakThreads";
+    private static final String PEAK_HEAP_KEY = "benchmark.peakHeapDeltaMb";
+
+    private static final long DEFAULT_TASKS = 2_000L;
+    private static final long DEFAULT_WAIT_MILLIS = 20L;
+    private static final long DEFAULT_PLATFORM_THREADS = 16L;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ConnectionBudget connectionBudget;
+
+    private final JobExecutionLogListener jobExecutionLogListener;
+    private final StepExecutionLogListener stepExecutionLogListener;
+
+    /**
+     * Executor 벤치마크 Job
+     */
+    @Bean
+    public Job executorBenchmarkJob() {
+        return new JobBuilder("executorBenchmarkJob", jobRepository)
+                .listener(jobExecutionLogListener)
+                .start(platformExecutorBenchmarkStep())
+                .next(virtualExecutorBenchmarkStep())
+                .next(executorBenchmarkSummaryStep())
+                .build();
+    }
+
+    @Bean
+    public Step platformExecutorBenchmarkStep() {
+        return new StepBuilder("platformExecutorBenchmarkStep", jobRepository)
+                .tasklet(platformExecutorBenchmarkTasklet(), transactionManager)
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    @Bean
+    public Step virtualExecutorBenchmarkStep() {
+        return new StepBuilder("virtualExecutorBenchmarkStep", jobRepository)
+                .tasklet(virtualExecutorBenchmarkTasklet(), transactionManager)
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    @Bean
+    public Step executorBenchmarkSummaryStep() {
+        return new StepBuilder("executorBenchmarkSummaryStep", jobRepository)
+                .tasklet(executorBenchmarkSummaryTasklet(), transactionManager)
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    /**
+     * 플랫폼 스레드 풀 벤치마크
+     * - platformThreads 개 스레드가 작업을 나누어 실행 (커넥션이 부족하면 Hikari 대기)
+     */
+    @Bean
+    public Tasklet platformExecutorBenchmarkTasklet() {
+        return (contribution, chunkContext) -> {
+            StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+            JobParameters parameters = stepExecution.getJobParameters();
+            int threads = (int) longParameter(parameters, "platformThreads", DEFAULT_PLATFORM_THREADS);
+
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(threads);
+            executor.setMaxPoolSize(threads);
+            executor.setThreadNamePrefix("benchmark-platform-");
+            executor.initialize();
+            try {
+                run(executor, stepExecution);
+            } finally {
+                executor.shutdown();
+            }
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * 가상 스레드 벤치마크
+     * - 작업마다 가상 스레드를 만들고 커넥션 예산과 같은 수의 permit으로 동시성 제한
+     */
+    @Bean
+    public Tasklet virtualExecutorBenchmarkTasklet() {
+        return (contribution, chunkContext) -> {
+            StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+            if (Runtime.version().feature() < 21) {
+                log.warn("Virtual threads require Java 21, running on {}; skipping", Runtime.version());
+                return RepeatStatus.FINISHED;
+            }
+
+            SimpleAsyncTaskExecutor delegate = new SimpleAsyncTaskExecutor("benchmark-virtual-");
+            delegate.setVirtualThreads(true);
+            // 실행 중인 Job과 permit을 다투지 않도록 같은 크기의 별도 Semaphore 사용
+            Semaphore permits = new Semaphore(connectionBudget.getWorkerPermitCount(), true);
+            run(new SemaphoreTaskExecutor(delegate, permits), stepExecution);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * 결과 요약 Tasklet
+     */
+    @Bean
+    public Tasklet executorBenchmarkSummaryTasklet() {
+        return (contribution, chunkContext) -> {
+            StepExecution current = chunkContext.getStepContext().getStepExecution();
+
+            log.info("Executor benchmark results (connection pool {}):", connectionBudget.getPoolSize());
+            current.getJobExecution().getStepExecutions().stream()
+                    .filter(step -> step.getExecutionContext().containsKey(TASKS_PER_SECOND_KEY))
+                    .forEach(step -> {
+                        ExecutionContext context = step.getExecutionContext();
+                        log.info("  {}: {} tasks/sec, peak {} platform threads, peak heap +{} MB",
+                                step.getStepName(),
+                                String.format("%.1f", context.getDouble(TASKS_PER_SECOND_KEY)),
+                                context.getInt(PEAK_THREADS_KEY),
+                                context.getLong(PEAK_HEAP_KEY));
+                    });
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * 작업 실행 및 측정
+     * - 10ms 간격으로 힙 사용량과 플랫폼 스레드 수를 샘플링하여 최대값 기록
+     */
+    private void run(TaskExecutor executor, StepExecution stepExecution) throws InterruptedException {
+        JobParameters parameters = stepExecution.getJobParameters();
+        int tasks = (int) longParameter(parameters, "tasks", DEFAULT_TASKS);
+        long waitMillis = longParameter(parameters, "waitMillis", DEFAULT_WAIT_MILLIS);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        System.gc();
+        long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peakHeap = new AtomicLong(baselineHeap);
+        AtomicInteger peakThreads = new AtomicInteger(threadBean.getThreadCount());
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            peakThreads.accumulateAndGet(threadBean.getThreadCount(), Math::max);
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        CountDownLatch done = new CountDownLatch(tasks);
+        AtomicInteger failures = new AtomicInteger();
+        long started = System.nanoTime();
+        try {
+            for (int i = 0; i < tasks; i++) {
+                long key = i;
+                executor.execute(() -> {
+                    try {
+                        Thread.sleep(waitMillis);
+                        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SAMPLE WHERE ID <= ?", Long.class, key);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } finally {
+            sampler.shutdownNow();
+        }
+
+        double seconds = Math.max(System.nanoTime() - started, 1) / 1_000_000_000d;
+        double tasksPerSecond = tasks / seconds;
+        long peakHeapDeltaMb = (peakHeap.get() - baselineHeap) / (1024 * 1024);
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putDouble(TASKS_PER_SECOND_KEY, tasksPerSecond);
+        context.putInt(PEAK_THREADS_KEY, peakThreads.get());
+        context.putLong(PEAK_HEAP_KEY, peakHeapDeltaMb);
+
+        if (failures.get() > 0) {
+            log.warn("{}: {} of {} tasks failed", stepExecution.getStepName(), failures.get(), tasks);
+        }
+    }
+
+    private long longParameter(JobParameters parameters, String name, long defaultValue) {
+        String value = parameters.getString(name);
+        return value != null && !value.isEmpty() ? Long.parseLong(value) : defaultValue;
+    }
+}
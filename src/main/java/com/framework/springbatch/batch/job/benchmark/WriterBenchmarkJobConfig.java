@@ -0,0 +1,259 @@
+package com.framework.springbatch.batch.job.benchmark;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.WriterType;
+import com.framework.springbatch.batch.listener.JobExecutionLogListener;
+import com.framework.springbatch.batch.listener.StepExecutionLogListener;
+import com.framework.springbatch.batch.writer.SampleResultJdbcItemWriter;
+import com.framework.springbatch.batch.writer.SampleResultWriterFactory;
+import com.framework.springbatch.domain.sample.entity.SampleResult;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.database.JpaItemWriter;
+import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * SAMPLE_RESULT Writer 벤치마크 Job 설정
+ * ═══════════════════════════════════════════════════════════════════════════════
+ *
+ * 동일한 합성 데이터를 Writer 유형별로 적재하여 처리량(rows/sec) 비교
+ * - Step 1: JpaItemWriter (SampleJobConfig 기존 방식)
+ * - Step 2: Hibernate StatelessSession Writer
+ * - Step 3: JDBC 배치 INSERT Writer
+ * - Step 4: PostgreSQL COPY Writer (H2에서는 JDBC 배치로 대체)
+ * - Step 5: 결과 요약 및 남은 벤치마크 데이터 삭제
+ *
+ * Job Parameter
+ * - rows: Step별 적재 건수 (기본 10000, 결과가 없는 SAMPLE 수를 넘지 않음)
+ *
+ * UPSERT 설정 시 SAMPLE_RESULT는 SAMPLE당 1행(UK_SAMPLE_RESULT_NATURAL_KEY)이므로 결과가 없는 SAMPLE만 참조하고,
+ * Step마다 시작 전과 측정 후 벤치마크 행을 삭제하여 다음 Step이 같은 SAMPLE_ID를 다시 쓸 수 있게 한다.
+ * 같은 SAMPLE을 처리하는 Job(sampleJob 등)과 동시에 실행하지 않는다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class WriterBenchmarkJobConfig {
+
+    private static final String ROWS_PER_SECOND_KEY = "benchmark.rowsPerSecond";
+    private static final String DELETE_BENCHMARK_ROWS_SQL = "DELETE FROM SAMPLE_RESULT WHERE RESULT_STATUS = 'BENCHMARK'";
+    private static final long DEFAULT_ROWS = 10_000L;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchProperties batchProperties;
+    private final SampleResultWriterFactory sampleResultWriterFactory;
+
+    private final JobExecutionLogListener jobExecutionLogListener;
+    private final StepExecutionLogListener stepExecutionLogListener;
+
+    /**
+     * Writer 벤치마크 Job
+     */
+    @Bean
+    public Job writerBenchmarkJob() {
+        return new JobBuilder("writerBenchmarkJob", jobRepository)
+                .listener(jobExecutionLogListener)
+                .start(jpaWriterBenchmarkStep())
+                .next(statelessWriterBenchmarkStep())
+                .next(jdbcWriterBenchmarkStep())
+                .next(copyWriterBenchmarkStep())
+                .next(writerBenchmarkSummaryStep())
+                .build();
+    }
+
+    @Bean
+    public Step jpaWriterBenchmarkStep() {
+        return new StepBuilder("jpaWriterBenchmarkStep", jobRepository)
+                .<SampleResult, SampleResult>chunk(batchProperties.getChunkSize(), transactionManager)
+                .reader(benchmarkSampleResultReader(null, null))
+                .writer(jpaBenchmarkWriter())
+                .listener(benchmarkThroughputListener())
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    @Bean
+    public Step statelessWriterBenchmarkStep() {
+        return new StepBuilder("statelessWriterBenchmarkStep", jobRepository)
+                .<SampleResult, SampleResult>chunk(batchProperties.getChunkSize(), transactionManager)
+                .reader(benchmarkSampleResultReader(null, null))
+                .writer(statelessBenchmarkWriter())
+                .listener(benchmarkThroughputListener())
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    @Bean
+    public Step jdbcWriterBenchmarkStep() {
+        return new StepBuilder("jdbcWriterBenchmarkStep", jobRepository)
+                .<SampleResult, SampleResult>chunk(batchProperties.getChunkSize(), transactionManager)
+                .reader(benchmarkSampleResultReader(null, null))
+                .writer(jdbcBenchmarkWriter())
+                .listener(benchmarkThroughputListener())
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    @Bean
+    public Step copyWriterBenchmarkStep() {
+        return new StepBuilder("copyWriterBenchmarkStep", jobRepository)
+                .<SampleResult, SampleResult>chunk(batchProperties.getChunkSize(), transactionManager)
+                .reader(benchmarkSampleResultReader(null, null))
+                .writer(copyBenchmarkWriter())
+                .listener(benchmarkThroughputListener())
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    @Bean
+    public Step writerBenchmarkSummaryStep() {
+        return new StepBuilder("writerBenchmarkSummaryStep", jobRepository)
+                .tasklet(writerBenchmarkSummaryTasklet(), transactionManager)
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    /**
+     * 합성 SampleResult Reader
+     * - 결과가 없는 SAMPLE ID를 1건씩 참조하여 최대 rows 건 생성 (FK, 자연키 UNIQUE 충족)
+     */
+    @Bean
+    @StepScope
+    public ItemReader<SampleResult> benchmarkSampleResultReader(
+            @Value("#{jobParameters['rows']}") String rows,
+            @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId) {
+
+        long total = rows != null && !rows.isEmpty() ? Long.parseLong(rows) : DEFAULT_ROWS;
+        List<Long> sampleIds = jdbcTemplate.queryForList(
+                "SELECT S.ID FROM SAMPLE S WHERE NOT EXISTS (SELECT 1 FROM SAMPLE_RESULT R WHERE R.SAMPLE_ID = S.ID) " +
+                "ORDER BY S.ID LIMIT ?", Long.class, total);
+        if (sampleIds.isEmpty()) {
+            log.warn("No SAMPLE rows without results found, writer benchmark has nothing to reference");
+            return () -> null;
+        }
+        if (sampleIds.size() < total) {
+            log.warn("Only {} SAMPLE rows without results, writer benchmark limited to {} rows",
+                    sampleIds.size(), sampleIds.size());
+        }
+
+        AtomicLong counter = new AtomicLong();
+        return () -> {
+            long index = counter.getAndIncrement();
+            if (index >= sampleIds.size()) {
+                return null;
+            }
+            return SampleResult.builder()
+                    .sampleId(sampleIds.get((int) index))
+                    .jobExecutionId(jobExecutionId)
+                    .resultStatus("BENCHMARK")
+                    .resultMessage("writer benchmark row " + index)
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        };
+    }
+
+    /**
+     * 비교 기준: SampleJobConfig 기존 JPA Writer
+     */
+    @Bean
+    public JpaItemWriter<SampleResult> jpaBenchmarkWriter() {
+        return new JpaItemWriterBuilder<SampleResult>()
+                .entityManagerFactory(entityManagerFactory)
+                .build();
+    }
+
+    /**
+     * JpaItemWriter 대체: StatelessSession INSERT (영속성 컨텍스트 없음, JDBC 배치)
+     */
+    @Bean
+    @StepScope
+    public SampleResultJdbcItemWriter statelessBenchmarkWriter() {
+        return sampleResultWriterFactory.create(WriterType.STATELESS);
+    }
+
+    @Bean
+    @StepScope
+    public SampleResultJdbcItemWriter jdbcBenchmarkWriter() {
+        return sampleResultWriterFactory.create(WriterType.JDBC);
+    }
+
+    @Bean
+    @StepScope
+    public SampleResultJdbcItemWriter copyBenchmarkWriter() {
+        return sampleResultWriterFactory.create(WriterType.COPY);
+    }
+
+    /**
+     * Step 처리량 측정 리스너 (Step 전체 소요 시간 기준)
+     * - 시작 전(이전 실패 실행의 잔여 행)과 측정 후 벤치마크 행 삭제
+     */
+    @Bean
+    public StepExecutionListener benchmarkThroughputListener() {
+        return new StepExecutionListener() {
+            @Override
+            public void beforeStep(StepExecution stepExecution) {
+                jdbcTemplate.update(DELETE_BENCHMARK_ROWS_SQL);
+            }
+
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                Duration duration = Duration.between(stepExecution.getStartTime(), LocalDateTime.now());
+                double seconds = Math.max(duration.toMillis(), 1) / 1000d;
+                double rowsPerSecond = stepExecution.getWriteCount() / seconds;
+                stepExecution.getExecutionContext().putDouble(ROWS_PER_SECOND_KEY, rowsPerSecond);
+                jdbcTemplate.update(DELETE_BENCHMARK_ROWS_SQL);
+                return stepExecution.getExitStatus();
+            }
+        };
+    }
+
+    /**
+     * 결과 요약 및 벤치마크 데이터 삭제 Tasklet
+     */
+    @Bean
+    public Tasklet writerBenchmarkSummaryTasklet() {
+        return (contribution, chunkContext) -> {
+            StepExecution current = chunkContext.getStepContext().getStepExecution();
+
+            log.info("Writer benchmark results:");
+            current.getJobExecution().getStepExecutions().stream()
+                    .filter(step -> step.getExecutionContext().containsKey(ROWS_PER_SECOND_KEY))
+                    .forEach(step -> log.info("  {}: {} rows, {} rows/sec",
+                            step.getStepName(),
+                            step.getWriteCount(),
+                            String.format("%.1f", step.getExecutionContext().getDouble(ROWS_PER_SECOND_KEY))));
+
+            int deleted = jdbcTemplate.update(DELETE_BENCHMARK_ROWS_SQL);
+            log.info("Removed {} remaining benchmark rows", deleted);
+
+            return RepeatStatus.FINISHED;
+        };
+    }
+}
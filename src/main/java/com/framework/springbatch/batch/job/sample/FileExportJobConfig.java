@@ -3,8 +3,7 @@ package com.framework.springbatch.batch.job.sample;
 import com.framework.springbatch.batch.config.BatchProperties;
 import com.framework.springbatch.batch.listener.JobExecutionLogListener;
 import com.framework.springbatch.batch.listener.StepExecutionLogListener;
-import com.framework.springbatch.domain.sample.entity.Sample;
-import jakarta.persistence.EntityManagerFactory;
+import com.framework.springbatch.domain.sample.dto.SampleExportRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -13,18 +12,20 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.batch.item.file.FlatFileItemWriter;
 import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
-import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
 import org.springframework.batch.item.file.transform.DelimitedLineAggregator;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -34,6 +35,7 @@ import java.time.format.DateTimeFormatter;
  * ═══════════════════════════════════════════════════════════════════════════════
  * 
  * DB 데이터를 CSV 파일로 추출하는 예제
+ * - 엔티티 대신 출력 컬럼만 조회하는 JDBC 커서로 스트리밍
  */
 @Slf4j
 @Configuration
@@ -42,12 +44,17 @@ public class FileExportJobConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final EntityManagerFactory entityManagerFactory;
+    @Qualifier("readOnlyDataSource")
+    private final DataSource readOnlyDataSource;
     private final BatchProperties batchProperties;
     
     private final JobExecutionLogListener jobExecutionLogListener;
     private final StepExecutionLogListener stepExecutionLogListener;
 
+    private static final String EXPORT_SQL =
+            "SELECT ID, NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED " +
+            "FROM SAMPLE WHERE STATUS = 'ACTIVE' ORDER BY ID";
+
     /**
      * 파일 출력 Job
      */
@@ -65,7 +72,7 @@ public class FileExportJobConfig {
     @Bean
     public Step fileExportStep() {
         return new StepBuilder("fileExportStep", jobRepository)
-                .<Sample, Sample>chunk(batchProperties.getChunkSize(), transactionManager)
+                .<SampleExportRow, SampleExportRow>chunk(batchProperties.getChunkSize(), transactionManager)
                 .reader(fileExportReader())
                 .writer(fileExportWriter(null))
                 .listener(stepExecutionLogListener)
@@ -73,24 +80,42 @@ public class FileExportJobConfig {
     }
 
     /**
-     * JPA Reader
+     * JDBC Cursor Reader
+     * - 단일 forward-only 커서를 fetchSize 단위로 스트리밍 (페이지별 재조회 없음)
+     * - PostgreSQL은 autoCommit=false 일 때만 fetchSize 단위로 가져오므로 별도 지정
+     * - 레플리카 사용 시 레플리카에서 조회 (readOnlyDataSource, 지연 초과 시 Primary)
      */
     @Bean
-    public JpaPagingItemReader<Sample> fileExportReader() {
-        return new JpaPagingItemReaderBuilder<Sample>()
+    public JdbcCursorItemReader<SampleExportRow> fileExportReader() {
+        return new JdbcCursorItemReaderBuilder<SampleExportRow>()
                 .name("fileExportReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(batchProperties.getPageSize())
-                .queryString("SELECT s FROM Sample s WHERE s.status = 'ACTIVE' ORDER BY s.id")
+                .dataSource(readOnlyDataSource)
+                .sql(EXPORT_SQL)
+                .fetchSize(batchProperties.getFetchSize())
+                .connectionAutoCommit(false)
+                .rowMapper(sampleExportRowMapper())
                 .build();
     }
 
+    /**
+     * 출력 컬럼 RowMapper (리플렉션 없이 레코드 생성)
+     */
+    private RowMapper<SampleExportRow> sampleExportRowMapper() {
+        return (rs, rowNum) -> new SampleExportRow(
+                rs.getLong("ID"),
+                rs.getString("NAME"),
+                rs.getString("DESCRIPTION"),
+                rs.getString("STATUS"),
+                rs.getBigDecimal("AMOUNT"),
+                rs.getBoolean("PROCESSED"));
+    }
+
     /**
      * CSV File Writer
      */
     @Bean
     @StepScope
-    public FlatFileItemWriter<Sample> fileExportWriter(
+    public FlatFileItemWriter<SampleExportRow> fileExportWriter(
             @Value("#{jobParameters['outputPath']}") String outputPath) {
         
         // 기본 출력 경로
@@ -99,16 +124,13 @@ public class FileExportJobConfig {
             outputPath = "./output/sample_export_" + date + ".csv";
         }
 
-        // 필드 추출기
-        BeanWrapperFieldExtractor<Sample> fieldExtractor = new BeanWrapperFieldExtractor<>();
-        fieldExtractor.setNames(new String[]{"id", "name", "description", "status", "amount", "processed"});
-
-        // 라인 구분자
-        DelimitedLineAggregator<Sample> lineAggregator = new DelimitedLineAggregator<>();
+        // 라인 구분자 (레코드 접근자로 필드 추출)
+        DelimitedLineAggregator<SampleExportRow> lineAggregator = new DelimitedLineAggregator<>();
         lineAggregator.setDelimiter(",");
-        lineAggregator.setFieldExtractor(fieldExtractor);
+        lineAggregator.setFieldExtractor(row -> new Object[]{
+                row.id(), row.name(), row.description(), row.status(), row.amount(), row.processed()});
 
-        return new FlatFileItemWriterBuilder<Sample>()
+        return new FlatFileItemWriterBuilder<SampleExportRow>()
                 .name("fileExportWriter")
                 .resource(new FileSystemResource(outputPath))
                 .headerCallback(writer -> writer.write("ID,NAME,DESCRIPTION,STATUS,AMOUNT,PROCESSED"))
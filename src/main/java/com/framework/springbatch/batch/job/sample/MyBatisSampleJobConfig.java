@@ -0,0 +1,236 @@
+package com.framework.springbatch.batch.job.sample;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.ExecutionMode;
+import com.framework.springbatch.batch.job.support.ExecutionModeSupport;
+import com.framework.springbatch.batch.listener.ChunkLogListener;
+import com.framework.springbatch.batch.listener.JobExecutionLogListener;
+import com.framework.springbatch.batch.listener.StepExecutionLogListener;
+import com.framework.springbatch.batch.partition.SamplePartitionCriteria;
+import com.framework.springbatch.batch.partition.SamplePartitionerFactory;
+import com.framework.springbatch.batch.reader.MyBatisKeysetCursorItemReader;
+import com.framework.springbatch.batch.reader.PrefetchingItemReader;
+import com.framework.springbatch.batch.reader.ReplicaReadItemStreamReader;
+import com.framework.springbatch.batch.service.SampleStatisticsService;
+import com.framework.springbatch.batch.writer.SampleProcessedFlagItemWriter;
+import com.framework.springbatch.batch.writer.SampleResultJdbcItemWriter;
+import com.framework.springbatch.batch.writer.SampleResultWriterFactory;
+import com.framework.springbatch.domain.sample.dto.SampleDTO;
+import com.framework.springbatch.domain.sample.entity.SampleResult;
+import com.framework.springbatch.domain.sample.mapper.SampleMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.CompositeItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * MyBatis 샘플 배치 Job 설정
+ * ═══════════════════════════════════════════════════════════════════════════════
+ *
+ * sampleJob과 같은 처리를 MyBatis 매퍼 SQL로 수행하는 예제
+ * - Reader: MyBatis Cursor Keyset Reader (SampleMapper.selectUnprocessedSamplesAfterId)
+ * - Processor: SampleDTO -> SampleResult 변환
+ * - Writer: batch.writer 설정 기반 SAMPLE_RESULT Writer + PROCESSED 플래그 일괄 UPDATE
+ * - batch.execution.jobs.myBatisSampleJob 으로 SINGLE(기본) / MULTI_THREADED / PARTITIONED 전환
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MyBatisSampleJobConfig {
+
+    private static final String JOB_NAME = "myBatisSampleJob";
+
+    private static final String UNPROCESSED_AFTER_ID_QUERY =
+            SampleMapper.class.getName() + ".selectUnprocessedSamplesAfterId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final BatchProperties batchProperties;
+    private final SampleResultWriterFactory sampleResultWriterFactory;
+    private final SampleMapper sampleMapper;
+    private final SampleStatisticsService sampleStatisticsService;
+    private final SamplePartitionerFactory samplePartitionerFactory;
+    private final ExecutionModeSupport executionModeSupport;
+
+    @Qualifier("prefetchTaskExecutor")
+    private final TaskExecutor prefetchTaskExecutor;
+
+    // Listeners
+    private final JobExecutionLogListener jobExecutionLogListener;
+    private final StepExecutionLogListener stepExecutionLogListener;
+    private final ChunkLogListener<SampleDTO, SampleResult> chunkLogListener;
+
+    /**
+     * MyBatis 샘플 배치 Job
+     */
+    @Bean
+    public Job myBatisSampleJob() {
+        Step start = myBatisSampleStep();
+        if (executionModeSupport.getMode(JOB_NAME, ExecutionMode.SINGLE) == ExecutionMode.PARTITIONED) {
+            samplePartitionerFactory.assertStatic(JOB_NAME);
+            start = myBatisSampleMasterStep();
+        }
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(jobExecutionLogListener)
+                .start(start)
+                .build();
+    }
+
+    /**
+     * MyBatis 샘플 파티션 마스터 Step (PARTITIONED 실행 시)
+     * - batch.partition.jobs.myBatisSampleJob 유형(RANGE, QUANTILE, HASH, DATE)으로 나누어 myBatisSampleStep을 병렬 실행
+     * - DYNAMIC 작업 단위 큐는 partitionJob에서만 지원 (PARTITIONED 실행에 DYNAMIC이 지정되면 기동 시 설정 오류)
+     */
+    @Bean
+    public Step myBatisSampleMasterStep() {
+        return executionModeSupport.partitionStep(JOB_NAME, "myBatisSampleMasterStep", myBatisSampleStep(),
+                myBatisSampleStepPartitioner());
+    }
+
+    /**
+     * SAMPLE Partitioner (StepScope)
+     * - 마스터 Step 실행 시점에 생성하므로 SINGLE / MULTI_THREADED 실행에서는 파티션 유형 설정과 무관
+     */
+    @Bean
+    @StepScope
+    public Partitioner myBatisSampleStepPartitioner() {
+        return samplePartitionerFactory.createStatic(JOB_NAME);
+    }
+
+    /**
+     * MyBatis 샘플 배치 Step
+     * - MULTI_THREADED 실행 시 batchTaskExecutor에서 throttleLimit 개 청크를 동시에 처리
+     */
+    @Bean
+    public Step myBatisSampleStep() {
+        FaultTolerantStepBuilder<SampleDTO, SampleResult> builder = new StepBuilder("myBatisSampleStep", jobRepository)
+                .<SampleDTO, SampleResult>chunk(batchProperties.getChunkSize(), transactionManager)
+                .reader(myBatisSampleStepReader(null))
+                .processor(myBatisSampleProcessor())
+                .writer(myBatisSampleCompositeWriter())
+                .faultTolerant()
+                .retryLimit(batchProperties.getRetryLimit())
+                .retry(Exception.class);
+
+        builder.listener(stepExecutionLogListener)
+                .listener((StepExecutionListener) myBatisSampleResultWriter())
+                .listener((ItemReadListener<SampleDTO>) chunkLogListener)
+                .listener((ItemProcessListener<SampleDTO, SampleResult>) chunkLogListener)
+                .listener((ItemWriteListener<SampleResult>) chunkLogListener);
+        executionModeSupport.configure(JOB_NAME, ExecutionMode.SINGLE, builder);
+        return builder.build();
+    }
+
+    /**
+     * Step Reader (StepScope)
+     * - 레플리카 사용 시 Cursor 조회는 레플리카에서 수행 (ReplicaReadItemStreamReader)
+     * - batch.prefetch-depth > 0 이면 백그라운드 선행 조회 Reader로 감싸 조회와 처리/적재를 겹침
+     * - MULTI_THREADED 실행 시 동기화 래퍼로 감싸고 위치를 저장하지 않음 (재시작 시 미처리 샘플 재조회)
+     */
+    @Bean
+    @StepScope
+    public ItemStreamReader<SampleDTO> myBatisSampleStepReader(
+            @Value("#{stepExecutionContext}") Map<String, Object> partition) {
+        boolean multiThreaded = executionModeSupport.isMultiThreaded(JOB_NAME, ExecutionMode.SINGLE);
+        ItemStreamReader<SampleDTO> delegate =
+                new ReplicaReadItemStreamReader<>(myBatisSampleReader(partition, !multiThreaded));
+        if (batchProperties.getPrefetchDepth() <= 0) {
+            return executionModeSupport.synchronize(JOB_NAME, ExecutionMode.SINGLE, delegate);
+        }
+        PrefetchingItemReader<SampleDTO> reader = new PrefetchingItemReader<>();
+        reader.setName("myBatisSampleStepReader");
+        reader.setDelegate(delegate);
+        reader.setTaskExecutor(prefetchTaskExecutor);
+        reader.setBatchSize(batchProperties.getChunkSize());
+        reader.setPrefetchDepth(batchProperties.getPrefetchDepth());
+        reader.setSaveState(!multiThreaded);
+        return executionModeSupport.synchronize(JOB_NAME, ExecutionMode.SINGLE, reader);
+    }
+
+    /**
+     * MyBatis Cursor Reader
+     * - 미처리 상태의 Active 샘플을 ID 오름차순 Cursor로 스트리밍
+     * - 재시작 시 마지막으로 커밋된 ID 이후부터 다시 조회
+     * - 파티션 실행 시 파티션 조건을 매퍼 파라미터로 전달
+     */
+    private MyBatisKeysetCursorItemReader<SampleDTO> myBatisSampleReader(Map<String, Object> partition,
+                                                                         boolean saveState) {
+        SamplePartitionCriteria criteria = SamplePartitionCriteria.from(partition, "s");
+
+        MyBatisKeysetCursorItemReader<SampleDTO> reader = new MyBatisKeysetCursorItemReader<>();
+        reader.setName("myBatisSampleReader");
+        reader.setSqlSessionFactory(sqlSessionFactory);
+        reader.setQueryId(UNPROCESSED_AFTER_ID_QUERY);
+        reader.setParameterValues(criteria.getParameters());
+        reader.setStartAfterKey(criteria.getStartAfterKey());
+        reader.setKeyExtractor(SampleDTO::getId);
+        reader.setSaveState(saveState);
+        return reader;
+    }
+
+    /**
+     * Item Processor
+     * - SampleDTO -> SampleResult 변환
+     */
+    @Bean
+    public ItemProcessor<SampleDTO, SampleResult> myBatisSampleProcessor() {
+        return sample -> {
+            boolean isValid = sample.getAmount() != null && sample.getAmount().signum() >= 0;
+
+            return SampleResult.builder()
+                    .sampleId(sample.getId())
+                    .resultStatus(isValid ? "SUCCESS" : "FAILED")
+                    .resultMessage(isValid ? "처리 완료" : "유효하지 않은 금액")
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        };
+    }
+
+    /**
+     * Composite Writer
+     * - 결과 적재와 원본 PROCESSED 플래그 UPDATE를 같은 청크 트랜잭션에서 수행
+     */
+    @Bean
+    public CompositeItemWriter<SampleResult> myBatisSampleCompositeWriter() {
+        return new CompositeItemWriter<>(List.of(
+                myBatisSampleResultWriter(),
+                new SampleProcessedFlagItemWriter<SampleResult>(
+                        sampleMapper, sampleStatisticsService, SampleResult::getSampleId)));
+    }
+
+    /**
+     * SAMPLE_RESULT Writer
+     * - batch.writer.steps.myBatisSampleStep 설정에 따라 선택
+     */
+    @Bean
+    @StepScope
+    public SampleResultJdbcItemWriter myBatisSampleResultWriter() {
+        return sampleResultWriterFactory.create("myBatisSampleStep");
+    }
+}
@@ -1,34 +1,45 @@
 package com.framework.springbatch.batch.job.sample;
 
 import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.ExecutionMode;
+import com.framework.springbatch.batch.config.BatchProperties.PartitionerType;
+import com.framework.springbatch.batch.config.BatchProperties.ReaderType;
+import com.framework.springbatch.batch.job.support.ExecutionModeSupport;
 import com.framework.springbatch.batch.listener.JobExecutionLogListener;
 import com.framework.springbatch.batch.listener.StepExecutionLogListener;
+import com.framework.springbatch.batch.partition.SamplePartitionCriteria;
+import com.framework.springbatch.batch.partition.SamplePartitionerFactory;
+import com.framework.springbatch.batch.partition.WorkUnitItemReader;
+import com.framework.springbatch.batch.partition.WorkUnitCleanupListener;
+import com.framework.springbatch.batch.partition.WorkUnitRepository;
+import com.framework.springbatch.batch.reader.HibernateStatelessCursorItemReader;
+import com.framework.springbatch.batch.reader.JpaKeysetItemReader;
+import com.framework.springbatch.batch.reader.ReplicaReadItemStreamReader;
+import com.framework.springbatch.batch.service.SampleStatisticsService;
+import com.framework.springbatch.batch.writer.SampleProcessedFlagItemWriter;
 import com.framework.springbatch.domain.sample.entity.Sample;
+import com.framework.springbatch.domain.sample.mapper.SampleMapper;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ExecutionContext;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.Statement;
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -37,122 +48,200 @@ import java.util.Map;
  * ═══════════════════════════════════════════════════════════════════════════════
  * 
  * 대용량 데이터를 여러 파티션으로 나누어 병렬 처리
- * - ID 범위 기반 파티셔닝
+ * - batch.partition 설정 기반 파티셔닝 (ID 구간, 분위수, 해시, 일자, 동적 작업 단위 큐)
  * - 멀티 스레드 병렬 처리
+ * - batch.execution.jobs.partitionJob 으로 SINGLE / MULTI_THREADED 전환 가능 (기본 PARTITIONED)
+ * - batch.partition.remote.enabled 이면 파티션을 DB 큐로 발행하여 모든 노드(Pod)가 워커 Step을 실행
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class PartitionJobConfig {
 
+    private static final String JOB_NAME = "partitionJob";
+
+    private static final String PARTITION_QUERY =
+            "SELECT s FROM Sample s WHERE s.id > :lastId AND s.processed = false AND s.status = 'ACTIVE'";
+
+    private static final String WORK_UNIT_QUERY =
+            "SELECT s FROM Sample s WHERE s.id > :lastId AND s.id <= :maxId " +
+            "AND s.processed = false AND s.status = 'ACTIVE' ORDER BY s.id";
+
+    /**
+     * 동적 파티셔닝 작업 단위 큐 이름 (마스터 Step 이름)
+     */
+    private static final String WORK_UNIT_QUEUE = "partitionMasterStep";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
-    private final DataSource dataSource;
     private final BatchProperties batchProperties;
-    
-    @Qualifier("partitionTaskExecutor")
-    private final TaskExecutor partitionTaskExecutor;
-    
+    private final SampleMapper sampleMapper;
+    private final SampleStatisticsService sampleStatisticsService;
+    private final SamplePartitionerFactory samplePartitionerFactory;
+    private final WorkUnitRepository workUnitRepository;
+    private final ExecutionModeSupport executionModeSupport;
+
     private final JobExecutionLogListener jobExecutionLogListener;
     private final StepExecutionLogListener stepExecutionLogListener;
+    private final WorkUnitCleanupListener workUnitCleanupListener;
 
     /**
      * 파티션 배치 Job
+     * - DYNAMIC이면 Job 완료 후 작업 단위 큐를 삭제
      */
     @Bean
     public Job partitionJob() {
-        return new JobBuilder("partitionJob", jobRepository)
-                .listener(jobExecutionLogListener)
-                .start(partitionMasterStep())
+        Step start = isPartitioned() ? partitionMasterStep() : partitionWorkerStep();
+        JobBuilder builder = new JobBuilder(JOB_NAME, jobRepository)
+                .listener(jobExecutionLogListener);
+        if (isDynamic()) {
+            builder.listener(workUnitCleanupListener);
+        }
+        return builder
+                .start(start)
                 .build();
     }
 
     /**
      * 파티션 마스터 Step
+     * - batch.partition.remote.enabled 이면 워커 Step을 DB 큐로 모든 노드에 분배
      */
     @Bean
     public Step partitionMasterStep() {
-        return new StepBuilder("partitionMasterStep", jobRepository)
-                .partitioner("partitionWorkerStep", samplePartitioner())
-                .step(partitionWorkerStep())
-                .gridSize(batchProperties.getGridSize())
-                .taskExecutor(partitionTaskExecutor)
-                .build();
+        return executionModeSupport.partitionStep(JOB_NAME, WORK_UNIT_QUEUE, partitionWorkerStep(), samplePartitioner(null));
     }
 
     /**
      * 파티션 워커 Step
+     * - SINGLE / MULTI_THREADED 실행 시에는 전체 구간을 이 Step 하나로 처리
      */
     @Bean
     public Step partitionWorkerStep() {
-        return new StepBuilder("partitionWorkerStep", jobRepository)
+        SimpleStepBuilder<Sample, Sample> builder = new StepBuilder("partitionWorkerStep", jobRepository)
                 .<Sample, Sample>chunk(batchProperties.getChunkSize(), transactionManager)
                 .reader(partitionReader(null, null))
-                .writer(items -> {
-                    for (Sample sample : items) {
-                        sample.setProcessed(true);
-                        log.debug("Partition processed: id={}", sample.getId());
-                    }
-                })
-                .listener(stepExecutionLogListener)
-                .build();
+                .writer(partitionWriter())
+                .listener(stepExecutionLogListener);
+        if (isDynamic()) {
+            // 단위 완료 처리와 다음 단위 할당은 청크 커밋 후 수행
+            builder.listener(WorkUnitItemReader.chunkListener());
+        }
+        executionModeSupport.configure(JOB_NAME, ExecutionMode.PARTITIONED, builder);
+        return builder.build();
+    }
+
+    /**
+     * 파티션 Writer
+     * - 청크의 SAMPLE ID를 모아 PROCESSED 플래그를 1회 UPDATE
+     */
+    @Bean
+    public SampleProcessedFlagItemWriter<Sample> partitionWriter() {
+        return new SampleProcessedFlagItemWriter<>(sampleMapper, sampleStatisticsService, Sample::getId);
     }
 
     /**
-     * ID 범위 기반 Partitioner
+     * SAMPLE Partitioner (StepScope)
+     * - batch.partition.jobs.partitionJob 설정에 따라 ID 구간/분위수/해시/일자 분할
+     * - DYNAMIC이면 JobInstance별 작업 단위 큐를 생성하고 워커 슬롯만 나눔
      */
     @Bean
-    public Partitioner samplePartitioner() {
-        return gridSize -> {
-            Map<String, ExecutionContext> partitions = new HashMap<>();
-
-            try (Connection conn = dataSource.getConnection();
-                 Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(
-                     "SELECT MIN(ID) as minId, MAX(ID) as maxId FROM SAMPLE WHERE PROCESSED = FALSE")) {
-                
-                if (rs.next()) {
-                    long minId = rs.getLong("minId");
-                    long maxId = rs.getLong("maxId");
-                    long range = (maxId - minId) / gridSize + 1;
-
-                    for (int i = 0; i < gridSize; i++) {
-                        ExecutionContext context = new ExecutionContext();
-                        long startId = minId + (i * range);
-                        long endId = (i == gridSize - 1) ? maxId : startId + range - 1;
-
-                        context.putLong("minId", startId);
-                        context.putLong("maxId", endId);
-                        
-                        partitions.put("partition" + i, context);
-                        
-                        log.info("Partition {}: minId={}, maxId={}", i, startId, endId);
-                    }
-                }
-            } catch (Exception e) {
-                log.error("Error creating partitions", e);
-            }
-
-            return partitions;
-        };
+    @StepScope
+    public Partitioner samplePartitioner(@Value("#{stepExecution}") StepExecution stepExecution) {
+        return samplePartitionerFactory.create(JOB_NAME, stepExecution);
     }
 
     /**
      * 파티션 Reader (StepScope)
+     * - batch.reader.steps.partitionWorkerStep 설정에 따라 JPA Keyset 페이징 또는 StatelessSession Cursor로 조회
+     * - 파티션 조건(SamplePartitionCriteria) 안에서 ID 오름차순으로 조회
+     * - DYNAMIC 파티셔닝이면 작업 단위 큐에서 구간을 할당받아 조회 (WorkUnitItemReader)
+     * - 레플리카 사용 시 구간 조회는 레플리카에서 수행 (작업 단위 선점/완료를 기록하는 DYNAMIC Reader는 Primary)
      */
     @Bean
     @StepScope
-    public JpaPagingItemReader<Sample> partitionReader(
-            @Value("#{stepExecutionContext['minId']}") Long minId,
-            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
-        
-        return new JpaPagingItemReaderBuilder<Sample>()
-                .name("partitionReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(batchProperties.getPageSize())
-                .queryString("SELECT s FROM Sample s WHERE s.id BETWEEN :minId AND :maxId AND s.processed = false ORDER BY s.id")
-                .parameterValues(Map.of("minId", minId != null ? minId : 0L, "maxId", maxId != null ? maxId : Long.MAX_VALUE))
-                .build();
+    public ItemStreamReader<Sample> partitionReader(
+            @Value("#{stepExecutionContext}") Map<String, Object> partition,
+            @Value("#{stepExecution}") StepExecution stepExecution) {
+
+        if (isDynamic()) {
+            return workUnitReader(stepExecution);
+        }
+
+        boolean multiThreaded = executionModeSupport.isMultiThreaded(JOB_NAME, ExecutionMode.PARTITIONED);
+
+        SamplePartitionCriteria criteria = SamplePartitionCriteria.from(partition, "s");
+        String queryString = PARTITION_QUERY + criteria.getCondition() + " ORDER BY s.id";
+
+        if (batchProperties.getReader().getType("partitionWorkerStep") == ReaderType.STATELESS) {
+            HibernateStatelessCursorItemReader<Sample> reader = new HibernateStatelessCursorItemReader<>();
+            reader.setName("partitionReader");
+            reader.setEntityManagerFactory(entityManagerFactory);
+            reader.setResultType(Sample.class);
+            reader.setFetchSize(batchProperties.getFetchSize());
+            reader.setQueryString(queryString);
+            reader.setParameterValues(criteria.getParameters());
+            reader.setStartAfterKey(criteria.getStartAfterKey());
+            reader.setKeyExtractor(Sample::getId);
+            reader.setSaveState(!multiThreaded);
+            return executionModeSupport.synchronize(JOB_NAME, ExecutionMode.PARTITIONED,
+                    new ReplicaReadItemStreamReader<>(reader));
+        }
+
+        JpaKeysetItemReader<Sample> reader = new JpaKeysetItemReader<>();
+        reader.setName("partitionReader");
+        reader.setEntityManagerFactory(entityManagerFactory);
+        reader.setPageSize(batchProperties.getPageSize());
+        reader.setQueryString(queryString);
+        reader.setParameterValues(criteria.getParameters());
+        reader.setStartAfterKey(criteria.getStartAfterKey());
+        reader.setKeyExtractor(Sample::getId);
+        reader.setTransacted(false);
+        reader.setSaveState(!multiThreaded);
+        return executionModeSupport.synchronize(JOB_NAME, ExecutionMode.PARTITIONED,
+                new ReplicaReadItemStreamReader<>(reader));
+    }
+
+    /**
+     * 작업 단위 큐 Reader
+     * - 페이지마다 EntityManager를 새로 열어 조회하고 닫으므로 반환 엔티티는 비관리(detached) 상태
+     */
+    private WorkUnitItemReader<Sample> workUnitReader(StepExecution stepExecution) {
+        BatchProperties.Partition properties = batchProperties.getPartition();
+
+        WorkUnitItemReader<Sample> reader = new WorkUnitItemReader<>();
+        reader.setWorkUnitRepository(workUnitRepository);
+        reader.setJobInstanceId(stepExecution.getJobExecution().getJobInstance().getInstanceId());
+        reader.setJobExecutionId(stepExecution.getJobExecutionId());
+        reader.setQueueName(WORK_UNIT_QUEUE);
+        reader.setOwner(String.valueOf(stepExecution.getId()));
+        reader.setPageSize(batchProperties.getPageSize());
+        reader.setMinSplitSpan(properties.getMinSplitSize());
+        reader.setPollInterval(Duration.ofMillis(properties.getPollInterval()));
+        reader.setStaleAfter(Duration.ofMillis(properties.getStaleTimeout()));
+        reader.setKeyExtractor(Sample::getId);
+        reader.setPageLoader(this::loadWorkUnitPage);
+        return reader;
+    }
+
+    private boolean isPartitioned() {
+        return executionModeSupport.getMode(JOB_NAME, ExecutionMode.PARTITIONED) == ExecutionMode.PARTITIONED;
+    }
+
+    private boolean isDynamic() {
+        return isPartitioned() && batchProperties.getPartition().getType(JOB_NAME) == PartitionerType.DYNAMIC;
+    }
+
+    private List<Sample> loadWorkUnitPage(long afterKey, long maxKey, int pageSize) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(WORK_UNIT_QUERY, Sample.class)
+                    .setParameter("lastId", afterKey)
+                    .setParameter("maxId", maxKey)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
     }
 }
@@ -0,0 +1,161 @@
+package com.framework.springbatch.batch.job.sample;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.springbatch.batch.chunk.ChunkTransport;
+import com.framework.springbatch.batch.chunk.RemoteChunkHandler;
+import com.framework.springbatch.batch.chunk.RemoteChunkItemWriter;
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.listener.JobExecutionLogListener;
+import com.framework.springbatch.batch.listener.StepExecutionLogListener;
+import com.framework.springbatch.batch.reader.JpaKeysetItemReader;
+import com.framework.springbatch.batch.service.SampleStatisticsService;
+import com.framework.springbatch.batch.writer.SampleProcessedFlagItemWriter;
+import com.framework.springbatch.batch.writer.SampleResultWriterFactory;
+import com.framework.springbatch.domain.sample.entity.Sample;
+import com.framework.springbatch.domain.sample.entity.SampleResult;
+import com.framework.springbatch.domain.sample.mapper.SampleMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.support.CompositeItemWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * 원격 청크 배치 Job 설정
+ * ═══════════════════════════════════════════════════════════════════════════════
+ *
+ * 매니저는 SAMPLE 조회만 수행하고, 청크를 batch.remote-chunk.transport(MEMORY | REDIS)로 워커에 분배
+ * - 매니저: JPA Keyset Reader -> RemoteChunkItemWriter (in-flight 청크 수 제한, 실패 청크 재전송)
+ * - 워커: sampleProcessor -> SAMPLE_RESULT Writer + PROCESSED 플래그 Writer (한 트랜잭션)
+ * - Processor 비용이 큰 작업을 여러 Pod의 CPU로 분산할 때 사용
+ * - 실패한 실행의 잔여 요청은 워커가 버리고, 재시작한 실행이 미처리 샘플을 다시 보냄
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RemoteChunkJobConfig {
+
+    /**
+     * 요청 채널 (Redis Stream 키)
+     */
+    private static final String CHANNEL = "batch:chunk:remoteChunkJob";
+
+    private static final String SAMPLE_QUERY =
+            "SELECT s FROM Sample s WHERE s.id > :lastId AND s.processed = false AND s.status = 'ACTIVE' ORDER BY s.id";
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BatchProperties batchProperties;
+    private final ChunkTransport chunkTransport;
+    private final SampleResultWriterFactory sampleResultWriterFactory;
+    private final SampleMapper sampleMapper;
+    private final SampleStatisticsService sampleStatisticsService;
+    private final ItemProcessor<Sample, SampleResult> sampleProcessor;
+
+    private final JobExecutionLogListener jobExecutionLogListener;
+    private final StepExecutionLogListener stepExecutionLogListener;
+
+    /**
+     * 원격 청크 배치 Job
+     */
+    @Bean
+    public Job remoteChunkJob() {
+        return new JobBuilder("remoteChunkJob", jobRepository)
+                .listener(jobExecutionLogListener)
+                .start(remoteChunkManagerStep())
+                .build();
+    }
+
+    /**
+     * 매니저 Step
+     * - 청크 트랜잭션은 발행만 커밋하며, 처리/적재 결과는 RemoteChunkItemWriter가 Step 종료 시 집계
+     */
+    @Bean
+    public Step remoteChunkManagerStep() {
+        return new StepBuilder("remoteChunkManagerStep", jobRepository)
+                .<Sample, Sample>chunk(batchProperties.getChunkSize(), transactionManager)
+                .reader(remoteChunkReader())
+                .writer(remoteChunkWriter())
+                .listener(stepExecutionLogListener)
+                .listener((StepExecutionListener) remoteChunkWriter())
+                .build();
+    }
+
+    /**
+     * 매니저 Reader
+     * - 발행 완료가 처리 완료를 뜻하지 않으므로 위치를 저장하지 않고, 재시작 시 미처리 샘플을 처음부터 다시 조회
+     */
+    @Bean
+    public JpaKeysetItemReader<Sample> remoteChunkReader() {
+        JpaKeysetItemReader<Sample> reader = new JpaKeysetItemReader<>();
+        reader.setName("remoteChunkReader");
+        reader.setEntityManagerFactory(entityManagerFactory);
+        reader.setPageSize(batchProperties.getPageSize());
+        reader.setQueryString(SAMPLE_QUERY);
+        reader.setKeyExtractor(Sample::getId);
+        reader.setTransacted(false);
+        reader.setSaveState(false);
+        return reader;
+    }
+
+    /**
+     * 매니저 Writer (StepScope)
+     * - 청크를 JSON으로 직렬화하여 요청 채널로 발행
+     */
+    @Bean
+    @StepScope
+    public RemoteChunkItemWriter<Sample> remoteChunkWriter() {
+        BatchProperties.RemoteChunk properties = batchProperties.getRemoteChunk();
+
+        RemoteChunkItemWriter<Sample> writer = new RemoteChunkItemWriter<>();
+        writer.setChunkTransport(chunkTransport);
+        writer.setObjectMapper(objectMapper);
+        writer.setChannel(CHANNEL);
+        writer.setMaxInFlight(properties.getMaxInFlight());
+        writer.setRetryLimit(properties.getRetryLimit());
+        writer.setResponseTimeout(Duration.ofMillis(properties.getResponseTimeout()));
+        writer.setPollTimeout(Duration.ofMillis(properties.getPollTimeout()));
+        return writer;
+    }
+
+    /**
+     * 워커 청크 처리기
+     * - RemoteChunkWorker가 요청 채널을 수신하여 실행
+     */
+    @Bean
+    public RemoteChunkHandler<Sample, SampleResult> remoteChunkHandler() {
+        RemoteChunkHandler<Sample, SampleResult> handler = new RemoteChunkHandler<>();
+        handler.setChannel(CHANNEL);
+        handler.setItemType(Sample.class);
+        handler.setItemProcessor(sampleProcessor);
+        handler.setItemWriter(new CompositeItemWriter<>(List.of(
+                sampleResultWriterFactory.create("remoteChunkWorker"),
+                new SampleProcessedFlagItemWriter<>(sampleMapper, sampleStatisticsService, SampleResult::getSampleId))));
+        handler.setResultInitializer((request, result) -> result.setJobExecutionId(request.jobExecutionId()));
+        handler.setObjectMapper(objectMapper);
+        handler.setTransactionManager(transactionManager);
+        handler.setJdbcTemplate(jdbcTemplate);
+        handler.setJobExplorer(jobExplorer);
+        return handler;
+    }
+}
@@ -1,12 +1,27 @@
 package com.framework.springbatch.batch.job.sample;
 
 import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.ExecutionMode;
+import com.framework.springbatch.batch.config.BatchProperties.ReaderType;
+import com.framework.springbatch.batch.config.BatchProperties.WriterType;
+import com.framework.springbatch.batch.job.support.ExecutionModeSupport;
 import com.framework.springbatch.batch.listener.ChunkLogListener;
 import com.framework.springbatch.batch.listener.JobExecutionLogListener;
 import com.framework.springbatch.batch.listener.SkipLogListener;
 import com.framework.springbatch.batch.listener.StepExecutionLogListener;
+import com.framework.springbatch.batch.partition.SamplePartitionCriteria;
+import com.framework.springbatch.batch.partition.SamplePartitionerFactory;
+import com.framework.springbatch.batch.reader.HibernateStatelessCursorItemReader;
+import com.framework.springbatch.batch.reader.JpaKeysetItemReader;
+import com.framework.springbatch.batch.reader.PrefetchingItemReader;
+import com.framework.springbatch.batch.reader.ReplicaReadItemStreamReader;
+import com.framework.springbatch.batch.service.SampleStatisticsService;
+import com.framework.springbatch.batch.writer.SampleProcessedFlagItemWriter;
+import com.framework.springbatch.batch.writer.SampleResultJdbcItemWriter;
+import com.framework.springbatch.batch.writer.SampleResultWriterFactory;
 import com.framework.springbatch.domain.sample.entity.Sample;
 import com.framework.springbatch.domain.sample.entity.SampleResult;
+import com.framework.springbatch.domain.sample.mapper.SampleMapper;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,19 +30,25 @@ import org.springframework.batch.core.ItemReadListener;
 import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.database.JpaItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.CompositeItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,19 +57,33 @@ import java.util.Map;
  * ═══════════════════════════════════════════════════════════════════════════════
  * 
  * Chunk 기반 배치 처리 예제
- * - Reader: JPA Paging Reader
+ * - Reader: JPA Keyset Paging Reader / StatelessSession Cursor Reader
  * - Processor: 비즈니스 로직 처리
- * - Writer: JPA Writer
+ * - Writer: JDBC Batch / PostgreSQL COPY Writer + PROCESSED 플래그 일괄 UPDATE
+ * - batch.execution.jobs.sampleJob 으로 SINGLE(기본) / MULTI_THREADED / PARTITIONED 전환
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class SampleJobConfig {
 
+    private static final String JOB_NAME = "sampleJob";
+
+    private static final String SAMPLE_QUERY =
+            "SELECT s FROM Sample s WHERE s.id > :lastId AND s.processed = false AND s.status = 'ACTIVE'";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
     private final BatchProperties batchProperties;
+    private final SampleResultWriterFactory sampleResultWriterFactory;
+    private final SampleMapper sampleMapper;
+    private final SampleStatisticsService sampleStatisticsService;
+    private final SamplePartitionerFactory samplePartitionerFactory;
+    private final ExecutionModeSupport executionModeSupport;
+
+    @Qualifier("prefetchTaskExecutor")
+    private final TaskExecutor prefetchTaskExecutor;
     
     // Listeners
     private final JobExecutionLogListener jobExecutionLogListener;
@@ -61,47 +96,130 @@ public class SampleJobConfig {
      */
     @Bean
     public Job sampleJob() {
-        return new JobBuilder("sampleJob", jobRepository)
+        Step start = sampleStep();
+        if (executionModeSupport.getMode(JOB_NAME, ExecutionMode.SINGLE) == ExecutionMode.PARTITIONED) {
+            samplePartitionerFactory.assertStatic(JOB_NAME);
+            start = sampleMasterStep();
+        }
+        return new JobBuilder(JOB_NAME, jobRepository)
                 .listener(jobExecutionLogListener)
-                .start(sampleStep())
+                .start(start)
                 .build();
     }
 
+    /**
+     * 샘플 파티션 마스터 Step (PARTITIONED 실행 시)
+     * - batch.partition.jobs.sampleJob 유형(RANGE, QUANTILE, HASH, DATE)으로 SAMPLE을 나누어 sampleStep을 병렬 실행
+     * - DYNAMIC 작업 단위 큐는 partitionJob에서만 지원 (PARTITIONED 실행에 DYNAMIC이 지정되면 기동 시 설정 오류)
+     */
+    @Bean
+    public Step sampleMasterStep() {
+        return executionModeSupport.partitionStep(JOB_NAME, "sampleMasterStep", sampleStep(),
+                sampleStepPartitioner());
+    }
+
+    /**
+     * SAMPLE Partitioner (StepScope)
+     * - 마스터 Step 실행 시점에 생성하므로 SINGLE / MULTI_THREADED 실행에서는 파티션 유형 설정과 무관
+     */
+    @Bean
+    @StepScope
+    public Partitioner sampleStepPartitioner() {
+        return samplePartitionerFactory.createStatic(JOB_NAME);
+    }
+
     /**
      * 샘플 배치 Step
+     * - UPSERT Writer 사용 시 실패 청크를 통째로 재실행(retry)하고 건별 스캔(skip)은 사용하지 않음
+     * - 선행 조회 실패는 Reader 위치를 잃은 것이므로 skip하지 않고 Step 실패
+     * - MULTI_THREADED 실행 시 batchTaskExecutor에서 throttleLimit 개 청크를 동시에 처리
      */
     @Bean
     public Step sampleStep() {
-        return new StepBuilder("sampleStep", jobRepository)
+        FaultTolerantStepBuilder<Sample, SampleResult> builder = new StepBuilder("sampleStep", jobRepository)
                 .<Sample, SampleResult>chunk(batchProperties.getChunkSize(), transactionManager)
-                .reader(sampleReader())
+                .reader(sampleStepReader(null))
                 .processor(sampleProcessor())
-                .writer(sampleResultWriter())
+                .writer(sampleCompositeWriter())
                 .faultTolerant()
-                .skipLimit(batchProperties.getSkipLimit())
-                .skip(Exception.class)
                 .retryLimit(batchProperties.getRetryLimit())
-                .retry(Exception.class)
-                .listener(stepExecutionLogListener)
+                .retry(Exception.class);
+
+        if (batchProperties.getWriter().getType("sampleStep") != WriterType.UPSERT) {
+            builder.skipLimit(batchProperties.getSkipLimit())
+                    .skip(Exception.class)
+                    .noSkip(PrefetchingItemReader.PrefetchFailedException.class);
+        }
+
+        builder.listener(stepExecutionLogListener)
+                .listener((StepExecutionListener) sampleResultWriter())
                 .listener((ItemReadListener<Sample>) chunkLogListener)
                 .listener((ItemProcessListener<Sample, SampleResult>) chunkLogListener)
                 .listener((ItemWriteListener<SampleResult>) chunkLogListener)
-                .listener(skipLogListener)
-                .build();
+                .listener(skipLogListener);
+        executionModeSupport.configure(JOB_NAME, ExecutionMode.SINGLE, builder);
+        return builder.build();
     }
 
     /**
-     * JPA Paging Reader
-     * - 미처리 상태의 Active 샘플을 페이징으로 조회
+     * Step Reader (StepScope)
+     * - 레플리카 사용 시 Sample 조회는 레플리카에서 수행 (ReplicaReadItemStreamReader)
+     * - batch.prefetch-depth > 0 이면 백그라운드 선행 조회 Reader로 감싸 조회와 처리/적재를 겹침
+     * - MULTI_THREADED 실행 시 동기화 래퍼로 감싸고 위치를 저장하지 않음 (재시작 시 미처리 샘플 재조회)
      */
     @Bean
-    public JpaPagingItemReader<Sample> sampleReader() {
-        return new JpaPagingItemReaderBuilder<Sample>()
-                .name("sampleReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(batchProperties.getPageSize())
-                .queryString("SELECT s FROM Sample s WHERE s.processed = false AND s.status = 'ACTIVE' ORDER BY s.id")
-                .build();
+    @StepScope
+    public ItemStreamReader<Sample> sampleStepReader(@Value("#{stepExecutionContext}") Map<String, Object> partition) {
+        boolean multiThreaded = executionModeSupport.isMultiThreaded(JOB_NAME, ExecutionMode.SINGLE);
+        ItemStreamReader<Sample> delegate = new ReplicaReadItemStreamReader<>(sampleReader(partition, !multiThreaded));
+        if (batchProperties.getPrefetchDepth() <= 0) {
+            return executionModeSupport.synchronize(JOB_NAME, ExecutionMode.SINGLE, delegate);
+        }
+        PrefetchingItemReader<Sample> reader = new PrefetchingItemReader<>();
+        reader.setName("sampleStepReader");
+        reader.setDelegate(delegate);
+        reader.setTaskExecutor(prefetchTaskExecutor);
+        reader.setBatchSize(batchProperties.getChunkSize());
+        reader.setPrefetchDepth(batchProperties.getPrefetchDepth());
+        reader.setSaveState(!multiThreaded);
+        return executionModeSupport.synchronize(JOB_NAME, ExecutionMode.SINGLE, reader);
+    }
+
+    /**
+     * Sample Reader
+     * - batch.reader.steps.sampleStep 설정에 따라 JPA Keyset 페이징 또는 StatelessSession Cursor로 조회
+     * - 미처리 상태의 Active 샘플을 ID 오름차순으로 조회 (처리 중 PROCESSED 변경으로 대상이 줄어도 누락 없음)
+     * - 파티션 실행 시 파티션 조건(SamplePartitionCriteria) 안에서만 조회
+     */
+    private ItemStreamReader<Sample> sampleReader(Map<String, Object> partition, boolean saveState) {
+        SamplePartitionCriteria criteria = SamplePartitionCriteria.from(partition, "s");
+        String queryString = SAMPLE_QUERY + criteria.getCondition() + " ORDER BY s.id";
+
+        if (batchProperties.getReader().getType("sampleStep") == ReaderType.STATELESS) {
+            HibernateStatelessCursorItemReader<Sample> reader = new HibernateStatelessCursorItemReader<>();
+            reader.setName("sampleReader");
+            reader.setEntityManagerFactory(entityManagerFactory);
+            reader.setResultType(Sample.class);
+            reader.setFetchSize(batchProperties.getFetchSize());
+            reader.setQueryString(queryString);
+            reader.setParameterValues(criteria.getParameters());
+            reader.setStartAfterKey(criteria.getStartAfterKey());
+            reader.setKeyExtractor(Sample::getId);
+            reader.setSaveState(saveState);
+            return reader;
+        }
+
+        JpaKeysetItemReader<Sample> reader = new JpaKeysetItemReader<>();
+        reader.setName("sampleReader");
+        reader.setEntityManagerFactory(entityManagerFactory);
+        reader.setPageSize(batchProperties.getPageSize());
+        reader.setQueryString(queryString);
+        reader.setParameterValues(criteria.getParameters());
+        reader.setStartAfterKey(criteria.getStartAfterKey());
+        reader.setKeyExtractor(Sample::getId);
+        reader.setTransacted(false);
+        reader.setSaveState(saveState);
+        return reader;
     }
 
     /**
@@ -123,21 +241,38 @@ public class SampleJobConfig {
                     .resultMessage(isValid ? "처리 완료" : "유효하지 않은 금액")
                     .processedAt(LocalDateTime.now())
                     .build();
-            
-            // 원본 데이터 처리 완료 표시
-            sample.setProcessed(true);
-            
+
+            // 원본 데이터 처리 완료 표시는 sampleProcessedFlagWriter에서 청크 단위로 일괄 반영
             return result;
         };
     }
 
     /**
-     * JPA Item Writer
+     * Composite Writer
+     * - 결과 적재와 원본 PROCESSED 플래그 UPDATE를 같은 청크 트랜잭션에서 수행
      */
     @Bean
-    public JpaItemWriter<SampleResult> sampleResultWriter() {
-        return new JpaItemWriterBuilder<SampleResult>()
-                .entityManagerFactory(entityManagerFactory)
-                .build();
+    public CompositeItemWriter<SampleResult> sampleCompositeWriter() {
+        return new CompositeItemWriter<>(List.of(sampleResultWriter(), sampleProcessedFlagWriter()));
+    }
+
+    /**
+     * PROCESSED 플래그 Writer
+     * - 청크의 SAMPLE_ID를 모아 1회 UPDATE
+     */
+    @Bean
+    public SampleProcessedFlagItemWriter<SampleResult> sampleProcessedFlagWriter() {
+        return new SampleProcessedFlagItemWriter<>(sampleMapper, sampleStatisticsService, SampleResult::getSampleId);
+    }
+
+    /**
+     * SAMPLE_RESULT Writer
+     * - batch.writer.steps.sampleStep 설정에 따라 JDBC 배치, PostgreSQL COPY, UPSERT 또는 StatelessSession으로 적재
+     * - 영속성 컨텍스트 미사용
+     */
+    @Bean
+    @StepScope
+    public SampleResultJdbcItemWriter sampleResultWriter() {
+        return sampleResultWriterFactory.create("sampleStep");
     }
 }
@@ -1,21 +1,37 @@
 package com.framework.springbatch.batch.job.sample;
 
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.job.support.ExecutionModeSupport;
 import com.framework.springbatch.batch.listener.JobExecutionLogListener;
 import com.framework.springbatch.batch.listener.StepExecutionLogListener;
+import com.framework.springbatch.batch.maintenance.ChunkedArchiveTasklet;
+import com.framework.springbatch.batch.maintenance.ChunkedPurgeTasklet;
+import com.framework.springbatch.batch.maintenance.PartitionRetentionTasklet;
+import com.framework.springbatch.batch.partition.SampleProfilePartitioner;
+import com.framework.springbatch.batch.profiling.SampleProfileAggregator;
+import com.framework.springbatch.batch.profiling.SampleProfileTasklet;
+import com.framework.springbatch.batch.service.SampleStatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -32,33 +48,64 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class TaskletJobConfig {
 
+    private static final String JOB_NAME = "dataCleanupJob";
+
+    private static final String PURGE_INDEX = "IDX_SAMPLE_RESULT_PROCESSED_AT";
+    private static final String ARCHIVE_INDEX = "IDX_SAMPLE_RESULT_SAMPLE_ID";
+    private static final String REMOTE_CHUNK_PURGE_INDEX = "IDX_REMOTE_CHUNK_JOB_EXECUTION";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final BatchProperties batchProperties;
+    private final SampleStatisticsService sampleStatisticsService;
+    private final SampleProfileAggregator sampleProfileAggregator;
+    private final ExecutionModeSupport executionModeSupport;
+
+    @Qualifier("readOnlyDataSource")
+    private final DataSource readOnlyDataSource;
     
     private final JobExecutionLogListener jobExecutionLogListener;
     private final StepExecutionLogListener stepExecutionLogListener;
 
     /**
      * 데이터 정리 Job
+     * - batch.profiling.enabled 이면 통계 업데이트 다음에 SAMPLE 근사 프로파일링 Step 실행
      */
     @Bean
     public Job dataCleanupJob() {
-        return new JobBuilder("dataCleanupJob", jobRepository)
+        SimpleJobBuilder builder = new JobBuilder(JOB_NAME, jobRepository)
                 .listener(jobExecutionLogListener)
                 .start(cleanupOldDataStep())
-                .next(updateStatisticsStep())
+                .next(purgeRemoteChunkStep())
+                .next(updateStatisticsStep());
+        if (batchProperties.getProfiling().isEnabled()) {
+            builder.next(sampleProfileStep());
+        }
+        return builder
                 .next(archiveDataStep())
                 .build();
     }
 
     /**
      * Step 1: 오래된 데이터 정리
+     * - 삭제 묶음과 파티션 DDL은 Tasklet이 직접 커밋하므로 Step 트랜잭션은 커넥션을 잡지 않음
      */
     @Bean
     public Step cleanupOldDataStep() {
         return new StepBuilder("cleanupOldDataStep", jobRepository)
-                .tasklet(cleanupOldDataTasklet(), transactionManager)
+                .tasklet(cleanupOldDataTasklet(null), new ResourcelessTransactionManager())
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    /**
+     * Step 1-1: 원격 청크 처리 영수증(BATCH_REMOTE_CHUNK) 정리
+     */
+    @Bean
+    public Step purgeRemoteChunkStep() {
+        return new StepBuilder("purgeRemoteChunkStep", jobRepository)
+                .tasklet(purgeRemoteChunkTasklet(null), new ResourcelessTransactionManager())
                 .listener(stepExecutionLogListener)
                 .build();
     }
@@ -69,87 +116,194 @@ public class TaskletJobConfig {
     @Bean
     public Step updateStatisticsStep() {
         return new StepBuilder("updateStatisticsStep", jobRepository)
-                .tasklet(updateStatisticsTasklet(), transactionManager)
+                .tasklet(updateStatisticsTasklet(null), transactionManager)
+                .listener(stepExecutionLogListener)
+                .build();
+    }
+
+    /**
+     * Step 2-1: SAMPLE 근사 프로파일링 (batch.profiling.enabled)
+     * - SAMPLE ID 구간별 워커가 스케치를 만들고 SampleProfileAggregator가 병합하여
+     *   JobExecution ExecutionContext와 SAMPLE_PROFILE에 저장
+     * - 구간 분할은 MIN/MAX(ID)만 조회 (readOnlyDataSource)
+     */
+    @Bean
+    public Step sampleProfileStep() {
+        return executionModeSupport.partitionStep(JOB_NAME, "sampleProfileStep", sampleProfileWorkerStep(),
+                new SampleProfilePartitioner(new JdbcTemplate(readOnlyDataSource)), sampleProfileAggregator);
+    }
+
+    /**
+     * SAMPLE 근사 프로파일링 워커 Step
+     * - 조회는 Tasklet이 읽기 전용 트랜잭션으로 수행하므로 Step 트랜잭션은 커넥션을 잡지 않음
+     */
+    @Bean
+    public Step sampleProfileWorkerStep() {
+        return new StepBuilder("sampleProfileWorkerStep", jobRepository)
+                .tasklet(sampleProfileTasklet(), new ResourcelessTransactionManager())
                 .listener(stepExecutionLogListener)
                 .build();
     }
 
     /**
      * Step 3: 데이터 아카이빙
+     * - 이동 묶음은 Tasklet이 직접 커밋하므로 Step 트랜잭션은 커넥션을 잡지 않음
      */
     @Bean
     public Step archiveDataStep() {
         return new StepBuilder("archiveDataStep", jobRepository)
-                .tasklet(archiveDataTasklet(), transactionManager)
+                .tasklet(archiveDataTasklet(), new ResourcelessTransactionManager())
                 .listener(stepExecutionLogListener)
                 .build();
     }
 
     /**
      * 오래된 데이터 정리 Tasklet
+     * - 보관 기간(batch.purge.retention-days, Job 파라미터 retentionDays)이 지난 SAMPLE_RESULT 삭제
+     * - PostgreSQL Range 파티션 테이블이면 미래 파티션 생성 + 만료 파티션 DETACH/DROP
+     *   (sql/postgresql/sample_result_partitioned.sql)
+     * - 그 외(H2 등)는 ID 순 분할 삭제: 묶음마다 커밋하고 마지막 삭제 ID를 저장하므로 재시작 시 이어서 삭제
      */
     @Bean
-    public Tasklet cleanupOldDataTasklet() {
-        return (contribution, chunkContext) -> {
-            log.info("Starting cleanup of old data...");
-            
-            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-            
-            int deletedCount = jdbcTemplate.update(
-                "DELETE FROM SAMPLE_RESULT WHERE PROCESSED_AT < ?",
-                cutoffDate
-            );
-            
-            log.info("Cleaned up {} old records", deletedCount);
-            
-            // ExecutionContext에 결과 저장
-            chunkContext.getStepContext()
-                    .getStepExecution()
-                    .getExecutionContext()
-                    .putInt("deletedCount", deletedCount);
-            
-            return RepeatStatus.FINISHED;
-        };
+    @StepScope
+    public PartitionRetentionTasklet cleanupOldDataTasklet(
+            @Value("#{jobParameters['retentionDays']}") String retentionDays) {
+        BatchProperties.Purge properties = batchProperties.getPurge();
+        LocalDateTime cutoffDate = cutoffDate(retentionDays);
+        log.info("Starting cleanup of SAMPLE_RESULT processed before {}", cutoffDate);
+
+        ChunkedPurgeTasklet purge = new ChunkedPurgeTasklet();
+        purge.setName("cleanupOldData");
+        purge.setDataSource(dataSource);
+        purge.setTransactionManager(transactionManager);
+        purge.setTableName("SAMPLE_RESULT");
+        purge.setCondition("PROCESSED_AT < ?");
+        purge.setConditionParameters(Timestamp.valueOf(cutoffDate));
+        purge.setBatchSize(properties.getBatchSize());
+        purge.setRowsPerSecond(properties.getRowsPerSecond());
+        if (properties.isCreateIndex()) {
+            purge.setIndex(PURGE_INDEX, "PROCESSED_AT");
+        }
+        purge.afterPropertiesSet();
+
+        PartitionRetentionTasklet tasklet = new PartitionRetentionTasklet();
+        tasklet.setName("cleanupOldData");
+        tasklet.setDataSource(dataSource);
+        tasklet.setTableName("SAMPLE_RESULT");
+        tasklet.setCutoff(cutoffDate);
+        tasklet.setInterval(properties.getPartitionInterval());
+        tasklet.setPremakePartitions(properties.getPremakePartitions());
+        tasklet.setDetachConcurrently(properties.isDetachConcurrently());
+        tasklet.setFallback(purge);
+        return tasklet;
+    }
+
+    /**
+     * 원격 청크 영수증 분할 삭제 Tasklet
+     * - 영수증은 매니저 실행 중 재전달된 요청의 중복 적재를 막는 용도이므로, 보관 기간(retentionDays)이 지난 영수증 삭제
+     * - JOB_EXECUTION_ID 순으로 삭제하며, 한 묶음은 경계 JobExecution의 영수증을 모두 포함하므로 batchSize를 넘을 수 있음
+     */
+    @Bean
+    @StepScope
+    public ChunkedPurgeTasklet purgeRemoteChunkTasklet(
+            @Value("#{jobParameters['retentionDays']}") String retentionDays) {
+        BatchProperties.Purge properties = batchProperties.getPurge();
+        LocalDateTime cutoffDate = cutoffDate(retentionDays);
+        log.info("Starting cleanup of BATCH_REMOTE_CHUNK completed before {}", cutoffDate);
+
+        ChunkedPurgeTasklet tasklet = new ChunkedPurgeTasklet();
+        tasklet.setName("purgeRemoteChunk");
+        tasklet.setDataSource(dataSource);
+        tasklet.setTransactionManager(transactionManager);
+        tasklet.setTableName("BATCH_REMOTE_CHUNK");
+        tasklet.setKeyColumn("JOB_EXECUTION_ID");
+        tasklet.setCondition("COMPLETED_AT < ?");
+        tasklet.setConditionParameters(Timestamp.valueOf(cutoffDate));
+        tasklet.setBatchSize(properties.getBatchSize());
+        tasklet.setRowsPerSecond(properties.getRowsPerSecond());
+        if (properties.isCreateIndex()) {
+            tasklet.setIndex(REMOTE_CHUNK_PURGE_INDEX, "JOB_EXECUTION_ID");
+        }
+        return tasklet;
+    }
+
+    private LocalDateTime cutoffDate(String retentionDays) {
+        int days = retentionDays != null && !retentionDays.isEmpty()
+                ? Integer.parseInt(retentionDays)
+                : batchProperties.getPurge().getRetentionDays();
+        return LocalDateTime.now().minusDays(days);
     }
 
     /**
      * 통계 업데이트 Tasklet
+     * - SAMPLE을 집계하지 않고 증분 유지되는 SAMPLE_STATISTICS(상태별 슬롯 합계)를 읽어 로그/메트릭으로 게시
+     * - Job 파라미터 reconcile=true 이면 게시 전에 SAMPLE 전체 집계로 보정 (기본은 batch.statistics.reconcile-interval 주기)
      */
     @Bean
-    public Tasklet updateStatisticsTasklet() {
+    @StepScope
+    public Tasklet updateStatisticsTasklet(@Value("#{jobParameters['reconcile']}") String reconcile) {
         return (contribution, chunkContext) -> {
             log.info("Updating statistics...");
-            
-            // 상태별 건수 조회
-            jdbcTemplate.query(
-                "SELECT STATUS, COUNT(*) as CNT FROM SAMPLE GROUP BY STATUS",
-                (rs) -> {
-                    String status = rs.getString("STATUS");
-                    int count = rs.getInt("CNT");
-                    log.info("Status: {} - Count: {}", status, count);
-                }
-            );
-            
+
+            if (Boolean.parseBoolean(reconcile)) {
+                sampleStatisticsService.reconcile();
+            }
+            sampleStatisticsService.refresh().forEach(statistics ->
+                    log.info("Status: {} - Count: {}, Amount: {}, Processed: {}", statistics.getStatus(),
+                            statistics.getCount(), statistics.getAmountSum(), statistics.getProcessedCount()));
+
             return RepeatStatus.FINISHED;
         };
     }
 
+    /**
+     * SAMPLE 근사 프로파일링 Tasklet
+     * - updateStatisticsTasklet의 전체 보정(reconcile)처럼 GROUP BY 집계를 하지 않고,
+     *   파티션 구간을 한 번 스트리밍하며 고유 NAME 수(HyperLogLog), AMOUNT 분위수(KLL), 빈도 상위 NAME을 추정
+     * - 레플리카 사용 시 레플리카에서 조회 (readOnlyDataSource, 지연 초과 시 Primary)
+     */
+    @Bean
+    public SampleProfileTasklet sampleProfileTasklet() {
+        BatchProperties.Profiling properties = batchProperties.getProfiling();
+
+        SampleProfileTasklet tasklet = new SampleProfileTasklet();
+        tasklet.setDataSource(readOnlyDataSource);
+        tasklet.setFetchSize(batchProperties.getFetchSize());
+        tasklet.setHllPrecision(properties.getHllPrecision());
+        tasklet.setQuantileK(properties.getQuantileK());
+        tasklet.setFrequentItemsCapacity(properties.getFrequentItemsCapacity());
+        return tasklet;
+    }
+
     /**
      * 데이터 아카이빙 Tasklet
+     * - 처리 완료(PROCESSED = TRUE, STATUS = 'ACTIVE') SAMPLE을 ID 순으로 SAMPLE_ARCHIVE에 옮기고 SAMPLE에서 삭제
+     * - SAMPLE_RESULT가 SAMPLE을 참조(FK)하므로 결과가 남은 SAMPLE은 제외 (보관 기간이 지나 Step 1에서 결과가 삭제된 뒤 이동)
+     * - 묶음마다 커밋하고 마지막 이동 ID를 저장하므로 재시작 시 이어서 이동
+     * - 미처리(PROCESSED = FALSE) 행은 대상이 아니므로 실행 중인 sampleJob이 읽고 갱신하는 행을 잠그지 않음
+     * - 옮기는 행의 상태별 건수/금액을 같은 트랜잭션에서 SAMPLE_STATISTICS에서 뺌
      */
     @Bean
-    public Tasklet archiveDataTasklet() {
-        return (contribution, chunkContext) -> {
-            log.info("Archiving completed data...");
-            
-            // 처리 완료된 데이터 상태 변경
-            int archivedCount = jdbcTemplate.update(
-                "UPDATE SAMPLE SET STATUS = 'ARCHIVED' WHERE PROCESSED = TRUE AND STATUS = 'ACTIVE'"
-            );
-            
-            log.info("Archived {} records", archivedCount);
-            
-            return RepeatStatus.FINISHED;
-        };
+    public ChunkedArchiveTasklet archiveDataTasklet() {
+        BatchProperties.Archive properties = batchProperties.getArchive();
+
+        ChunkedArchiveTasklet tasklet = new ChunkedArchiveTasklet();
+        tasklet.setName("archiveData");
+        tasklet.setDataSource(dataSource);
+        tasklet.setTransactionManager(transactionManager);
+        tasklet.setTableName("SAMPLE");
+        tasklet.setArchiveTableName("SAMPLE_ARCHIVE");
+        tasklet.setColumns("ID", "NAME", "DESCRIPTION", "STATUS", "AMOUNT", "PROCESSED",
+                "CREATED_AT", "UPDATED_AT", "CREATED_BY", "UPDATED_BY");
+        tasklet.setArchivedAtColumn("ARCHIVED_AT");
+        tasklet.setCondition("PROCESSED = TRUE AND STATUS = 'ACTIVE'"
+                + " AND NOT EXISTS (SELECT 1 FROM SAMPLE_RESULT R WHERE R.SAMPLE_ID = SAMPLE.ID)");
+        tasklet.setBatchSize(properties.getBatchSize());
+        tasklet.setRowsPerSecond(properties.getRowsPerSecond());
+        tasklet.setBatchCallback(sampleStatisticsService::recordRemoved);
+        if (properties.isCreateIndex()) {
+            tasklet.setIndex(ARCHIVE_INDEX, "SAMPLE_RESULT", "SAMPLE_ID");
+        }
+        return tasklet;
     }
 }
@@ -0,0 +1,137 @@
+package com.framework.springbatch.batch.job.support;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.ExecutionMode;
+import com.framework.springbatch.batch.executor.ConnectionBudgetCoordinator;
+import com.framework.springbatch.batch.partition.DatabasePartitionHandler;
+import com.framework.springbatch.batch.partition.PartitionRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.support.DefaultStepExecutionAggregator;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.partition.support.StepExecutionAggregator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.AbstractTaskletStepBuilder;
+import org.springframework.batch.core.step.builder.PartitionStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.SynchronizedItemStreamReader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Chunk Job 실행 방식 지원
+ * - batch.execution.jobs.<jobName> 설정으로 코드 변경 없이 SINGLE / MULTI_THREADED / PARTITIONED 전환
+ * - MULTI_THREADED: batchTaskExecutor + throttleLimit으로 청크 병렬 처리, Reader는 동기화 래퍼로 감쌈
+ * - PARTITIONED: partitionTaskExecutor(또는 원격 파티셔닝 DB 큐)로 워커 Step 병렬 실행
+ * - 로컬 청크/파티션 워커는 커넥션 예산(ConnectionBudgetCoordinator) permit을 얻은 뒤 실행
+ *
+ * 재시작 의미:
+ * - SINGLE, PARTITIONED: Reader(파티션) 위치를 저장하므로 마지막 커밋 이후부터 이어서 처리
+ * - MULTI_THREADED: 청크가 순서 없이 커밋되어 Reader 위치를 저장할 수 없음.
+ *   미처리 조건(PROCESSED = FALSE)으로 다시 조회할 수 있는 Job만 이 방식을 지원하고 재시작 시 처음부터 재조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExecutionModeSupport {
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final BatchProperties batchProperties;
+    private final PartitionRequestRepository partitionRequestRepository;
+    private final ConnectionBudgetCoordinator connectionBudgetCoordinator;
+
+    @Qualifier("batchTaskExecutor")
+    private final TaskExecutor batchTaskExecutor;
+
+    @Qualifier("partitionTaskExecutor")
+    private final TaskExecutor partitionTaskExecutor;
+
+    /**
+     * Job 실행 방식 조회
+     */
+    public ExecutionMode getMode(String jobName, ExecutionMode defaultMode) {
+        return batchProperties.getExecution().getMode(jobName, defaultMode);
+    }
+
+    public boolean isMultiThreaded(String jobName, ExecutionMode defaultMode) {
+        return getMode(jobName, defaultMode) == ExecutionMode.MULTI_THREADED;
+    }
+
+    /**
+     * 멀티 스레드 실행이면 Reader를 동기화 래퍼로 감쌈
+     * - 호출 전에 Reader의 saveState를 해제해야 함 (isMultiThreaded 참고)
+     */
+    public <T> ItemStreamReader<T> synchronize(String jobName, ExecutionMode defaultMode, ItemStreamReader<T> reader) {
+        if (!isMultiThreaded(jobName, defaultMode)) {
+            return reader;
+        }
+        SynchronizedItemStreamReader<T> synchronizedReader = new SynchronizedItemStreamReader<>();
+        synchronizedReader.setDelegate(reader);
+        return synchronizedReader;
+    }
+
+    /**
+     * 멀티 스레드 실행이면 Chunk Step에 batchTaskExecutor와 throttleLimit 적용
+     * - throttleLimit은 커넥션 예산 안에서 동시에 실행할 수 있는 워커 수로 제한
+     */
+    @SuppressWarnings("removal")
+    public void configure(String jobName, ExecutionMode defaultMode, AbstractTaskletStepBuilder<?> builder) {
+        if (!isMultiThreaded(jobName, defaultMode)) {
+            return;
+        }
+        int throttleLimit = connectionBudgetCoordinator.limitConcurrency(jobName, batchProperties.getThrottleLimit());
+        log.info("Job [{}] runs chunks on batchTaskExecutor (throttleLimit={}, connection budget {} workers); "
+                        + "restart re-reads unprocessed rows",
+                jobName, throttleLimit, connectionBudgetCoordinator.getMaxWorkers(jobName));
+        builder.taskExecutor(connectionBudgetCoordinator.workerExecutor(jobName, "chunk", batchTaskExecutor))
+                .throttleLimit(throttleLimit);
+    }
+
+    /**
+     * 파티션 마스터 Step 생성
+     * - batch.partition.remote.enabled 이면 DB 큐로 모든 노드에 분배, 아니면 partitionTaskExecutor에서 실행
+     * - 로컬 실행 시 파티션 워커는 jobName의 워커당 커넥션 수만큼 permit을 얻은 뒤 실행
+     */
+    public Step partitionStep(String jobName, String stepName, Step workerStep, Partitioner partitioner) {
+        return partitionStep(jobName, stepName, workerStep, partitioner, new DefaultStepExecutionAggregator());
+    }
+
+    /**
+     * 파티션 마스터 Step 생성 (워커 StepExecution 병합 방식 지정)
+     * - aggregator는 워커 종료 후 마스터 StepExecution으로 결과를 모음 (예: 파티션별 ExecutionContext 병합)
+     */
+    public Step partitionStep(String jobName, String stepName, Step workerStep, Partitioner partitioner,
+                              StepExecutionAggregator aggregator) {
+        PartitionStepBuilder builder = new StepBuilder(stepName, jobRepository)
+                .partitioner(workerStep.getName(), partitioner)
+                .aggregator(aggregator);
+
+        BatchProperties.Partition.Remote remote = batchProperties.getPartition().getRemote();
+        if (remote.isEnabled()) {
+            DatabasePartitionHandler handler = new DatabasePartitionHandler();
+            handler.setPartitionRequestRepository(partitionRequestRepository);
+            handler.setJobExplorer(jobExplorer);
+            handler.setJobRepository(jobRepository);
+            handler.setStepName(workerStep.getName());
+            handler.setGridSize(batchProperties.getGridSize());
+            handler.setPollInterval(Duration.ofMillis(remote.getPollInterval()));
+            handler.setTimeout(Duration.ofMillis(remote.getTimeout()));
+            handler.setClaimTimeout(Duration.ofMillis(remote.getClaimTimeout()));
+            handler.afterPropertiesSet();
+            return builder.partitionHandler(handler).build();
+        }
+
+        return builder
+                .step(workerStep)
+                .gridSize(batchProperties.getGridSize())
+                .taskExecutor(connectionBudgetCoordinator.workerExecutor(jobName, "partition", partitionTaskExecutor))
+                .build();
+    }
+}
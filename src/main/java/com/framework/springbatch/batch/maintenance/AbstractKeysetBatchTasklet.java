@@ -0,0 +1,363 @@
+package com.framework.springbatch.batch.maintenance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyset 묶음 처리 Tasklet 기반 클래스
+ * - 조건에 맞는 행을 키 오름차순 batchSize 건씩 나누어 처리하고, 묶음마다 별도 트랜잭션으로 커밋
+ *   1) SELECT key FROM table WHERE key > :lastKey AND (condition) ORDER BY key (최대 batchSize 건)
+ *   2) processBatch(lastKey, upperKey): key > :lastKey AND key <= :upperKey AND (condition) 구간 처리
+ * - 묶음마다 CONTINUABLE을 반환하므로 Step이 ExecutionContext(마지막 처리 키, 누적 건수)를 저장하고,
+ *   재시작 시 마지막 처리 키 이후부터 이어서 처리
+ * - rowsPerSecond > 0 이면 묶음 사이에 대기하여 초당 처리 건수 제한 (복제 지연, WAL/Undo 증가 완화)
+ * - indexName/indexColumns 지정 시 첫 실행에서 조건 컬럼 인덱스 생성 (PostgreSQL은 CONCURRENTLY)
+ * - batchCallback 지정 시 묶음 처리 직전 같은 트랜잭션에서 호출 (예: 통계 증분 반영)
+ *
+ * 묶음은 transactionManager 트랜잭션에서 처리하므로 Step 트랜잭션은 ResourcelessTransactionManager로 지정한다.
+ * (Step 트랜잭션이 커넥션을 잡지 않아 대기 중에 커넥션과 잠금을 점유하지 않음)
+ * 묶음 커밋 후 ExecutionContext 저장 전에 장애가 나면 재시작 시 같은 구간을 다시 조회하므로,
+ * 하위 클래스는 처리된 행이 조건에서 빠지도록(삭제, 이동 등) 구현해야 한다.
+ */
+@Slf4j
+public abstract class AbstractKeysetBatchTasklet implements Tasklet, InitializingBean {
+
+    private static final String LAST_KEY = "lastKey";
+    private static final String BATCH_COUNT = "batchCount";
+
+    private final String operation;
+    private final String countKey;
+
+    private String name;
+    private DataSource dataSource;
+    private PlatformTransactionManager transactionManager;
+    private String tableName;
+    private String keyColumn = "ID";
+    private String condition;
+    private Object[] conditionParameters = new Object[0];
+    private int batchSize = 5000;
+    private int rowsPerSecond = 0;
+    private String indexName;
+    private String indexTableName;
+    private String indexColumns;
+    private BatchCallback batchCallback;
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplate selectTemplate;
+    private TransactionTemplate transactionTemplate;
+    private String selectSql;
+    private String rangeCondition;
+    private boolean indexChecked;
+
+    /**
+     * @param operation 로그 표시명 (예: Purge)
+     * @param countKey  누적 처리 건수 ExecutionContext 키 (예: deletedCount)
+     */
+    protected AbstractKeysetBatchTasklet(String operation, String countKey) {
+        this.operation = operation;
+        this.countKey = countKey;
+    }
+
+    /**
+     * ExecutionContext 키 접두어
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    /**
+     * 정렬/재시작 기준 키 컬럼 (숫자형 PK, 기본 ID)
+     */
+    public void setKeyColumn(String keyColumn) {
+        this.keyColumn = keyColumn;
+    }
+
+    /**
+     * 처리 대상 조건 (WHERE 절 조각, 예: "PROCESSED_AT < ?")
+     */
+    public void setCondition(String condition) {
+        this.condition = condition;
+    }
+
+    public void setConditionParameters(Object... conditionParameters) {
+        this.conditionParameters = conditionParameters;
+    }
+
+    /**
+     * 묶음(트랜잭션) 당 처리 건수
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 초당 처리 건수 제한 (0: 제한 없음)
+     */
+    public void setRowsPerSecond(int rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    /**
+     * 조건 컬럼 인덱스 (지정하지 않으면 생성하지 않음)
+     */
+    public void setIndex(String indexName, String indexColumns) {
+        setIndex(indexName, null, indexColumns);
+    }
+
+    /**
+     * 다른 테이블의 조건 컬럼 인덱스 (예: NOT EXISTS 하위 조회 대상, null이면 tableName)
+     */
+    public void setIndex(String indexName, String indexTableName, String indexColumns) {
+        this.indexName = indexName;
+        this.indexTableName = indexTableName;
+        this.indexColumns = indexColumns;
+    }
+
+    /**
+     * 묶음 처리 직전 콜백 (지정하지 않으면 호출하지 않음)
+     */
+    public void setBatchCallback(BatchCallback batchCallback) {
+        this.batchCallback = batchCallback;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.hasText(name, "name is required");
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.notNull(transactionManager, "transactionManager is required");
+        Assert.hasText(tableName, "tableName is required");
+        Assert.hasText(keyColumn, "keyColumn is required");
+        Assert.hasText(condition, "condition is required");
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than zero");
+        Assert.isTrue(rowsPerSecond >= 0, "rowsPerSecond must not be negative");
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        selectTemplate = new JdbcTemplate(dataSource);
+        selectTemplate.setMaxRows(batchSize);
+        selectTemplate.setFetchSize(batchSize);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        selectSql = "SELECT " + keyColumn + " FROM " + tableName
+                + " WHERE " + keyColumn + " > ? AND (" + condition + ") ORDER BY " + keyColumn
+                + getSelectSuffix();
+        rangeCondition = keyColumn + " > ? AND " + keyColumn + " <= ? AND (" + condition + ")";
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (!indexChecked) {
+            createIndex();
+            indexChecked = true;
+        }
+
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastKey = context.getLong(key(LAST_KEY), Long.MIN_VALUE);
+
+        long started = System.nanoTime();
+        KeyBatch batch = transactionTemplate.execute(status -> executeBatch(lastKey));
+        if (batch == null) {
+            log.info("{} [{}] finished: {} rows in {} batches",
+                    operation, name, context.getLong(key(countKey), 0L), context.getLong(key(BATCH_COUNT), 0L));
+            return RepeatStatus.FINISHED;
+        }
+
+        long totalCount = context.getLong(key(countKey), 0L) + batch.processed();
+        long batchCount = context.getLong(key(BATCH_COUNT), 0L) + 1;
+        context.putLong(key(LAST_KEY), batch.upperKey());
+        context.putLong(key(countKey), totalCount);
+        context.putLong(key(BATCH_COUNT), batchCount);
+        contribution.incrementWriteCount(batch.processed());
+
+        log.debug("{} [{}] batch {}: {} rows up to key {} (total {})",
+                operation, name, batchCount, batch.processed(), batch.upperKey(), totalCount);
+
+        throttle(batch.processed(), System.nanoTime() - started);
+        if (batch.selected() < batchSize) {
+            log.info("{} [{}] finished: {} rows in {} batches", operation, name, totalCount, batchCount);
+            return RepeatStatus.FINISHED;
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * 묶음 구간 처리 (transactionManager 트랜잭션 안에서 호출)
+     * - 구간 조건: key > lastKey AND key <= upperKey AND (condition), parameters(lastKey, upperKey)로 바인딩
+     *
+     * @return 처리 건수
+     */
+    protected abstract int processBatch(long lastKey, long upperKey);
+
+    /**
+     * 키 조회 SQL 뒤에 붙일 절 (예: " FOR UPDATE", 기본 없음)
+     */
+    protected String getSelectSuffix() {
+        return "";
+    }
+
+    protected JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    protected String getName() {
+        return name;
+    }
+
+    protected String getTableName() {
+        return tableName;
+    }
+
+    protected String getKeyColumn() {
+        return keyColumn;
+    }
+
+    protected String getCondition() {
+        return condition;
+    }
+
+    /**
+     * 묶음 구간 조건 (key > ? AND key <= ? AND (condition), parameters(lastKey, upperKey)로 바인딩)
+     */
+    protected String getRangeCondition() {
+        return rangeCondition;
+    }
+
+    /**
+     * 키 파라미터 뒤에 조건 파라미터를 이어 붙인 바인딩 값
+     */
+    protected Object[] parameters(Object... keys) {
+        Object[] parameters = new Object[keys.length + conditionParameters.length];
+        System.arraycopy(keys, 0, parameters, 0, keys.length);
+        System.arraycopy(conditionParameters, 0, parameters, keys.length, conditionParameters.length);
+        return parameters;
+    }
+
+    /**
+     * 묶음 처리 (lastKey 이후 batchSize 건)
+     *
+     * @return 처리 결과 (대상이 없으면 null)
+     */
+    private KeyBatch executeBatch(long lastKey) {
+        List<Long> keys = selectTemplate.queryForList(selectSql, Long.class, parameters(lastKey));
+        if (keys.isEmpty()) {
+            return null;
+        }
+        long upperKey = keys.get(keys.size() - 1);
+        if (batchCallback != null) {
+            batchCallback.beforeBatch(rangeCondition, parameters(lastKey, upperKey));
+        }
+        int processed = processBatch(lastKey, upperKey);
+        return new KeyBatch(keys.size(), processed, upperKey);
+    }
+
+    /**
+     * 초당 처리 건수를 맞추도록 남은 시간만큼 대기 (트랜잭션 밖에서 실행)
+     */
+    private void throttle(int processed, long elapsedNanos) throws InterruptedException {
+        if (rowsPerSecond <= 0 || processed == 0) {
+            return;
+        }
+        long targetNanos = TimeUnit.SECONDS.toNanos(processed) / rowsPerSecond;
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(targetNanos - elapsedNanos);
+        if (waitMillis > 0) {
+            Thread.sleep(waitMillis);
+        }
+    }
+
+    /**
+     * 조건 컬럼 인덱스 생성
+     * - 트랜잭션 밖(autoCommit)에서 실행 (PostgreSQL CREATE INDEX CONCURRENTLY는 트랜잭션 안에서 실행 불가)
+     * - PostgreSQL은 이전 CONCURRENTLY 생성이 중단되어 남은 INVALID 인덱스를 삭제 후 다시 생성
+     *   (IF NOT EXISTS는 INVALID 인덱스도 있는 것으로 보고 건너뛰므로 조회에 쓰이지 않는 인덱스가 계속 남음)
+     * - 실패해도 처리는 계속 진행 (키 순서 조회는 PK로 가능)
+     */
+    private void createIndex() {
+        if (!StringUtils.hasText(indexName) || !StringUtils.hasText(indexColumns)) {
+            return;
+        }
+        String table = StringUtils.hasText(indexTableName) ? indexTableName : tableName;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            String sql = "CREATE INDEX " + (postgres ? "CONCURRENTLY " : "") + "IF NOT EXISTS "
+                    + indexName + " ON " + table + " (" + indexColumns + ")";
+            if (!connection.getAutoCommit()) {
+                connection.setAutoCommit(true);
+            }
+            try (Statement statement = connection.createStatement()) {
+                if (postgres && isInvalidIndex(connection)) {
+                    log.warn("{} [{}] dropping invalid index {} left by an interrupted build", operation, name, indexName);
+                    statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+                }
+                statement.execute(sql);
+            }
+            log.info("{} [{}] index ready: {}", operation, name, indexName);
+        } catch (Exception e) {
+            log.warn("{} [{}] failed to create index {}: {}", operation, name, indexName, e.getMessage());
+        }
+    }
+
+    /**
+     * PostgreSQL 인덱스가 INVALID(pg_index.indisvalid = false)인지 여부 (search_path에서 보이는 인덱스 기준)
+     */
+    private boolean isInvalidIndex(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT i.indisvalid FROM pg_class c JOIN pg_index i ON i.indexrelid = c.oid "
+                        + "WHERE c.relname = ? AND c.relkind = 'i' AND pg_table_is_visible(c.oid)")) {
+            statement.setString(1, indexName.toLowerCase(Locale.ROOT));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && !resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private String key(String suffix) {
+        return name + "." + suffix;
+    }
+
+    /**
+     * 묶음 처리 직전 콜백
+     */
+    @FunctionalInterface
+    public interface BatchCallback {
+
+        /**
+         * @param rangeCondition 묶음 구간 조건 (key > ? AND key <= ? AND (condition))
+         * @param parameters     rangeCondition 바인딩 값
+         */
+        void beforeBatch(String rangeCondition, Object[] parameters);
+    }
+
+    private record KeyBatch(int selected, int processed, long upperKey) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.framework.springbatch.batch.maintenance;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * 분할 아카이브 Tasklet
+ * - 조건에 맞는 행을 키 오름차순 batchSize 건씩 아카이브 테이블로 옮기고, 묶음마다 별도 트랜잭션으로 커밋
+ *   1) SELECT key FROM table WHERE key > :lastKey AND (condition) ORDER BY key FOR UPDATE (최대 batchSize 건)
+ *   2) INSERT INTO archive (columns, archivedAt) SELECT columns, CURRENT_TIMESTAMP FROM table WHERE 구간 AND (condition)
+ *   3) DELETE FROM table WHERE 구간 AND (condition) AND EXISTS (archive에 같은 키)
+ * - ExecutionContext 키: {name}.lastKey, {name}.archivedCount, {name}.batchCount
+ * - 재시작, 속도 제한, 인덱스 생성은 AbstractKeysetBatchTasklet 참고
+ *
+ * 대상 행은 1)에서 잠그므로 INSERT와 DELETE 사이에 조건이 바뀌지 않고,
+ * 그 사이 새로 조건에 맞게 된 행은 아카이브에 없으면 삭제하지 않는다 (아카이브 없이 삭제되는 행 없음).
+ * 다른 작업이 잠근 행이 대상에 있으면 그 트랜잭션이 끝날 때까지 기다리므로,
+ * 조건은 처리 중인 행(예: PROCESSED = FALSE)과 겹치지 않게 지정한다.
+ * 묶음 커밋 후 ExecutionContext 저장 전에 장애가 나면 재시작 시 같은 구간을 다시 조회하며, 이미 옮긴 행은 대상에서 빠진다.
+ */
+public class ChunkedArchiveTasklet extends AbstractKeysetBatchTasklet {
+
+    private String archiveTableName;
+    private String[] columns;
+    private String archivedAtColumn;
+
+    private String insertSql;
+    private String deleteSql;
+
+    public ChunkedArchiveTasklet() {
+        super("Archive", "archivedCount");
+    }
+
+    public void setArchiveTableName(String archiveTableName) {
+        this.archiveTableName = archiveTableName;
+    }
+
+    /**
+     * 옮길 컬럼 (키 컬럼 포함, 원본/아카이브 테이블 공통 컬럼명)
+     */
+    public void setColumns(String... columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * 아카이브 시각 컬럼 (지정하지 않으면 기록하지 않음)
+     */
+    public void setArchivedAtColumn(String archivedAtColumn) {
+        this.archivedAtColumn = archivedAtColumn;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        Assert.hasText(archiveTableName, "archiveTableName is required");
+        Assert.notEmpty(columns, "columns is required");
+
+        String table = getTableName();
+        String key = getKeyColumn();
+        String columnList = String.join(", ", columns);
+        String range = getRangeCondition();
+        boolean archivedAt = StringUtils.hasText(archivedAtColumn);
+
+        insertSql = "INSERT INTO " + archiveTableName
+                + " (" + columnList + (archivedAt ? ", " + archivedAtColumn : "") + ")"
+                + " SELECT " + columnList + (archivedAt ? ", CURRENT_TIMESTAMP" : "")
+                + " FROM " + table + " WHERE " + range;
+        deleteSql = "DELETE FROM " + table + " WHERE " + range
+                + " AND EXISTS (SELECT 1 FROM " + archiveTableName + " A"
+                + " WHERE A." + key + " = " + table + "." + key + ")";
+    }
+
+    @Override
+    protected String getSelectSuffix() {
+        return " FOR UPDATE";
+    }
+
+    @Override
+    protected int processBatch(long lastKey, long upperKey) {
+        int inserted = getJdbcTemplate().update(insertSql, parameters(lastKey, upperKey));
+        int deleted = getJdbcTemplate().update(deleteSql, parameters(lastKey, upperKey));
+        if (inserted != deleted) {
+            throw new IllegalStateException("Archive [" + getName() + "] row count mismatch between "
+                    + lastKey + " and " + upperKey + ": inserted=" + inserted + ", deleted=" + deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,31 @@
+package com.framework.springbatch.batch.maintenance;
+
+/**
+ * 분할 삭제(Purge) Tasklet
+ * - 조건에 맞는 행을 키 오름차순 batchSize 건씩 나누어 삭제하고, 묶음마다 별도 트랜잭션으로 커밋
+ *   1) SELECT key FROM table WHERE key > :lastKey AND (condition) ORDER BY key (최대 batchSize 건)
+ *   2) DELETE FROM table WHERE key > :lastKey AND key <= :upperKey AND (condition)
+ * - ExecutionContext 키: {name}.lastKey, {name}.deletedCount, {name}.batchCount
+ * - 재시작, 속도 제한, 인덱스 생성은 AbstractKeysetBatchTasklet 참고
+ *
+ * 묶음 커밋 후 ExecutionContext 저장 전에 장애가 나면 재시작 시 같은 묶음을 다시 조회하며, 이미 삭제된 행은 대상에서 빠진다.
+ */
+public class ChunkedPurgeTasklet extends AbstractKeysetBatchTasklet {
+
+    private String deleteSql;
+
+    public ChunkedPurgeTasklet() {
+        super("Purge", "deletedCount");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        deleteSql = "DELETE FROM " + getTableName() + " WHERE " + getRangeCondition();
+    }
+
+    @Override
+    protected int processBatch(long lastKey, long upperKey) {
+        return getJdbcTemplate().update(deleteSql, parameters(lastKey, upperKey));
+    }
+}
@@ -0,0 +1,287 @@
+package com.framework.springbatch.batch.maintenance;
+
+import com.framework.springbatch.batch.config.BatchProperties.PartitionInterval;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시간 Range 파티션 보관 기간 관리 Tasklet
+ * - PostgreSQL에서 대상 테이블이 Range 파티션 테이블이면
+ *   1) 현재 구간부터 premakePartitions 개 이후 구간까지 파티션을 미리 생성 (<table>_pYYYYMM / _pYYYYMMDD)
+ *   2) 상한이 cutoff 이하인(모든 행이 만료된) 파티션을 DETACH 후 DROP (행 수와 무관한 상수 시간)
+ * - 파티션 테이블이 아니면(H2, 파티션 미적용 PostgreSQL) fallback(ChunkedPurgeTasklet)으로 분할 삭제
+ *
+ * 파티션 단위로 삭제하므로 cutoff가 걸친 파티션의 만료 행은 파티션 전체가 만료될 때까지 남는다.
+ * 파티션 범위를 벗어난 행은 DEFAULT 파티션에 쌓이며, DEFAULT에 행이 있는 구간의 파티션은 만들 수 없으므로 경고만 남긴다.
+ * DDL은 트랜잭션 밖(autoCommit)에서 실행하므로 Step 트랜잭션은 ResourcelessTransactionManager로 지정한다.
+ * DETACH PARTITION ... CONCURRENTLY는 DEFAULT 파티션이 있는 테이블에서 거부되므로,
+ * detachConcurrently=true 여도 DEFAULT 파티션이 있으면 경고를 남기고 일반 DETACH(부모 테이블 ACCESS EXCLUSIVE 잠금)로 분리한다.
+ */
+@Slf4j
+public class PartitionRetentionTasklet implements Tasklet, InitializingBean {
+
+    private static final String PARTITIONED_SQL =
+            "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)";
+
+    private static final String DEFAULT_PARTITION_SQL =
+            "SELECT partdefid <> 0 FROM pg_partitioned_table WHERE partrelid = to_regclass(?)";
+
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i "
+                    + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass(?)";
+
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private String name;
+    private DataSource dataSource;
+    private String tableName;
+    private LocalDateTime cutoff;
+    private PartitionInterval interval = PartitionInterval.MONTH;
+    private int premakePartitions = 3;
+    private boolean detachConcurrently;
+    private Tasklet fallback;
+
+    private Boolean partitioned;
+
+    /**
+     * ExecutionContext 키 접두어
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    /**
+     * 보관 기준 시각 (상한이 이 시각 이하인 파티션 삭제)
+     */
+    public void setCutoff(LocalDateTime cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    public void setInterval(PartitionInterval interval) {
+        this.interval = interval;
+    }
+
+    public void setPremakePartitions(int premakePartitions) {
+        this.premakePartitions = premakePartitions;
+    }
+
+    public void setDetachConcurrently(boolean detachConcurrently) {
+        this.detachConcurrently = detachConcurrently;
+    }
+
+    /**
+     * 파티션 테이블이 아닐 때 실행할 Tasklet (분할 삭제)
+     */
+    public void setFallback(Tasklet fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.hasText(name, "name is required");
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.hasText(tableName, "tableName is required");
+        Assert.notNull(cutoff, "cutoff is required");
+        Assert.notNull(interval, "interval is required");
+        Assert.isTrue(premakePartitions >= 0, "premakePartitions must not be negative");
+        Assert.notNull(fallback, "fallback is required");
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (partitioned == null) {
+            partitioned = isPartitioned();
+            if (!partitioned) {
+                log.info("{} is not range-partitioned, falling back to chunked delete", tableName);
+            }
+        }
+        if (!partitioned) {
+            return fallback.execute(contribution, chunkContext);
+        }
+
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            int created = createPartitions(connection);
+            int dropped = dropExpiredPartitions(connection);
+            context.putInt(name + ".createdPartitions", created);
+            context.putInt(name + ".droppedPartitions", dropped);
+            log.info("{} partition maintenance: {} created, {} dropped (cutoff {})",
+                    tableName, created, dropped, cutoff);
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    private boolean isPartitioned() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(PARTITIONED_SQL)) {
+                statement.setString(1, tableName.toLowerCase(Locale.ROOT));
+                try (ResultSet rs = statement.executeQuery()) {
+                    return rs.next() && rs.getInt(1) > 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 구간부터 premakePartitions 개 이후 구간까지 파티션 생성
+     */
+    private int createPartitions(Connection connection) {
+        int created = 0;
+        LocalDate from = periodStart(LocalDate.now());
+        for (int i = 0; i <= premakePartitions; i++) {
+            LocalDate to = nextPeriod(from);
+            String partition = partitionName(from);
+            String sql = "CREATE TABLE " + partition + " PARTITION OF " + tableName
+                    + " FOR VALUES FROM ('" + BOUND_FORMAT.format(from.atStartOfDay()) + "')"
+                    + " TO ('" + BOUND_FORMAT.format(to.atStartOfDay()) + "')";
+            try {
+                if (!exists(connection, partition)) {
+                    execute(connection, sql);
+                    created++;
+                    log.info("Created partition {} [{}, {})", partition, from, to);
+                }
+            } catch (SQLException e) {
+                // 다른 이름의 파티션과 범위가 겹치거나 DEFAULT 파티션에 해당 구간 행이 있는 경우
+                log.warn("Failed to create partition {}: {}", partition, e.getMessage());
+            }
+            from = to;
+        }
+        return created;
+    }
+
+    /**
+     * 상한이 cutoff 이하인 파티션 분리 후 삭제
+     */
+    private int dropExpiredPartitions(Connection connection) throws SQLException {
+        Map<String, LocalDateTime> upperBounds = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(PARTITIONS_SQL)) {
+            statement.setString(1, tableName.toLowerCase(Locale.ROOT));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    LocalDateTime upperBound = parseUpperBound(rs.getString(2));
+                    if (upperBound != null) {
+                        upperBounds.put(rs.getString(1), upperBound);
+                    }
+                }
+            }
+        }
+
+        boolean concurrently = detachConcurrently;
+        if (concurrently && hasDefaultPartition(connection)) {
+            log.warn("{} has a DEFAULT partition, DETACH CONCURRENTLY is not allowed; using plain DETACH", tableName);
+            concurrently = false;
+        }
+
+        int dropped = 0;
+        for (Map.Entry<String, LocalDateTime> entry : upperBounds.entrySet()) {
+            if (entry.getValue().isAfter(cutoff)) {
+                continue;
+            }
+            String partition = entry.getKey();
+            try {
+                execute(connection, "ALTER TABLE " + tableName + " DETACH PARTITION " + partition
+                        + (concurrently ? " CONCURRENTLY" : ""));
+                execute(connection, "DROP TABLE " + partition);
+                dropped++;
+                log.info("Dropped expired partition {} (upper bound {})", partition, entry.getValue());
+            } catch (SQLException e) {
+                log.warn("Failed to drop partition {}: {}", partition, e.getMessage());
+            }
+        }
+        return dropped;
+    }
+
+    private boolean hasDefaultPartition(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DEFAULT_PARTITION_SQL)) {
+            statement.setString(1, tableName.toLowerCase(Locale.ROOT));
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * 파티션 상한 추출 (DEFAULT, MAXVALUE 파티션은 null)
+     */
+    private LocalDateTime parseUpperBound(String bound) {
+        if (bound == null) {
+            return null;
+        }
+        Matcher matcher = UPPER_BOUND.matcher(bound);
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            return Timestamp.valueOf(matcher.group(1)).toLocalDateTime();
+        } catch (IllegalArgumentException e) {
+            log.warn("Unrecognized partition bound: {}", bound);
+            return null;
+        }
+    }
+
+    private boolean exists(Connection connection, String relation) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            statement.setString(1, relation);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private LocalDate periodStart(LocalDate date) {
+        return interval == PartitionInterval.MONTH ? date.withDayOfMonth(1) : date;
+    }
+
+    private LocalDate nextPeriod(LocalDate start) {
+        return interval == PartitionInterval.MONTH ? start.plusMonths(1) : start.plusDays(1);
+    }
+
+    private String partitionName(LocalDate start) {
+        String suffix = interval == PartitionInterval.MONTH
+                ? DateTimeFormatter.ofPattern("yyyyMM").format(start)
+                : DateTimeFormatter.ofPattern("yyyyMMdd").format(start);
+        return tableName.toLowerCase(Locale.ROOT) + "_p" + suffix;
+    }
+}
@@ -0,0 +1,95 @@
+package com.framework.springbatch.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SAMPLE 파티셔너 기반 클래스
+ * - 처리 대상(PENDING_CONDITION) 샘플을 gridSize개 파티션으로 분할
+ * - 파티션별 예정 건수(plannedRows)를 ExecutionContext에 기록하고 분할 결과와 편차를 로그로 출력
+ *
+ * 파티션 ExecutionContext 키는 SamplePartitionCriteria가 Reader 조건으로 변환한다.
+ */
+@Slf4j
+public abstract class AbstractSamplePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+    public static final String MODULUS = "modulus";
+    public static final String REMAINDER = "remainder";
+    public static final String FROM_DATE = "fromDate";
+    public static final String TO_DATE = "toDate";
+    public static final String PLANNED_ROWS = "plannedRows";
+
+    /**
+     * 처리 대상 조건 (파티션 Reader 조회 조건과 같아야 예정 건수와 실제 처리 건수가 일치)
+     */
+    protected static final String PENDING_CONDITION = "PROCESSED = FALSE AND STATUS = 'ACTIVE'";
+
+    private static final String PARTITION_PREFIX = "partition";
+
+    protected final JdbcTemplate jdbcTemplate;
+
+    protected AbstractSamplePartitioner(JdbcTemplate jdbcTemplate) {
+        Assert.notNull(jdbcTemplate, "jdbcTemplate is required");
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Assert.isTrue(gridSize > 0, "gridSize must be greater than zero");
+
+        List<ExecutionContext> contexts = plan(gridSize);
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < contexts.size(); i++) {
+            partitions.put(PARTITION_PREFIX + i, contexts.get(i));
+        }
+
+        logPlan(partitions);
+        return partitions;
+    }
+
+    /**
+     * 파티션 계획 수립 (각 ExecutionContext에 조건 키와 PLANNED_ROWS 기록)
+     */
+    protected abstract List<ExecutionContext> plan(int gridSize);
+
+    private void logPlan(Map<String, ExecutionContext> partitions) {
+        if (partitions.isEmpty()) {
+            log.info("{}: no unprocessed rows to partition", getClass().getSimpleName());
+            return;
+        }
+
+        long total = 0;
+        long max = 0;
+        long min = Long.MAX_VALUE;
+        for (Map.Entry<String, ExecutionContext> entry : partitions.entrySet()) {
+            long planned = entry.getValue().getLong(PLANNED_ROWS, 0L);
+            total += planned;
+            max = Math.max(max, planned);
+            min = Math.min(min, planned);
+            log.info("{} {}: {} planned rows {}", getClass().getSimpleName(), entry.getKey(), planned,
+                    describe(entry.getValue()));
+        }
+
+        double average = (double) total / partitions.size();
+        double skew = average > 0 ? (max - average) / average * 100 : 0;
+        log.info("{}: {} partitions, {} rows (min={}, max={}, max skew={}%)",
+                getClass().getSimpleName(), partitions.size(), total, min, max, String.format("%.1f", skew));
+    }
+
+    private String describe(ExecutionContext context) {
+        Map<String, Object> criteria = new LinkedHashMap<>();
+        context.entrySet().stream()
+                .filter(entry -> !PLANNED_ROWS.equals(entry.getKey()))
+                .forEach(entry -> criteria.put(entry.getKey(), entry.getValue()));
+        return criteria.toString();
+    }
+}
@@ -0,0 +1,181 @@
+package com.framework.springbatch.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * DB 큐 기반 원격 PartitionHandler (매니저)
+ * - 워커 StepExecution을 로컬 스레드에서 실행하지 않고 BATCH_PARTITION_REQUEST 큐에 발행
+ * - 모든 노드의 PartitionRequestWorker가 요청을 할당받아 워커 Step을 실행하고 결과를 JobRepository에 기록
+ * - 매니저는 JobExplorer로 워커 StepExecution 상태를 조회하여 모두 종료될 때까지 대기
+ * - claimTimeout 안에 어떤 워커도 파티션을 가져가지 않거나(워커 노드 없음) 전체 timeout이 지나면
+ *   아직 할당되지 않은 요청을 취소하고 해당 StepExecution을 FAILED로 기록한 뒤 Step을 실패시킴
+ * - 대기가 끝나면(성공/실패 모두) 발행한 요청 행을 삭제
+ *
+ * 처리량은 매니저 노드의 스레드 수가 아닌 (노드 수 x workerConcurrency)에 비례한다.
+ */
+@Slf4j
+public class DatabasePartitionHandler extends AbstractPartitionHandler implements InitializingBean {
+
+    private PartitionRequestRepository partitionRequestRepository;
+    private JobExplorer jobExplorer;
+    private JobRepository jobRepository;
+    private String stepName;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration timeout = Duration.ofHours(6);
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    public void setPartitionRequestRepository(PartitionRequestRepository partitionRequestRepository) {
+        this.partitionRequestRepository = partitionRequestRepository;
+    }
+
+    public void setJobExplorer(JobExplorer jobExplorer) {
+        this.jobExplorer = jobExplorer;
+    }
+
+    /**
+     * 취소한 파티션 StepExecution 실패 기록용
+     */
+    public void setJobRepository(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * 워커 노드에서 실행할 Step Bean 이름
+     */
+    public void setStepName(String stepName) {
+        this.stepName = stepName;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * 전체 파티션 완료 대기 한도 (0: 무제한)
+     */
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * 첫 파티션이 워커에 할당되기까지의 대기 한도 (0: 무제한)
+     */
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(partitionRequestRepository, "partitionRequestRepository is required");
+        Assert.notNull(jobExplorer, "jobExplorer is required");
+        Assert.notNull(jobRepository, "jobRepository is required");
+        Assert.hasText(stepName, "stepName is required");
+        Assert.isTrue(!pollInterval.isNegative() && !pollInterval.isZero(), "pollInterval must be positive");
+        Assert.isTrue(!timeout.isNegative(), "timeout must not be negative");
+        Assert.isTrue(!claimTimeout.isNegative(), "claimTimeout must not be negative");
+    }
+
+    @Override
+    protected Set<StepExecution> doHandle(StepExecution managerStepExecution,
+                                          Set<StepExecution> partitionStepExecutions) throws Exception {
+        if (partitionStepExecutions.isEmpty()) {
+            return partitionStepExecutions;
+        }
+
+        partitionRequestRepository.publish(stepName, partitionStepExecutions);
+        log.info("Published {} remote partition requests for step [{}]", partitionStepExecutions.size(), stepName);
+
+        try {
+            return pollResults(partitionStepExecutions);
+        } finally {
+            // 결과는 JobRepository에 남으므로 요청 행은 대기가 끝나면 삭제 (재시작은 새 StepExecution으로 다시 발행)
+            partitionRequestRepository.purge(partitionStepExecutions.stream().map(StepExecution::getId).toList());
+        }
+    }
+
+    /**
+     * 워커 StepExecution이 모두 종료될 때까지 JobRepository 조회
+     * - 워커가 Step을 시작하면 STARTING에서 벗어나므로 이를 할당 여부로 판단
+     */
+    private Set<StepExecution> pollResults(Set<StepExecution> partitionStepExecutions) throws Exception {
+        Set<StepExecution> pending = new HashSet<>(partitionStepExecutions);
+        Set<StepExecution> finished = new HashSet<>();
+        long started = System.currentTimeMillis();
+        long deadline = timeout.isZero() ? Long.MAX_VALUE : started + timeout.toMillis();
+        long claimDeadline = claimTimeout.isZero() ? Long.MAX_VALUE : started + claimTimeout.toMillis();
+        boolean claimed = false;
+
+        while (!pending.isEmpty()) {
+            Iterator<StepExecution> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                StepExecution partition = iterator.next();
+                StepExecution current = jobExplorer.getStepExecution(
+                        partition.getJobExecutionId(), partition.getId());
+                if (current == null) {
+                    continue;
+                }
+                claimed |= current.getStatus() != BatchStatus.STARTING;
+                if (!current.getStatus().isRunning()) {
+                    finished.add(current);
+                    iterator.remove();
+                }
+            }
+            if (pending.isEmpty()) {
+                break;
+            }
+            long now = System.currentTimeMillis();
+            if (!claimed && now > claimDeadline) {
+                failUnclaimed(pending, "No worker claimed a remote partition within " + claimTimeout);
+                throw new TimeoutException("No worker claimed any of " + pending.size()
+                        + " remote partitions of step [" + stepName + "] within " + claimTimeout);
+            }
+            if (now > deadline) {
+                failUnclaimed(pending, "Remote partition timed out after " + timeout);
+                throw new TimeoutException("Timed out waiting for " + pending.size()
+                        + " remote partitions of step [" + stepName + "]");
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+        return finished;
+    }
+
+    /**
+     * 아직 할당되지 않은 요청을 취소하고 해당 StepExecution을 FAILED로 기록
+     * - 이미 워커가 실행 중인 파티션은 워커가 종료 상태를 기록
+     */
+    private void failUnclaimed(Set<StepExecution> pending, String reason) {
+        List<Long> cancelled = partitionRequestRepository.cancelUnclaimed(
+                pending.stream().map(StepExecution::getId).toList());
+        for (StepExecution partition : pending) {
+            if (!cancelled.contains(partition.getId())) {
+                continue;
+            }
+            StepExecution current = jobExplorer.getStepExecution(partition.getJobExecutionId(), partition.getId());
+            if (current == null) {
+                continue;
+            }
+            current.setStatus(BatchStatus.FAILED);
+            current.setExitStatus(ExitStatus.FAILED.addExitDescription(reason));
+            current.setEndTime(LocalDateTime.now());
+            jobRepository.update(current);
+        }
+        log.warn("Cancelled {} unclaimed remote partition requests of step [{}]: {}",
+                cancelled.size(), stepName, reason);
+    }
+}
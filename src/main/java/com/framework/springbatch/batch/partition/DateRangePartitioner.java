@@ -0,0 +1,72 @@
+package com.framework.springbatch.batch.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성일(CREATED_AT) 구간 Partitioner
+ * - 처리 대상 행을 일자별로 집계한 뒤 연속된 일자를 누적 건수 기준으로 gridSize개 구간에 배정
+ * - 일 단위로 나누므로 하루에 행이 몰리면 그 일자를 포함한 파티션이 커질 수 있음
+ * - 첫 구간은 시작, 마지막 구간은 끝이 열려 있어 계획 밖의 일자도 누락되지 않음
+ */
+public class DateRangePartitioner extends AbstractSamplePartitioner {
+
+    private static final String DAILY_COUNT_SQL =
+            "SELECT CAST(CREATED_AT AS DATE) AS CREATED_DATE, COUNT(*) AS CNT FROM SAMPLE " +
+            "WHERE " + PENDING_CONDITION + " GROUP BY CAST(CREATED_AT AS DATE) ORDER BY CREATED_DATE";
+
+    public DateRangePartitioner(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected List<ExecutionContext> plan(int gridSize) {
+        List<DailyCount> days = jdbcTemplate.query(DAILY_COUNT_SQL, (rs, rowNum) ->
+                new DailyCount(rs.getDate("CREATED_DATE").toLocalDate(), rs.getLong("CNT")));
+
+        List<ExecutionContext> contexts = new ArrayList<>();
+        long total = days.stream().mapToLong(DailyCount::count).sum();
+
+        long cumulative = 0;
+        long groupRows = 0;
+        LocalDate groupStart = null;
+        for (int i = 0; i < days.size(); i++) {
+            DailyCount day = days.get(i);
+            if (groupStart == null) {
+                groupStart = day.date();
+            }
+            cumulative += day.count();
+            groupRows += day.count();
+
+            boolean lastDay = i == days.size() - 1;
+            long boundary = total * (contexts.size() + 1) / gridSize;
+            if (lastDay || (cumulative >= boundary && contexts.size() < gridSize - 1)) {
+                LocalDate from = contexts.isEmpty() ? null : groupStart;
+                LocalDate to = lastDay ? null : days.get(i + 1).date();
+                contexts.add(context(from, to, groupRows));
+                groupStart = null;
+                groupRows = 0;
+            }
+        }
+        return contexts;
+    }
+
+    private ExecutionContext context(LocalDate from, LocalDate to, long plannedRows) {
+        ExecutionContext context = new ExecutionContext();
+        if (from != null) {
+            context.putString(FROM_DATE, from.toString());
+        }
+        if (to != null) {
+            context.putString(TO_DATE, to.toString());
+        }
+        context.putLong(PLANNED_ROWS, plannedRows);
+        return context;
+    }
+
+    private record DailyCount(LocalDate date, long count) {
+    }
+}
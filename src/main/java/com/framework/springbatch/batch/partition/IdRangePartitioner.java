@@ -0,0 +1,71 @@
+package com.framework.springbatch.batch.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ID 구간 균등 분할 Partitioner
+ * - [MIN(ID), MAX(ID)]를 같은 폭의 ID 구간으로 분할
+ * - ID가 조밀할 때만 건수가 균등하며, 삭제/아카이브로 ID가 성기면 파티션 간 편차가 커짐
+ *
+ * 조회 범위와 예정 건수는 getMinMaxSql/countRows를 재정의하여 바꿀 수 있다 (SampleProfilePartitioner).
+ */
+public class IdRangePartitioner extends AbstractSamplePartitioner {
+
+    private static final String MIN_MAX_SQL =
+            "SELECT MIN(ID) AS MIN_ID, MAX(ID) AS MAX_ID FROM SAMPLE WHERE " + PENDING_CONDITION;
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM SAMPLE WHERE " + PENDING_CONDITION + " AND ID BETWEEN ? AND ?";
+
+    public IdRangePartitioner(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected List<ExecutionContext> plan(int gridSize) {
+        List<ExecutionContext> contexts = new ArrayList<>();
+
+        long[] bounds = jdbcTemplate.queryForObject(getMinMaxSql(), (rs, rowNum) ->
+                rs.getObject("MIN_ID") == null ? null : new long[]{rs.getLong("MIN_ID"), rs.getLong("MAX_ID")});
+        if (bounds == null) {
+            return contexts;
+        }
+
+        long minId = bounds[0];
+        long maxId = bounds[1];
+        long range = (maxId - minId) / gridSize + 1;
+
+        for (int i = 0; i < gridSize; i++) {
+            long startId = minId + (i * range);
+            if (startId > maxId) {
+                break;
+            }
+            long endId = (i == gridSize - 1) ? maxId : Math.min(startId + range - 1, maxId);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, startId);
+            context.putLong(MAX_ID, endId);
+            context.putLong(PLANNED_ROWS, countRows(startId, endId));
+            contexts.add(context);
+        }
+        return contexts;
+    }
+
+    /**
+     * 분할 대상 ID 범위 조회 SQL (MIN_ID, MAX_ID 컬럼, 대상이 없으면 NULL)
+     */
+    protected String getMinMaxSql() {
+        return MIN_MAX_SQL;
+    }
+
+    /**
+     * 구간 [startId, endId]의 예정 건수
+     */
+    protected long countRows(long startId, long endId) {
+        return jdbcTemplate.queryForObject(COUNT_SQL, Long.class, startId, endId);
+    }
+}
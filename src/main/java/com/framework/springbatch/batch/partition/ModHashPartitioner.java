@@ -0,0 +1,48 @@
+package com.framework.springbatch.batch.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시(MOD) Partitioner
+ * - MOD(ID, gridSize) 값으로 행을 분배 (파티션 i는 나머지가 i인 행 처리)
+ * - ID 구간 경계 계산이 필요 없고 ID 공백이 고르게 분포하면 건수가 균등
+ * - 각 파티션이 전체 ID 범위를 스캔하므로 ID 인덱스 범위 스캔의 이점은 없음
+ */
+public class ModHashPartitioner extends AbstractSamplePartitioner {
+
+    private static final String COUNT_SQL =
+            "SELECT REMAINDER, COUNT(*) AS CNT " +
+            "FROM (SELECT MOD(ID, ?) AS REMAINDER FROM SAMPLE WHERE " + PENDING_CONDITION + ") T " +
+            "GROUP BY REMAINDER";
+
+    public ModHashPartitioner(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected List<ExecutionContext> plan(int gridSize) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_SQL, rs -> {
+            counts.put(rs.getLong("REMAINDER"), rs.getLong("CNT"));
+        }, (long) gridSize);
+
+        List<ExecutionContext> contexts = new ArrayList<>();
+        if (counts.isEmpty()) {
+            return contexts;
+        }
+        for (int i = 0; i < gridSize; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MODULUS, gridSize);
+            context.putLong(REMAINDER, i);
+            context.putLong(PLANNED_ROWS, counts.getOrDefault((long) i, 0L));
+            contexts.add(context);
+        }
+        return contexts;
+    }
+}
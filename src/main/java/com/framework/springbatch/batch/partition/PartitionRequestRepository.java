@@ -0,0 +1,169 @@
+package com.framework.springbatch.batch.partition;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 원격 파티션 요청(BATCH_PARTITION_REQUEST) 큐 저장소
+ * - 매니저는 워커 StepExecution마다 요청을 발행하고, 각 노드는 요청을 할당받아 워커 Step을 실행
+ * - 모든 변경은 별도 트랜잭션(REQUIRES_NEW)으로 즉시 커밋하여 다른 노드에 바로 보이게 함
+ *
+ * 할당은 "후보 조회 -> 조건부 UPDATE" 낙관적 방식이며, 하트비트가 끊긴 요청은 다른 노드가 회수한다.
+ */
+@Component
+public class PartitionRequestRepository {
+
+    public static final String READY = "READY";
+    public static final String CLAIMED = "CLAIMED";
+    public static final String DONE = "DONE";
+
+    private static final RowMapper<PartitionRequest> ROW_MAPPER = (rs, rowNum) -> new PartitionRequest(
+            rs.getLong("ID"),
+            rs.getLong("JOB_EXECUTION_ID"),
+            rs.getLong("STEP_EXECUTION_ID"),
+            rs.getString("STEP_NAME"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public PartitionRequestRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 워커 StepExecution별 요청 발행
+     */
+    public void publish(String stepName, Collection<StepExecution> stepExecutions) {
+        List<StepExecution> executions = new ArrayList<>(stepExecutions);
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "INSERT INTO BATCH_PARTITION_REQUEST (JOB_EXECUTION_ID, STEP_EXECUTION_ID, STEP_NAME, STATUS) " +
+                "VALUES (?, ?, ?, '" + READY + "')",
+                executions, executions.size(), (ps, execution) -> {
+                    ps.setLong(1, execution.getJobExecutionId());
+                    ps.setLong(2, execution.getId());
+                    ps.setString(3, stepName);
+                }));
+    }
+
+    /**
+     * 요청 할당 (READY 또는 하트비트가 끊긴 CLAIMED 요청, 최대 limit 건)
+     */
+    public List<PartitionRequest> claim(String owner, int limit, Duration staleAfter) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return requiresNew.execute(status -> {
+            Timestamp staleBefore = Timestamp.valueOf(LocalDateTime.now().minus(staleAfter));
+            List<PartitionRequest> candidates = jdbcTemplate.query(
+                    "SELECT ID, JOB_EXECUTION_ID, STEP_EXECUTION_ID, STEP_NAME FROM BATCH_PARTITION_REQUEST " +
+                    "WHERE STATUS = '" + READY + "' OR (STATUS = '" + CLAIMED + "' AND HEARTBEAT_AT < ?) " +
+                    "ORDER BY ID LIMIT " + limit * 2,
+                    ROW_MAPPER, staleBefore);
+
+            List<PartitionRequest> claimed = new ArrayList<>();
+            for (PartitionRequest candidate : candidates) {
+                int updated = jdbcTemplate.update(
+                        "UPDATE BATCH_PARTITION_REQUEST SET STATUS = '" + CLAIMED + "', OWNER = ?, " +
+                        "HEARTBEAT_AT = CURRENT_TIMESTAMP " +
+                        "WHERE ID = ? AND (STATUS = '" + READY + "' OR (STATUS = '" + CLAIMED + "' AND HEARTBEAT_AT < ?))",
+                        owner, candidate.id(), staleBefore);
+                if (updated == 1) {
+                    claimed.add(candidate);
+                    if (claimed.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return claimed;
+        });
+    }
+
+    /**
+     * 실행 중인 요청 하트비트 갱신
+     */
+    public void heartbeat(String owner, Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(requestIds);
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "UPDATE BATCH_PARTITION_REQUEST SET HEARTBEAT_AT = CURRENT_TIMESTAMP " +
+                "WHERE ID = ? AND OWNER = ? AND STATUS = '" + CLAIMED + "'",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setString(2, owner);
+                }));
+    }
+
+    /**
+     * 요청 완료 처리 (회수되어 소유자가 바뀐 요청은 변경하지 않음)
+     */
+    public void complete(long requestId, String owner) {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE BATCH_PARTITION_REQUEST SET STATUS = '" + DONE + "', HEARTBEAT_AT = CURRENT_TIMESTAMP " +
+                "WHERE ID = ? AND OWNER = ?",
+                requestId, owner));
+    }
+
+    /**
+     * 아직 할당되지 않은(READY) 요청 취소 (DONE 처리)
+     *
+     * @return 취소된 요청의 StepExecution ID
+     */
+    public List<Long> cancelUnclaimed(Collection<Long> stepExecutionIds) {
+        if (stepExecutionIds.isEmpty()) {
+            return List.of();
+        }
+        return requiresNew.execute(status -> {
+            List<Long> cancelled = new ArrayList<>();
+            for (Long stepExecutionId : stepExecutionIds) {
+                int updated = jdbcTemplate.update(
+                        "UPDATE BATCH_PARTITION_REQUEST SET STATUS = '" + DONE + "', HEARTBEAT_AT = CURRENT_TIMESTAMP " +
+                        "WHERE STEP_EXECUTION_ID = ? AND STATUS = '" + READY + "'",
+                        stepExecutionId);
+                if (updated > 0) {
+                    cancelled.add(stepExecutionId);
+                }
+            }
+            return cancelled;
+        });
+    }
+
+    /**
+     * 요청 삭제 (매니저 대기 종료 후 호출)
+     * - 아직 실행 중인 워커의 하트비트/완료 처리는 삭제된 행에 대해 아무것도 변경하지 않음
+     *
+     * @return 삭제된 요청 수
+     */
+    public int purge(Collection<Long> stepExecutionIds) {
+        if (stepExecutionIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(stepExecutionIds);
+        int[] deleted = requiresNew.execute(status -> jdbcTemplate.batchUpdate(
+                "DELETE FROM BATCH_PARTITION_REQUEST WHERE STEP_EXECUTION_ID = ?",
+                ids, ids.size(), (ps, id) -> ps.setLong(1, id))[0]);
+        return deleted == null ? 0 : Arrays.stream(deleted).sum();
+    }
+
+    /**
+     * 원격 파티션 요청
+     */
+    public record PartitionRequest(long id, long jobExecutionId, long stepExecutionId, String stepName) {
+    }
+}
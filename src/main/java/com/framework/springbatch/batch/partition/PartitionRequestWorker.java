@@ -0,0 +1,177 @@
+package com.framework.springbatch.batch.partition;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.executor.ConnectionBudgetCoordinator;
+import com.framework.springbatch.batch.partition.PartitionRequestRepository.PartitionRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobInterruptedException;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 원격 파티션 요청 처리기 (워커 노드)
+ * - batch.partition.remote.enabled 이면 모든 노드가 BATCH_PARTITION_REQUEST 큐를 주기적으로 조회
+ * - 할당받은 요청의 StepExecution을 JobExplorer로 읽어 워커 Step을 partitionTaskExecutor에서 실행
+ *   (워커 Step은 Step 이름과 같은 이름의 Bean으로 등록되어 있어야 함)
+ * - 실행 결과(상태, 건수, ExecutionContext)는 Step이 JobRepository에 기록하고 매니저가 조회
+ * - 한 번에 workerConcurrency개(남은 커넥션 예산 이내)까지 할당받고, 요청 StepExecution의 Job 이름으로
+ *   워커당 커넥션 수를 적용하여 커넥션 예산(permit)을 얻은 뒤 실행
+ * - 하트비트는 조회 주기마다가 아니라 워커 Step이 진행(청크 커밋으로 StepExecution 갱신)했을 때만 갱신
+ *   (Step 시작 전 permit 대기 중에는 갱신)
+ *
+ * 노드 장애나 Step 정체로 staleTimeout 동안 하트비트가 없는 요청은 다른 노드가 회수하여
+ * 같은 StepExecution을 마지막 커밋 지점부터 이어서 실행한다 (staleTimeout은 가장 긴 청크 처리 시간보다 길어야 함).
+ * 죽은 줄 알았던 노드가 살아 있더라도 StepExecution 버전 충돌로 한쪽 청크가 롤백되어 중복 커밋되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionRequestWorker {
+
+    private final PartitionRequestRepository partitionRequestRepository;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final BatchProperties batchProperties;
+    private final ApplicationContext applicationContext;
+    private final ConnectionBudgetCoordinator connectionBudgetCoordinator;
+
+    @Qualifier("partitionTaskExecutor")
+    private final TaskExecutor partitionTaskExecutor;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+    private final Map<Long, RunningPartition> running = new ConcurrentHashMap<>();
+
+    /**
+     * 파티션 요청 조회 및 실행
+     */
+    @Scheduled(fixedDelayString = "${batch.partition.remote.poll-interval:1000}")
+    public void poll() {
+        BatchProperties.Partition.Remote remote = batchProperties.getPartition().getRemote();
+        if (!remote.isEnabled() || !remote.isWorker()) {
+            return;
+        }
+
+        partitionRequestRepository.heartbeat(owner, running.entrySet().stream()
+                .filter(entry -> entry.getValue().progressed())
+                .map(Map.Entry::getKey)
+                .toList());
+
+        // 크기가 제한된 풀은 제출 스레드에서 permit을 기다리므로, 스케줄러 스레드가 막히지 않게 남은 permit만큼만 할당
+        int capacity = Math.min(remote.getWorkerConcurrency() - running.size(),
+                connectionBudgetCoordinator.getAvailableWorkers());
+        if (capacity <= 0) {
+            return;
+        }
+        List<PartitionRequest> requests = partitionRequestRepository.claim(
+                owner, capacity, Duration.ofMillis(remote.getStaleTimeout()));
+        for (PartitionRequest request : requests) {
+            StepExecution stepExecution = jobExplorer.getStepExecution(
+                    request.jobExecutionId(), request.stepExecutionId());
+            if (stepExecution == null) {
+                log.warn("Step execution {} of remote partition request {} not found",
+                        request.stepExecutionId(), request.id());
+                partitionRequestRepository.complete(request.id(), owner);
+                continue;
+            }
+            if (!stepExecution.getStatus().isRunning()) {
+                log.info("Step execution {} already finished with {}", stepExecution.getId(), stepExecution.getStatus());
+                partitionRequestRepository.complete(request.id(), owner);
+                continue;
+            }
+
+            String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+            RunningPartition partition = new RunningPartition(stepExecution);
+            running.put(request.id(), partition);
+            try {
+                connectionBudgetCoordinator.workerExecutor(jobName, "remote-partition", partitionTaskExecutor)
+                        .execute(() -> run(request, partition));
+            } catch (TaskRejectedException e) {
+                // 하트비트를 갱신하지 않으므로 staleTimeout 이후 다른 노드가 회수
+                running.remove(request.id());
+                log.warn("Remote partition request {} rejected by executor, left for reclaim", request.id());
+            }
+        }
+    }
+
+    private void run(PartitionRequest request, RunningPartition partition) {
+        StepExecution stepExecution = partition.stepExecution;
+        partition.started = true;
+        try {
+            log.info("Executing remote partition {} ({}) on {}", stepExecution.getStepName(), stepExecution.getId(), owner);
+            execute(request.stepName(), stepExecution);
+        } finally {
+            partitionRequestRepository.complete(request.id(), owner);
+            running.remove(request.id());
+        }
+    }
+
+    private void execute(String stepName, StepExecution stepExecution) {
+        try {
+            findStep(stepName).execute(stepExecution);
+        } catch (JobInterruptedException e) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            jobRepository.update(stepExecution);
+        } catch (Throwable e) {
+            log.error("Remote partition {} failed", stepExecution.getId(), e);
+            stepExecution.addFailureException(e);
+            stepExecution.setStatus(BatchStatus.FAILED);
+            jobRepository.update(stepExecution);
+        }
+    }
+
+    private Step findStep(String stepName) {
+        try {
+            return applicationContext.getBean(stepName, Step.class);
+        } catch (BeansException e) {
+            throw new IllegalStateException("Step not found: " + stepName, e);
+        }
+    }
+
+    /**
+     * 실행 중인 파티션 (하트비트 판단용)
+     */
+    private static final class RunningPartition {
+
+        private final StepExecution stepExecution;
+        private volatile boolean started;
+        private LocalDateTime reportedUpdate;
+
+        private RunningPartition(StepExecution stepExecution) {
+            this.stepExecution = stepExecution;
+            this.reportedUpdate = stepExecution.getLastUpdated();
+        }
+
+        /**
+         * 마지막 확인 이후 진행 여부 (Step 시작 전이면 진행 중으로 간주)
+         */
+        private boolean progressed() {
+            if (!started) {
+                return true;
+            }
+            LocalDateTime lastUpdated = stepExecution.getLastUpdated();
+            if (lastUpdated == null || lastUpdated.equals(reportedUpdate)) {
+                return false;
+            }
+            reportedUpdate = lastUpdated;
+            return true;
+        }
+    }
+}
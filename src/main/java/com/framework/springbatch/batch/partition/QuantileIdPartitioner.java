@@ -0,0 +1,44 @@
+package com.framework.springbatch.batch.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분위수(NTILE) 기반 ID 구간 Partitioner
+ * - 처리 대상 행을 ID 순으로 NTILE(gridSize) 버킷에 나누고 버킷 경계를 파티션 ID 구간으로 사용
+ * - ID 분포와 무관하게 파티션별 건수 차이가 최대 1건
+ * - 이웃 버킷 사이의 ID 공백은 앞 파티션에 포함하여 구간이 연속되도록 함 (계획 이후 유입 행 누락 방지)
+ */
+public class QuantileIdPartitioner extends AbstractSamplePartitioner {
+
+    private static final String NTILE_SQL =
+            "SELECT BUCKET, MIN(ID) AS MIN_ID, MAX(ID) AS MAX_ID, COUNT(*) AS CNT " +
+            "FROM (SELECT ID, NTILE(?) OVER (ORDER BY ID) AS BUCKET FROM SAMPLE WHERE " + PENDING_CONDITION + ") T " +
+            "GROUP BY BUCKET ORDER BY BUCKET";
+
+    public QuantileIdPartitioner(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected List<ExecutionContext> plan(int gridSize) {
+        List<long[]> buckets = jdbcTemplate.query(NTILE_SQL, (rs, rowNum) ->
+                new long[]{rs.getLong("MIN_ID"), rs.getLong("MAX_ID"), rs.getLong("CNT")}, gridSize);
+
+        List<ExecutionContext> contexts = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            long[] bucket = buckets.get(i);
+            long maxId = i == buckets.size() - 1 ? bucket[1] : buckets.get(i + 1)[0] - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, bucket[0]);
+            context.putLong(MAX_ID, maxId);
+            context.putLong(PLANNED_ROWS, bucket[2]);
+            contexts.add(context);
+        }
+        return contexts;
+    }
+}
@@ -0,0 +1,80 @@
+package com.framework.springbatch.batch.partition;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.framework.springbatch.batch.partition.AbstractSamplePartitioner.FROM_DATE;
+import static com.framework.springbatch.batch.partition.AbstractSamplePartitioner.MAX_ID;
+import static com.framework.springbatch.batch.partition.AbstractSamplePartitioner.MIN_ID;
+import static com.framework.springbatch.batch.partition.AbstractSamplePartitioner.MODULUS;
+import static com.framework.springbatch.batch.partition.AbstractSamplePartitioner.REMAINDER;
+import static com.framework.springbatch.batch.partition.AbstractSamplePartitioner.TO_DATE;
+
+/**
+ * 파티션 ExecutionContext -> Reader JPQL 조건 변환
+ * - MIN_ID는 Keyset 시작 키(startAfterKey)로, 나머지 키는 " AND ..." 조건과 파라미터로 변환
+ * - 어떤 Partitioner가 만든 파티션이든 같은 Reader로 처리 가능
+ */
+public final class SamplePartitionCriteria {
+
+    private final Long startAfterKey;
+    private final String condition;
+    private final Map<String, Object> parameters;
+
+    private SamplePartitionCriteria(Long startAfterKey, String condition, Map<String, Object> parameters) {
+        this.startAfterKey = startAfterKey;
+        this.condition = condition;
+        this.parameters = parameters;
+    }
+
+    /**
+     * 파티션 ExecutionContext 값으로 조건 생성
+     *
+     * @param partition 파티션 Step ExecutionContext 값
+     * @param alias     JPQL 엔티티 별칭
+     */
+    public static SamplePartitionCriteria from(Map<String, Object> partition, String alias) {
+        StringBuilder condition = new StringBuilder();
+        Map<String, Object> parameters = new HashMap<>();
+
+        Object minId = partition.get(MIN_ID);
+        Long startAfterKey = minId != null ? ((Number) minId).longValue() - 1 : Long.MIN_VALUE;
+
+        if (partition.get(MAX_ID) != null) {
+            condition.append(" AND ").append(alias).append(".id <= :").append(MAX_ID);
+            parameters.put(MAX_ID, ((Number) partition.get(MAX_ID)).longValue());
+        }
+        if (partition.get(MODULUS) != null) {
+            condition.append(" AND MOD(").append(alias).append(".id, :").append(MODULUS)
+                    .append(") = :").append(REMAINDER);
+            parameters.put(MODULUS, ((Number) partition.get(MODULUS)).longValue());
+            parameters.put(REMAINDER, ((Number) partition.get(REMAINDER)).longValue());
+        }
+        if (partition.get(FROM_DATE) != null) {
+            condition.append(" AND ").append(alias).append(".createdAt >= :").append(FROM_DATE);
+            parameters.put(FROM_DATE, LocalDate.parse((String) partition.get(FROM_DATE)).atStartOfDay());
+        }
+        if (partition.get(TO_DATE) != null) {
+            condition.append(" AND ").append(alias).append(".createdAt < :").append(TO_DATE);
+            parameters.put(TO_DATE, LocalDate.parse((String) partition.get(TO_DATE)).atStartOfDay());
+        }
+
+        return new SamplePartitionCriteria(startAfterKey, condition.toString(), parameters);
+    }
+
+    public Long getStartAfterKey() {
+        return startAfterKey;
+    }
+
+    /**
+     * WHERE 절 뒤에 덧붙일 조건 (" AND ..." 형식, 조건이 없으면 빈 문자열)
+     */
+    public String getCondition() {
+        return condition;
+    }
+
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+}
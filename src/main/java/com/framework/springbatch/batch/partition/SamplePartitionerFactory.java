@@ -0,0 +1,76 @@
+package com.framework.springbatch.batch.partition;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.PartitionerType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * SAMPLE Partitioner 생성기
+ * - BatchProperties(batch.partition)의 Job별 Partitioner 유형에 따라 생성
+ * - DYNAMIC은 JobInstance별 작업 단위 큐를 사용하므로 마스터 StepExecution이 필요
+ */
+@Component
+@RequiredArgsConstructor
+public class SamplePartitionerFactory {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchProperties batchProperties;
+    private final WorkUnitRepository workUnitRepository;
+
+    /**
+     * Job 설정에 맞는 Partitioner 생성
+     *
+     * @param stepExecution 마스터 StepExecution (DYNAMIC 큐 식별용)
+     */
+    public Partitioner create(String jobName, StepExecution stepExecution) {
+        PartitionerType type = batchProperties.getPartition().getType(jobName);
+        if (type != PartitionerType.DYNAMIC) {
+            return create(type);
+        }
+
+        Assert.notNull(stepExecution, "stepExecution is required for DYNAMIC partitioning");
+        return new WorkUnitPartitioner(jdbcTemplate, workUnitRepository,
+                stepExecution.getJobExecution().getJobInstance().getInstanceId(),
+                stepExecution.getStepName(),
+                batchProperties.getPartition().getUnitSize());
+    }
+
+    /**
+     * Job 설정에 맞는 정적 Partitioner 생성 (작업 단위 큐 Reader가 없는 Job용)
+     */
+    public AbstractSamplePartitioner createStatic(String jobName) {
+        assertStatic(jobName);
+        return create(batchProperties.getPartition().getType(jobName));
+    }
+
+    /**
+     * 정적 Partitioner 설정 검증
+     * - DYNAMIC 작업 단위 큐는 WorkUnitItemReader를 쓰는 partitionJob 전용이므로 다른 Job에는 설정 오류
+     *   (batch.partition.type=DYNAMIC 이면 다른 파티션 Job은 batch.partition.jobs.<jobName>으로 정적 유형 지정)
+     */
+    public void assertStatic(String jobName) {
+        if (batchProperties.getPartition().getType(jobName) == PartitionerType.DYNAMIC) {
+            throw new IllegalStateException("DYNAMIC partitioning is not supported by " + jobName
+                    + ", set batch.partition.jobs." + jobName + " to RANGE, QUANTILE, HASH or DATE");
+        }
+    }
+
+    /**
+     * 지정 유형의 정적 Partitioner 생성
+     */
+    public AbstractSamplePartitioner create(PartitionerType type) {
+        return switch (type) {
+            case RANGE -> new IdRangePartitioner(jdbcTemplate);
+            case QUANTILE -> new QuantileIdPartitioner(jdbcTemplate);
+            case HASH -> new ModHashPartitioner(jdbcTemplate);
+            case DATE -> new DateRangePartitioner(jdbcTemplate);
+            case DYNAMIC -> throw new IllegalArgumentException(
+                    "DYNAMIC partitioner requires a step execution, use create(jobName, stepExecution)");
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.framework.springbatch.batch.partition;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * SAMPLE 프로파일링 Partitioner
+ * - 처리 여부와 무관하게 SAMPLE 전체 [MIN(ID), MAX(ID)]를 같은 폭의 ID 구간으로 분할 (IdRangePartitioner와 같은 분할)
+ * - 건수 집계(COUNT)를 하지 않으므로 PLANNED_ROWS는 구간 폭 (ID가 성기면 실제 건수보다 큼)
+ *
+ * 전체 집계 비용을 피하려는 프로파일링 용도이므로 PK MIN/MAX 조회만 수행한다.
+ */
+public class SampleProfilePartitioner extends IdRangePartitioner {
+
+    private static final String MIN_MAX_SQL = "SELECT MIN(ID) AS MIN_ID, MAX(ID) AS MAX_ID FROM SAMPLE";
+
+    public SampleProfilePartitioner(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected String getMinMaxSql() {
+        return MIN_MAX_SQL;
+    }
+
+    @Override
+    protected long countRows(long startId, long endId) {
+        return endId - startId + 1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.framework.springbatch.batch.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 단위 큐 정리 리스너 (동적 파티셔닝 Job용)
+ * - Job이 COMPLETED로 끝나면 JobInstance의 BATCH_WORK_UNIT 행을 삭제
+ * - 실패/중지된 Job의 큐는 재시작 시 남은 단위를 이어서 처리하도록 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkUnitCleanupListener implements JobExecutionListener {
+
+    private final WorkUnitRepository workUnitRepository;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+        long jobInstanceId = jobExecution.getJobInstance().getInstanceId();
+        int purged = workUnitRepository.purge(jobInstanceId);
+        log.info("Purged {} work units of job instance {}", purged, jobInstanceId);
+    }
+}
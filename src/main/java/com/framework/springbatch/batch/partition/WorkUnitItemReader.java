@@ -0,0 +1,293 @@
+package com.framework.springbatch.batch.partition;
+
+import com.framework.springbatch.batch.partition.WorkUnitRepository.WorkUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.repeat.support.RepeatSynchronizationManager;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 작업 단위 큐 Reader (동적 파티셔닝 워커용)
+ * - BATCH_WORK_UNIT 큐에서 단위를 하나씩 할당받아 [LAST_KEY, MAX_KEY] 구간을 Keyset 페이지로 조회
+ * - 단위를 다 읽으면 완료 처리 후 다음 단위를 할당받고, 큐가 빌 때까지 반복
+ * - 다른 워커가 처리 중인 단위만 남으면 남은 구간이 가장 큰 단위에 분할을 요청하고 pollInterval 간격으로 분할/회수 단위를 기다림
+ * - 분할 요청을 받은 워커는 진행 기록(update) 때 요청을 확인하고, 청크 커밋 후 자신의 단위 뒷부분을 분리하여 넘김
+ *
+ * 진행 상태는 ExecutionContext가 아닌 큐 테이블(LAST_KEY)에 청크 트랜잭션과 함께 기록되므로
+ * 재시작 시 어떤 워커든 남은 단위를 이어서 처리할 수 있다.
+ *
+ * 완료 처리와 다음 단위 할당(대기 포함)은 청크 트랜잭션 밖에서 수행한다.
+ * - 단위의 마지막 항목을 반환할 때 청크를 끝내고(RepeatSynchronizationManager.setCompleteOnly),
+ *   청크 커밋 후 chunkListener()가 완료 처리(REQUIRES_NEW)와 다음 단위 할당을 수행
+ * - 첫 단위는 open에서 할당
+ * 청크 트랜잭션이 완료(DONE) 행 잠금이나 커넥션을 잡은 채 기다리지 않으므로,
+ * 다른 워커가 그 단위를 계속 처리 중(CLAIMED)으로 보고 서로 기다리거나 회수 UPDATE가 잠금에 막히지 않는다.
+ * 워커 Step에 chunkListener()를 반드시 등록해야 한다.
+ */
+@Slf4j
+public class WorkUnitItemReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+    private static final String READER_ATTRIBUTE = WorkUnitItemReader.class.getName();
+
+    /**
+     * 단위 구간 페이지 조회 함수
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+
+        /**
+         * afterKey 초과 maxKey 이하 키를 오름차순으로 최대 pageSize 건 조회
+         */
+        List<T> load(long afterKey, long maxKey, int pageSize);
+    }
+
+    private WorkUnitRepository workUnitRepository;
+    private PageLoader<T> pageLoader;
+    private Function<T, Long> keyExtractor;
+    private long jobInstanceId;
+    private long jobExecutionId;
+    private String queueName;
+    private String owner;
+    private int pageSize = 1000;
+    private long minSplitSpan = 1000;
+    private Duration pollInterval = Duration.ofMillis(500);
+    private Duration staleAfter = Duration.ofMinutes(10);
+
+    private WorkUnit unit;
+    private Iterator<T> page = Collections.emptyIterator();
+    private long lastReadKey;
+    private long lastFetchedKey;
+    private boolean unitExhausted;
+    private boolean splitRequested;
+    private Long pendingSplitUnitId;
+    private boolean drained;
+    private int completedUnits;
+
+    public void setWorkUnitRepository(WorkUnitRepository workUnitRepository) {
+        this.workUnitRepository = workUnitRepository;
+    }
+
+    public void setPageLoader(PageLoader<T> pageLoader) {
+        this.pageLoader = pageLoader;
+    }
+
+    /**
+     * 항목에서 정렬 키(보통 PK)를 추출하는 함수
+     */
+    public void setKeyExtractor(Function<T, Long> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    public void setJobInstanceId(long jobInstanceId) {
+        this.jobInstanceId = jobInstanceId;
+    }
+
+    public void setJobExecutionId(long jobExecutionId) {
+        this.jobExecutionId = jobExecutionId;
+    }
+
+    public void setQueueName(String queueName) {
+        this.queueName = queueName;
+    }
+
+    /**
+     * 워커 식별자 (보통 워커 StepExecution ID)
+     */
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 분할 최소 키 구간 (남은 구간이 이 값의 2배 이상일 때만 분할)
+     */
+    public void setMinSplitSpan(long minSplitSpan) {
+        this.minSplitSpan = minSplitSpan;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * 하트비트가 이 시간 이상 끊긴 단위는 다른 워커가 회수
+     */
+    public void setStaleAfter(Duration staleAfter) {
+        this.staleAfter = staleAfter;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.notNull(workUnitRepository, "workUnitRepository is required");
+        Assert.notNull(pageLoader, "pageLoader is required");
+        Assert.notNull(keyExtractor, "keyExtractor is required");
+        Assert.hasText(queueName, "queueName is required");
+        Assert.hasText(owner, "owner is required");
+        Assert.isTrue(pageSize > 0, "pageSize must be greater than zero");
+    }
+
+    @Override
+    public T read() throws Exception {
+        if (page.hasNext()) {
+            T item = page.next();
+            lastReadKey = keyExtractor.apply(item);
+            if (!page.hasNext()) {
+                loadNextPage();
+            }
+            if (unitExhausted) {
+                // 단위의 마지막 항목: 이 청크를 끝내고 커밋 후 완료 처리/다음 단위 할당 (afterChunk)
+                RepeatSynchronizationManager.setCompleteOnly();
+            }
+            return item;
+        }
+        if (drained) {
+            return null;
+        }
+        throw new IllegalStateException("Work unit reader [" + owner + "] has no page to read; "
+                + "register WorkUnitItemReader.chunkListener() on the worker step");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        unit = null;
+        page = Collections.emptyIterator();
+        unitExhausted = false;
+        splitRequested = false;
+        pendingSplitUnitId = null;
+        drained = false;
+        completedUnits = 0;
+
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        Assert.state(stepContext != null, "Work unit reader must be opened in a step");
+        stepContext.setAttribute(READER_ATTRIBUTE, this);
+
+        // 청크 트랜잭션 밖에서 첫 단위 할당
+        advance();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (unit != null) {
+            splitRequested = workUnitRepository.saveProgress(unit.id(), owner, lastReadKey);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        page = Collections.emptyIterator();
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext != null) {
+            stepContext.removeAttribute(READER_ATTRIBUTE);
+        }
+        log.info("Work unit reader [{}] finished {} units", owner, completedUnits);
+    }
+
+    /**
+     * 워커 Step 청크 리스너
+     * - 청크 커밋 후(트랜잭션 밖) 다 읽은 단위를 완료 처리하고 다음 단위를 할당 (큐가 비면 다음 read()가 null 반환)
+     * - 롤백된 청크는 완료 처리하지 않음 (Step 실패 후 하트비트가 끊기면 다른 워커가 회수)
+     */
+    public static ChunkListener chunkListener() {
+        return new ChunkListener() {
+            @Override
+            public void afterChunk(ChunkContext context) {
+                Object reader = context.getStepContext().getAttribute(READER_ATTRIBUTE);
+                if (reader instanceof WorkUnitItemReader<?> workUnitReader) {
+                    workUnitReader.advance();
+                }
+            }
+        };
+    }
+
+    /**
+     * 분할 요청을 처리하고, 다 읽은 단위를 완료 처리한 뒤 항목이 있는 다음 단위를 할당 (청크 트랜잭션 밖에서 호출)
+     */
+    private void advance() {
+        if (splitRequested) {
+            splitRequested = false;
+            if (unit != null && !unitExhausted) {
+                unit = unit.withMaxKey(workUnitRepository.split(
+                        unit, jobInstanceId, queueName, owner, lastFetchedKey, minSplitSpan));
+            }
+        }
+        try {
+            while (!drained && !page.hasNext()) {
+                if (unit != null) {
+                    if (!unitExhausted) {
+                        loadNextPage();
+                        continue;
+                    }
+                    workUnitRepository.complete(unit.id(), owner, unit.maxKey());
+                    completedUnits++;
+                    unit = null;
+                }
+                if (claimNext()) {
+                    loadNextPage();
+                } else {
+                    drained = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemStreamException("Interrupted while waiting for a work unit", e);
+        }
+    }
+
+    /**
+     * 단위의 다음 페이지 조회 (비어 있으면 단위 소진)
+     */
+    private void loadNextPage() {
+        List<T> items = pageLoader.load(lastFetchedKey, unit.maxKey(), pageSize);
+        if (items.isEmpty()) {
+            unitExhausted = true;
+            return;
+        }
+        lastFetchedKey = keyExtractor.apply(items.get(items.size() - 1));
+        page = items.iterator();
+    }
+
+    /**
+     * 다음 단위 할당 (처리 중인 단위만 남았으면 분할을 요청하고 분할/회수를 기다림)
+     * - 이전 요청이 아직 처리되지 않았으면 다시 요청하지 않아 유휴 워커 하나가 여러 단위를 쪼개지 않음
+     *
+     * @return 할당 성공 여부 (false: 큐 소진)
+     */
+    private boolean claimNext() throws InterruptedException {
+        while (true) {
+            var claimed = workUnitRepository.claim(jobInstanceId, queueName, jobExecutionId, owner, staleAfter);
+            if (claimed.isPresent()) {
+                unit = claimed.get();
+                lastReadKey = unit.lastKey();
+                lastFetchedKey = unit.lastKey();
+                unitExhausted = false;
+                pendingSplitUnitId = null;
+                log.debug("Worker [{}] claimed work unit {} ({}, {}]", owner, unit.id(), unit.lastKey(), unit.maxKey());
+                return true;
+            }
+            if (!workUnitRepository.hasOpenUnits(jobInstanceId, queueName)) {
+                return false;
+            }
+            if (pendingSplitUnitId == null || !workUnitRepository.isSplitPending(pendingSplitUnitId)) {
+                pendingSplitUnitId = workUnitRepository.requestSplit(jobInstanceId, queueName, minSplitSpan)
+                        .orElse(null);
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.framework.springbatch.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업 단위 큐 기반 동적 Partitioner
+ * - 파티션에 고정 구간을 주지 않고, 처리 대상 행(PENDING_CONDITION)을 unitSize 건 안팎의 작은 작업 단위로 나누어 BATCH_WORK_UNIT 큐에 등록
+ * - 워커(gridSize개)는 WorkUnitItemReader로 큐에서 단위를 하나씩 할당받아 처리하므로 빨리 끝난 워커가 남은 단위를 가져감
+ * - 단위 구간은 분위수(NTILE) 경계를 사용하여 단위별 건수를 균등하게 맞춤
+ *
+ * 큐는 JobInstance 단위로 최초 실행 시에만 생성하며, 재시작 시에는 기존 큐의 미완료 단위를 이어서 처리한다.
+ */
+@Slf4j
+public class WorkUnitPartitioner implements Partitioner {
+
+    public static final String WORKER_SLOT = "workerSlot";
+
+    private static final String PARTITION_PREFIX = "partition";
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM SAMPLE WHERE " + AbstractSamplePartitioner.PENDING_CONDITION;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WorkUnitRepository workUnitRepository;
+    private final long jobInstanceId;
+    private final String queueName;
+    private final int unitSize;
+
+    public WorkUnitPartitioner(JdbcTemplate jdbcTemplate, WorkUnitRepository workUnitRepository,
+                               long jobInstanceId, String queueName, int unitSize) {
+        Assert.notNull(jdbcTemplate, "jdbcTemplate is required");
+        Assert.notNull(workUnitRepository, "workUnitRepository is required");
+        Assert.hasText(queueName, "queueName is required");
+        Assert.isTrue(unitSize > 0, "unitSize must be greater than zero");
+        this.jdbcTemplate = jdbcTemplate;
+        this.workUnitRepository = workUnitRepository;
+        this.jobInstanceId = jobInstanceId;
+        this.queueName = queueName;
+        this.unitSize = unitSize;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Assert.isTrue(gridSize > 0, "gridSize must be greater than zero");
+
+        if (workUnitRepository.exists(jobInstanceId, queueName)) {
+            log.info("Work unit queue [{}] of job instance {} already exists, resuming open units",
+                    queueName, jobInstanceId);
+        } else {
+            createUnits();
+        }
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (!workUnitRepository.hasOpenUnits(jobInstanceId, queueName)) {
+            log.info("Work unit queue [{}] has no open units", queueName);
+            return partitions;
+        }
+        for (int i = 0; i < gridSize; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(WORKER_SLOT, i);
+            partitions.put(PARTITION_PREFIX + i, context);
+        }
+        return partitions;
+    }
+
+    private void createUnits() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        if (count == null || count == 0) {
+            log.info("Work unit queue [{}]: no unprocessed rows", queueName);
+            return;
+        }
+
+        int unitCount = (int) Math.min(Integer.MAX_VALUE, (count + unitSize - 1) / unitSize);
+        List<ExecutionContext> buckets = new QuantileIdPartitioner(jdbcTemplate).plan(unitCount);
+
+        List<long[]> ranges = new ArrayList<>(buckets.size());
+        for (ExecutionContext bucket : buckets) {
+            ranges.add(new long[]{
+                    bucket.getLong(AbstractSamplePartitioner.MIN_ID),
+                    bucket.getLong(AbstractSamplePartitioner.MAX_ID)});
+        }
+        workUnitRepository.create(jobInstanceId, queueName, ranges);
+        log.info("Work unit queue [{}] created: {} units for {} rows (unit size {})",
+                queueName, ranges.size(), count, unitSize);
+    }
+}
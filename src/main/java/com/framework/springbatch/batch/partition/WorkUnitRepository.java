@@ -0,0 +1,264 @@
+package com.framework.springbatch.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 작업 단위(BATCH_WORK_UNIT) 큐 저장소
+ * - 동적 파티셔닝에서 키 구간을 작은 작업 단위로 나누어 DB 큐에 보관
+ * - 할당(claim)/분할(split)/완료(DONE)는 별도 트랜잭션(REQUIRES_NEW)으로 즉시 커밋하여 다른 워커에 바로 보이게 함
+ * - 진행(LAST_KEY) 기록은 호출한 청크 트랜잭션에 참여하여 적재 결과와 함께 커밋
+ * - 분할은 할당에 실패한 유휴 워커가 요청(SPLIT_REQUESTED)하고, 소유 워커가 진행 기록 때 요청을 확인하여 수행
+ *
+ * 할당은 "후보 조회 -> 조건부 UPDATE" 낙관적 방식이라 SKIP LOCKED 없이 H2/PostgreSQL 모두 동작한다.
+ */
+@Slf4j
+@Component
+public class WorkUnitRepository {
+
+    public static final String READY = "READY";
+    public static final String CLAIMED = "CLAIMED";
+    public static final String DONE = "DONE";
+
+    private static final int CLAIM_CANDIDATES = 8;
+
+    private static final String COLUMNS =
+            "ID, MIN_KEY, MAX_KEY, LAST_KEY, STATUS";
+
+    private static final RowMapper<WorkUnit> ROW_MAPPER = (rs, rowNum) -> new WorkUnit(
+            rs.getLong("ID"),
+            rs.getLong("MIN_KEY"),
+            rs.getLong("MAX_KEY"),
+            rs.getLong("LAST_KEY"),
+            rs.getString("STATUS"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public WorkUnitRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 큐 생성 여부
+     */
+    public boolean exists(long jobInstanceId, String queueName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM BATCH_WORK_UNIT WHERE JOB_INSTANCE_ID = ? AND QUEUE_NAME = ?",
+                Integer.class, jobInstanceId, queueName);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 작업 단위 일괄 등록 (키 구간 [minKey, maxKey], LAST_KEY = minKey - 1)
+     */
+    public void create(long jobInstanceId, String queueName, List<long[]> ranges) {
+        requiresNew.executeWithoutResult(status -> insert(jobInstanceId, queueName, ranges));
+    }
+
+    /**
+     * 작업 단위 할당
+     * - READY 단위, 또는 이전 JobExecution(재시작 전 실행)이나 하트비트가 끊긴 워커가 잡고 있던 단위를 할당
+     * - 할당된 단위는 LAST_KEY 이후부터 이어서 처리
+     */
+    public Optional<WorkUnit> claim(long jobInstanceId, String queueName, long jobExecutionId,
+                                    String owner, Duration staleAfter) {
+        return requiresNew.execute(status -> {
+            Timestamp staleBefore = Timestamp.valueOf(LocalDateTime.now().minus(staleAfter));
+            List<Long> candidates = jdbcTemplate.queryForList(
+                    "SELECT ID FROM BATCH_WORK_UNIT " +
+                    "WHERE JOB_INSTANCE_ID = ? AND QUEUE_NAME = ? " +
+                    "AND (STATUS = '" + READY + "' OR (STATUS = '" + CLAIMED + "' " +
+                    "AND (JOB_EXECUTION_ID <> ? OR HEARTBEAT_AT < ?))) " +
+                    "ORDER BY ID LIMIT " + CLAIM_CANDIDATES,
+                    Long.class, jobInstanceId, queueName, jobExecutionId, staleBefore);
+
+            for (Long id : candidates) {
+                int updated = jdbcTemplate.update(
+                        "UPDATE BATCH_WORK_UNIT SET STATUS = '" + CLAIMED + "', JOB_EXECUTION_ID = ?, OWNER = ?, " +
+                        "HEARTBEAT_AT = CURRENT_TIMESTAMP " +
+                        "WHERE ID = ? AND (STATUS = '" + READY + "' OR (STATUS = '" + CLAIMED + "' " +
+                        "AND (JOB_EXECUTION_ID <> ? OR HEARTBEAT_AT < ?)))",
+                        jobExecutionId, owner, id, jobExecutionId, staleBefore);
+                if (updated == 1) {
+                    return Optional.of(find(id));
+                }
+            }
+            return Optional.<WorkUnit>empty();
+        });
+    }
+
+    /**
+     * 미완료(READY/CLAIMED) 단위 존재 여부
+     */
+    public boolean hasOpenUnits(long jobInstanceId, String queueName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM BATCH_WORK_UNIT " +
+                "WHERE JOB_INSTANCE_ID = ? AND QUEUE_NAME = ? AND STATUS <> '" + DONE + "'",
+                Integer.class, jobInstanceId, queueName);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 유휴 워커의 분할 요청
+     * - 할당할 단위가 없는 워커가 호출하여, 남은 구간이 가장 큰 처리 중 단위에 SPLIT_REQUESTED 표시
+     * - 표시된 단위의 소유 워커가 다음 청크 커밋 후 뒷부분을 분리 (split)
+     *
+     * @return 분할을 요청한 단위 ID (요청할 단위가 없으면 empty)
+     */
+    public Optional<Long> requestSplit(long jobInstanceId, String queueName, long minSplitSpan) {
+        return requiresNew.execute(status -> {
+            List<Long> candidates = jdbcTemplate.queryForList(
+                    "SELECT ID FROM BATCH_WORK_UNIT " +
+                    "WHERE JOB_INSTANCE_ID = ? AND QUEUE_NAME = ? AND STATUS = '" + CLAIMED + "' " +
+                    "AND SPLIT_REQUESTED = FALSE AND MAX_KEY - LAST_KEY >= ? " +
+                    "ORDER BY MAX_KEY - LAST_KEY DESC LIMIT " + CLAIM_CANDIDATES,
+                    Long.class, jobInstanceId, queueName, minSplitSpan * 2);
+
+            for (Long id : candidates) {
+                int updated = jdbcTemplate.update(
+                        "UPDATE BATCH_WORK_UNIT SET SPLIT_REQUESTED = TRUE " +
+                        "WHERE ID = ? AND STATUS = '" + CLAIMED + "' AND SPLIT_REQUESTED = FALSE",
+                        id);
+                if (updated == 1) {
+                    return Optional.of(id);
+                }
+            }
+            return Optional.<Long>empty();
+        });
+    }
+
+    /**
+     * 분할 요청이 아직 처리되지 않았는지 여부 (처리 중 단위에 SPLIT_REQUESTED가 남아 있음)
+     */
+    public boolean isSplitPending(long unitId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM BATCH_WORK_UNIT " +
+                "WHERE ID = ? AND STATUS = '" + CLAIMED + "' AND SPLIT_REQUESTED = TRUE",
+                Integer.class, unitId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 자신이 처리 중인 단위의 뒷부분을 새 READY 단위로 분리 (분할 요청을 받은 소유 워커가 청크 트랜잭션 밖에서 호출)
+     * - 남은 키 구간이 minSplitSpan의 2배 이상일 때만 분할하고, 분할 여부와 관계없이 요청 표시는 지움
+     * - afterKey(이미 조회한 마지막 키) 이후 구간만 나누므로 분할된 구간을 중복 처리하지 않음
+     *
+     * @return 분할 후 이 단위의 MAX_KEY (분할하지 않으면 기존 값)
+     */
+    public long split(WorkUnit unit, long jobInstanceId, String queueName, String owner,
+                      long afterKey, long minSplitSpan) {
+        Long result = requiresNew.execute(status -> {
+            if (unit.maxKey() - afterKey < minSplitSpan * 2) {
+                jdbcTemplate.update(
+                        "UPDATE BATCH_WORK_UNIT SET SPLIT_REQUESTED = FALSE WHERE ID = ? AND OWNER = ?",
+                        unit.id(), owner);
+                return unit.maxKey();
+            }
+
+            long mid = afterKey + (unit.maxKey() - afterKey) / 2;
+            int updated = jdbcTemplate.update(
+                    "UPDATE BATCH_WORK_UNIT SET MAX_KEY = ?, SPLIT_REQUESTED = FALSE " +
+                    "WHERE ID = ? AND OWNER = ? AND MAX_KEY = ?",
+                    mid, unit.id(), owner, unit.maxKey());
+            if (updated != 1) {
+                return unit.maxKey();
+            }
+            insert(jobInstanceId, queueName, List.of(new long[]{mid + 1, unit.maxKey()}));
+            log.info("Work unit {} split: [{}, {}] kept, [{}, {}] released",
+                    unit.id(), afterKey + 1, mid, mid + 1, unit.maxKey());
+            return mid;
+        });
+        return result != null ? result : unit.maxKey();
+    }
+
+    /**
+     * 진행 키 기록 및 하트비트 갱신 (청크 트랜잭션 참여)
+     * - 소유권을 잃었으면(다른 워커가 회수) 예외를 던져 청크를 롤백
+     * - 분할 요청이 없으면 UPDATE 1회, 요청이 있을 때만 같은 커넥션으로 한 번 더 갱신
+     *
+     * @return 유휴 워커의 분할 요청 여부
+     */
+    public boolean saveProgress(long unitId, String owner, long lastKey) {
+        String sql = "UPDATE BATCH_WORK_UNIT SET LAST_KEY = ?, HEARTBEAT_AT = CURRENT_TIMESTAMP " +
+                "WHERE ID = ? AND OWNER = ? AND STATUS = '" + CLAIMED + "'";
+        if (jdbcTemplate.update(sql + " AND SPLIT_REQUESTED = FALSE", lastKey, unitId, owner) == 1) {
+            return false;
+        }
+        int updated = jdbcTemplate.update(sql, lastKey, unitId, owner);
+        assertOwned(unitId, owner, updated);
+        return true;
+    }
+
+    /**
+     * 단위 완료 처리 (별도 트랜잭션)
+     * - 마지막 청크 커밋 후 호출하여 즉시 커밋하므로 다른 워커가 바로 완료로 봄
+     *   (커밋 전에 장애가 나면 하트비트가 끊긴 뒤 회수되어 LAST_KEY 이후를 다시 조회하고 빈 구간으로 완료)
+     */
+    public void complete(long unitId, String owner, long lastKey) {
+        requiresNew.executeWithoutResult(status -> {
+            int updated = jdbcTemplate.update(
+                    "UPDATE BATCH_WORK_UNIT SET STATUS = '" + DONE + "', LAST_KEY = ?, HEARTBEAT_AT = CURRENT_TIMESTAMP " +
+                    "WHERE ID = ? AND OWNER = ? AND STATUS = '" + CLAIMED + "'",
+                    lastKey, unitId, owner);
+            assertOwned(unitId, owner, updated);
+        });
+    }
+
+    /**
+     * JobInstance의 작업 단위 큐 삭제 (Job 완료 후 호출, 실패한 Job의 큐는 재시작을 위해 남김)
+     *
+     * @return 삭제된 단위 수
+     */
+    public int purge(long jobInstanceId) {
+        return requiresNew.execute(status -> jdbcTemplate.update(
+                "DELETE FROM BATCH_WORK_UNIT WHERE JOB_INSTANCE_ID = ?", jobInstanceId));
+    }
+
+    private void insert(long jobInstanceId, String queueName, List<long[]> ranges) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO BATCH_WORK_UNIT (JOB_INSTANCE_ID, QUEUE_NAME, MIN_KEY, MAX_KEY, LAST_KEY, STATUS) " +
+                "VALUES (?, ?, ?, ?, ?, '" + READY + "')",
+                ranges, ranges.size(), (ps, range) -> {
+                    ps.setLong(1, jobInstanceId);
+                    ps.setString(2, queueName);
+                    ps.setLong(3, range[0]);
+                    ps.setLong(4, range[1]);
+                    ps.setLong(5, range[0] - 1);
+                });
+    }
+
+    private WorkUnit find(long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + COLUMNS + " FROM BATCH_WORK_UNIT WHERE ID = ?", ROW_MAPPER, id);
+    }
+
+    private void assertOwned(long unitId, String owner, int updated) {
+        if (updated != 1) {
+            throw new IllegalStateException("Work unit " + unitId + " is no longer owned by " + owner);
+        }
+    }
+
+    /**
+     * 작업 단위
+     */
+    public record WorkUnit(long id, long minKey, long maxKey, long lastKey, String status) {
+
+        public WorkUnit withMaxKey(long newMaxKey) {
+            return new WorkUnit(id, minKey, newMaxKey, lastKey, status);
+        }
+    }
+}
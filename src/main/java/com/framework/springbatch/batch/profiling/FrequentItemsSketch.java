@@ -0,0 +1,122 @@
+package com.framework.springbatch.batch.profiling;
+
+import org.springframework.util.Assert;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 빈도 상위 항목(top-k) 추정 스케치 (Misra-Gries)
+ * - 최대 capacity개 카운터만 유지하고, 넘치면 (capacity+1)번째로 큰 카운트만큼 모든 카운터에서 빼고 0 이하 제거
+ * - 추정 빈도는 실제 빈도의 하한이며, 오차(실제 - 추정)는 최대 getMaxError() (전체 건수 / (capacity+1) 이하)
+ * - 카운터를 더한 뒤 같은 방식으로 줄여 병합 (파티션별 스케치 합치기)
+ *
+ * 보고할 항목 수(top-k)보다 capacity를 충분히 크게(수 배) 잡아야 순위가 안정적이다.
+ */
+public class FrequentItemsSketch {
+
+    private final int capacity;
+    private final Map<String, Long> counters = new HashMap<>();
+    private long count;
+    private long maxError;
+
+    /**
+     * @param capacity 유지할 카운터 수
+     */
+    public FrequentItemsSketch(int capacity) {
+        Assert.isTrue(capacity > 0, "capacity must be greater than zero");
+        this.capacity = capacity;
+    }
+
+    public void update(String item) {
+        if (item == null) {
+            return;
+        }
+        count++;
+        counters.merge(item, 1L, Long::sum);
+        if (counters.size() > capacity) {
+            reduce();
+        }
+    }
+
+    public void merge(FrequentItemsSketch other) {
+        Assert.isTrue(capacity == other.capacity, "Cannot merge sketches with different capacity");
+        other.counters.forEach((item, frequency) -> counters.merge(item, frequency, Long::sum));
+        count += other.count;
+        maxError += other.maxError;
+        if (counters.size() > capacity) {
+            reduce();
+        }
+    }
+
+    /**
+     * 추정 빈도 상위 항목 (빈도 내림차순)
+     */
+    public List<Item> getTopItems(int limit) {
+        List<Item> items = new ArrayList<>();
+        counters.forEach((item, frequency) -> items.add(new Item(item, frequency)));
+        items.sort(Comparator.comparingLong(Item::frequency).reversed().thenComparing(Item::value));
+        return items.size() > limit ? new ArrayList<>(items.subList(0, limit)) : items;
+    }
+
+    /**
+     * 전체 입력 건수
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 추정 빈도의 최대 과소 추정치
+     */
+    public long getMaxError() {
+        return maxError;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(capacity);
+        out.writeLong(count);
+        out.writeLong(maxError);
+        out.writeInt(counters.size());
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    static FrequentItemsSketch readFrom(DataInput in) throws IOException {
+        FrequentItemsSketch sketch = new FrequentItemsSketch(in.readInt());
+        sketch.count = in.readLong();
+        sketch.maxError = in.readLong();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            sketch.counters.put(in.readUTF(), in.readLong());
+        }
+        return sketch;
+    }
+
+    /**
+     * (capacity+1)번째로 큰 카운트를 모든 카운터에서 빼고 0 이하 카운터 제거
+     */
+    private void reduce() {
+        long[] frequencies = counters.values().stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(frequencies);
+        long decrement = frequencies[frequencies.length - 1 - capacity];
+        counters.replaceAll((item, frequency) -> frequency - decrement);
+        counters.values().removeIf(frequency -> frequency <= 0);
+        maxError += decrement;
+    }
+
+    /**
+     * 추정 빈도 (실제 빈도 하한)
+     */
+    public record Item(String value, long frequency) {
+    }
+}
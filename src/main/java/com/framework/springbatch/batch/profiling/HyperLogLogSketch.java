@@ -0,0 +1,127 @@
+package com.framework.springbatch.batch.profiling;
+
+import org.springframework.util.Assert;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * HyperLogLog 고유값 수 추정 스케치
+ * - 2^precision 개 레지스터(각 1byte)만 유지하므로 입력 건수와 무관하게 메모리 고정 (precision 12: 4KB)
+ * - 상대 오차 약 1.04 / sqrt(2^precision) (precision 12: 약 1.6%)
+ * - 같은 precision 스케치끼리 레지스터별 최댓값으로 병합 (파티션별 스케치 합치기)
+ *
+ * 64bit 해시를 사용하므로 대규모 구간 보정은 하지 않고, 소규모 구간은 Linear Counting으로 보정한다.
+ */
+public class HyperLogLogSketch {
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * @param precision 레지스터 수 지수 (4 ~ 18)
+     */
+    public HyperLogLogSketch(int precision) {
+        Assert.isTrue(precision >= 4 && precision <= 18, "precision must be between 4 and 18");
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public void update(String value) {
+        if (value != null) {
+            updateHash(mix(hash(value)));
+        }
+    }
+
+    public void update(long value) {
+        updateHash(mix(value));
+    }
+
+    public void merge(HyperLogLogSketch other) {
+        Assert.isTrue(precision == other.precision, "Cannot merge sketches with different precision");
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * 고유값 수 추정치
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeByte(precision);
+        out.write(registers);
+    }
+
+    static HyperLogLogSketch readFrom(DataInput in) throws IOException {
+        HyperLogLogSketch sketch = new HyperLogLogSketch(in.readByte());
+        in.readFully(sketch.registers);
+        return sketch;
+    }
+
+    private void updateHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        long remaining = hash << precision;
+        int rank = remaining == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(remaining) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * 문자열 64bit 해시 (FNV-1a)
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 비트 분산 (MurmurHash3 fmix64)
+     */
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
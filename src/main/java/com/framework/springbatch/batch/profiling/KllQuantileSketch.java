@@ -0,0 +1,255 @@
+package com.framework.springbatch.batch.profiling;
+
+import org.springframework.util.Assert;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * KLL 분위수(quantile) 추정 스케치
+ * - 레벨별 압축기(compactor)에 값을 보관하고, 레벨이 가득 차면 정렬 후 절반(홀/짝 무작위)만 다음 레벨로 올림
+ * - 레벨 h의 값은 가중치 2^h를 가지며, 상위 레벨일수록 용량이 k에 가깝고 하위 레벨은 2/3씩 줄어듦
+ * - 보관 값 수는 약 3k로 입력 건수와 무관하며, 순위 오차는 약 1.65 / k (k 200: 약 0.8%)
+ * - 같은 레벨끼리 이어 붙인 뒤 압축하여 병합 (파티션별 스케치 합치기)
+ */
+public class KllQuantileSketch {
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+    private final RandomGenerator random;
+    private final List<Level> levels = new ArrayList<>();
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private int retained;
+    private int capacity = -1;
+
+    /**
+     * @param k 최상위 레벨 용량 (클수록 정확, 8 이상)
+     */
+    public KllQuantileSketch(int k) {
+        this(k, null);
+    }
+
+    /**
+     * @param random 압축 시 홀/짝 선택 난수 (null이면 ThreadLocalRandom, 테스트에서 재현 가능한 결과가 필요할 때 지정)
+     */
+    KllQuantileSketch(int k, RandomGenerator random) {
+        Assert.isTrue(k >= 8, "k must be at least 8");
+        this.k = k;
+        this.random = random;
+        this.levels.add(new Level());
+    }
+
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        count++;
+        min = Double.isNaN(min) ? value : Math.min(min, value);
+        max = Double.isNaN(max) ? value : Math.max(max, value);
+        levels.get(0).add(value);
+        retained++;
+        if (retained > totalCapacity()) {
+            compress();
+        }
+    }
+
+    public void merge(KllQuantileSketch other) {
+        Assert.isTrue(k == other.k, "Cannot merge sketches with different k");
+        if (other.count == 0) {
+            return;
+        }
+        while (levels.size() < other.levels.size()) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            levels.get(h).addAll(other.levels.get(h));
+        }
+        retained += other.retained;
+        count += other.count;
+        min = Double.isNaN(min) ? other.min : Math.min(min, other.min);
+        max = Double.isNaN(max) ? other.max : Math.max(max, other.max);
+        compress();
+    }
+
+    /**
+     * 분위수 추정치
+     *
+     * @param rank 0.0 ~ 1.0 (0.5: 중앙값)
+     * @return 추정값 (입력이 없으면 NaN)
+     */
+    public double quantile(double rank) {
+        Assert.isTrue(rank >= 0 && rank <= 1, "rank must be between 0 and 1");
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (rank == 0) {
+            return min;
+        }
+        if (rank == 1) {
+            return max;
+        }
+
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        Integer[] order = new Integer[retained];
+        int index = 0;
+        long totalWeight = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                values[index] = level.values[i];
+                weights[index] = 1L << h;
+                order[index] = index;
+                totalWeight += weights[index];
+                index++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double target = rank * totalWeight;
+        long cumulative = 0;
+        for (Integer i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(k);
+        out.writeLong(count);
+        out.writeDouble(min);
+        out.writeDouble(max);
+        out.writeInt(levels.size());
+        for (Level level : levels) {
+            out.writeInt(level.size);
+            for (int i = 0; i < level.size; i++) {
+                out.writeDouble(level.values[i]);
+            }
+        }
+    }
+
+    static KllQuantileSketch readFrom(DataInput in) throws IOException {
+        KllQuantileSketch sketch = new KllQuantileSketch(in.readInt());
+        sketch.count = in.readLong();
+        sketch.min = in.readDouble();
+        sketch.max = in.readDouble();
+        int levelCount = in.readInt();
+        sketch.levels.clear();
+        for (int h = 0; h < levelCount; h++) {
+            Level level = new Level();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                level.add(in.readDouble());
+            }
+            sketch.levels.add(level);
+            sketch.retained += size;
+        }
+        return sketch;
+    }
+
+    /**
+     * 보관 값 수가 전체 용량을 넘는 동안 가득 찬 가장 낮은 레벨을 압축
+     */
+    private void compress() {
+        while (retained > totalCapacity()) {
+            for (int h = 0; h < levels.size(); h++) {
+                Level level = levels.get(h);
+                if (level.size >= capacity(h)) {
+                    if (h + 1 == levels.size()) {
+                        addLevel();
+                    }
+                    compact(level, levels.get(h + 1));
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 정렬 후 인접한 두 값 중 하나(홀/짝 무작위)만 다음 레벨로 올림 (홀수 개면 가장 작은 값 1개는 남김)
+     */
+    private void compact(Level level, Level next) {
+        Arrays.sort(level.values, 0, level.size);
+        int start = level.size % 2;
+        double kept = level.values[0];
+        int offset = (random != null ? random : ThreadLocalRandom.current()).nextBoolean() ? 1 : 0;
+        for (int i = start + offset; i < level.size; i += 2) {
+            next.add(level.values[i]);
+        }
+        retained -= (level.size - start) / 2;
+        level.size = 0;
+        if (start == 1) {
+            level.add(kept);
+        }
+    }
+
+    private int capacity(int h) {
+        int depth = levels.size() - 1 - h;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    /**
+     * 전체 용량 (레벨 수가 바뀔 때만 다시 계산)
+     */
+    private int totalCapacity() {
+        if (capacity < 0) {
+            int total = 0;
+            for (int h = 0; h < levels.size(); h++) {
+                total += capacity(h);
+            }
+            capacity = total;
+        }
+        return capacity;
+    }
+
+    private void addLevel() {
+        levels.add(new Level());
+        capacity = -1;
+    }
+
+    private static class Level {
+
+        private double[] values = new double[16];
+        private int size;
+
+        void add(double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Level other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, values.length * 2));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+    }
+}
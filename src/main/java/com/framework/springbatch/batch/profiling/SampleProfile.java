@@ -0,0 +1,151 @@
+package com.framework.springbatch.batch.profiling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+/**
+ * SAMPLE / SAMPLE_RESULT 근사 프로파일 (한 번 읽으며 스케치 갱신)
+ * - SAMPLE: 건수, 고유 NAME 수(HyperLogLog), AMOUNT 분위수(KLL), 빈도 상위 NAME(Misra-Gries)
+ * - SAMPLE_RESULT: 건수, 결과가 있는 고유 SAMPLE_ID 수(HyperLogLog), 빈도 상위 RESULT_STATUS(Misra-Gries)
+ * - 파티션별 프로파일을 merge로 합치고, ExecutionContext에는 Base64 문자열로 저장
+ *
+ * 같은 설정(precision, k, capacity)으로 만든 프로파일끼리만 병합할 수 있다.
+ */
+public class SampleProfile {
+
+    /**
+     * ExecutionContext 키 (워커 StepExecution: 파티션 프로파일, JobExecution: 병합 프로파일)
+     */
+    public static final String CONTEXT_KEY = "sampleProfile";
+
+    private static final int FORMAT_VERSION = 1;
+
+    private long rowCount;
+    private final HyperLogLogSketch distinctNames;
+    private final KllQuantileSketch amounts;
+    private final FrequentItemsSketch topNames;
+
+    private long resultCount;
+    private final HyperLogLogSketch distinctResultSamples;
+    private final FrequentItemsSketch topResultStatuses;
+
+    public SampleProfile(int hllPrecision, int quantileK, int frequentItemsCapacity) {
+        this(new HyperLogLogSketch(hllPrecision), new KllQuantileSketch(quantileK),
+                new FrequentItemsSketch(frequentItemsCapacity),
+                new HyperLogLogSketch(hllPrecision), new FrequentItemsSketch(frequentItemsCapacity));
+    }
+
+    private SampleProfile(HyperLogLogSketch distinctNames, KllQuantileSketch amounts, FrequentItemsSketch topNames,
+                          HyperLogLogSketch distinctResultSamples, FrequentItemsSketch topResultStatuses) {
+        this.distinctNames = distinctNames;
+        this.amounts = amounts;
+        this.topNames = topNames;
+        this.distinctResultSamples = distinctResultSamples;
+        this.topResultStatuses = topResultStatuses;
+    }
+
+    /**
+     * SAMPLE 행 반영
+     */
+    public void update(String name, Double amount) {
+        rowCount++;
+        distinctNames.update(name);
+        topNames.update(name);
+        if (amount != null) {
+            amounts.update(amount);
+        }
+    }
+
+    /**
+     * SAMPLE_RESULT 행 반영
+     */
+    public void updateResult(long sampleId, String resultStatus) {
+        resultCount++;
+        distinctResultSamples.update(sampleId);
+        topResultStatuses.update(resultStatus);
+    }
+
+    public void merge(SampleProfile other) {
+        rowCount += other.rowCount;
+        distinctNames.merge(other.distinctNames);
+        amounts.merge(other.amounts);
+        topNames.merge(other.topNames);
+        resultCount += other.resultCount;
+        distinctResultSamples.merge(other.distinctResultSamples);
+        topResultStatuses.merge(other.topResultStatuses);
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public HyperLogLogSketch getDistinctNames() {
+        return distinctNames;
+    }
+
+    public KllQuantileSketch getAmounts() {
+        return amounts;
+    }
+
+    public FrequentItemsSketch getTopNames() {
+        return topNames;
+    }
+
+    public long getResultCount() {
+        return resultCount;
+    }
+
+    public HyperLogLogSketch getDistinctResultSamples() {
+        return distinctResultSamples;
+    }
+
+    public FrequentItemsSketch getTopResultStatuses() {
+        return topResultStatuses;
+    }
+
+    /**
+     * ExecutionContext / SAMPLE_PROFILE 저장용 직렬화
+     */
+    public String toBase64() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(rowCount);
+            distinctNames.writeTo(out);
+            amounts.writeTo(out);
+            topNames.writeTo(out);
+            out.writeLong(resultCount);
+            distinctResultSamples.writeTo(out);
+            topResultStatuses.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    public static SampleProfile fromBase64(String value) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+            int version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported sample profile format version: " + version);
+            }
+            long rowCount = in.readLong();
+            HyperLogLogSketch distinctNames = HyperLogLogSketch.readFrom(in);
+            KllQuantileSketch amounts = KllQuantileSketch.readFrom(in);
+            FrequentItemsSketch topNames = FrequentItemsSketch.readFrom(in);
+            long resultCount = in.readLong();
+            SampleProfile profile = new SampleProfile(distinctNames, amounts, topNames,
+                    HyperLogLogSketch.readFrom(in), FrequentItemsSketch.readFrom(in));
+            profile.rowCount = rowCount;
+            profile.resultCount = resultCount;
+            return profile;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
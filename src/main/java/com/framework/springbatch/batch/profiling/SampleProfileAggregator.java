@@ -0,0 +1,80 @@
+package com.framework.springbatch.batch.profiling;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.profiling.SampleProfileRepository.ProfileSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.DefaultStepExecutionAggregator;
+import org.springframework.batch.core.partition.support.StepExecutionAggregator;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * SAMPLE 프로파일 파티션 병합 Aggregator
+ * - 기본 집계(상태, 건수)는 DefaultStepExecutionAggregator에 위임
+ * - 워커 StepExecution의 파티션 프로파일을 병합하여 JobExecution ExecutionContext(SampleProfile.CONTEXT_KEY)에 저장
+ *   (JobExecution ExecutionContext는 Step 종료 후 JobRepository가 저장)
+ * - 요약값과 병합 스케치를 SAMPLE_PROFILE에 JobInstance당 1행으로 저장하고 직전 실행 이력과의 증감을 로그로 출력
+ *   (실패 후 재시작한 JobExecution은 같은 JobInstance 행을 갱신)
+ *
+ * 원격 파티셔닝(DatabasePartitionHandler)도 워커 StepExecution을 JobRepository에서 다시 읽어 반환하므로 같은 방식으로 병합한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SampleProfileAggregator implements StepExecutionAggregator {
+
+    private final StepExecutionAggregator delegate = new DefaultStepExecutionAggregator();
+
+    private final SampleProfileRepository sampleProfileRepository;
+    private final BatchProperties batchProperties;
+
+    @Override
+    public void aggregate(StepExecution result, Collection<StepExecution> executions) {
+        delegate.aggregate(result, executions);
+
+        SampleProfile merged = null;
+        for (StepExecution execution : executions) {
+            String value = execution.getExecutionContext().getString(SampleProfile.CONTEXT_KEY, null);
+            if (value == null) {
+                continue;
+            }
+            SampleProfile profile = SampleProfile.fromBase64(value);
+            if (merged == null) {
+                merged = profile;
+            } else {
+                merged.merge(profile);
+            }
+        }
+        if (merged == null) {
+            log.info("No partition profiles to merge for step [{}]", result.getStepName());
+            return;
+        }
+
+        result.getJobExecution().getExecutionContext().putString(SampleProfile.CONTEXT_KEY, merged.toBase64());
+
+        ProfileSummary summary = ProfileSummary.of(merged, batchProperties.getProfiling().getTopK());
+        long jobInstanceId = result.getJobExecution().getJobInstance().getInstanceId();
+        Optional<ProfileSummary> previous = sampleProfileRepository.findLatest(jobInstanceId);
+        sampleProfileRepository.save(jobInstanceId, result.getJobExecutionId(), summary, merged);
+
+        log.info("SAMPLE profile: rows={}, distinct names~{}, amount p50/p90/p99~{}/{}/{}, top names=[{}]",
+                summary.rowCount(), summary.distinctNames(),
+                summary.amountP50(), summary.amountP90(), summary.amountP99(), summary.topNames());
+        log.info("SAMPLE_RESULT profile: rows={}, distinct samples~{}, top statuses=[{}]",
+                summary.resultCount(), summary.distinctResultSamples(), summary.topResultStatuses());
+        previous.ifPresent(before -> log.info("SAMPLE profile trend: rows {}, distinct names {}, results {}",
+                change(before.rowCount(), summary.rowCount()),
+                change(before.distinctNames(), summary.distinctNames()),
+                change(before.resultCount(), summary.resultCount())));
+    }
+
+    private static String change(long before, long after) {
+        long diff = after - before;
+        String percent = before > 0 ? String.format(" (%+.1f%%)", diff * 100.0 / before) : "";
+        return before + " -> " + after + percent;
+    }
+}
@@ -0,0 +1,121 @@
+package com.framework.springbatch.batch.profiling;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * SAMPLE 근사 프로파일 이력(SAMPLE_PROFILE) 저장소
+ * - Job 실행마다 요약값(건수, 고유값 수, 분위수, 빈도 상위 항목)과 병합 스케치를 1행으로 저장
+ *   (JOB_INSTANCE_ID 기준 갱신 후 없으면 INSERT, 실패 후 재시작한 JobExecution이 다시 저장해도 1행 유지)
+ * - 직전 이력과 비교하여 추이(증감)를 확인
+ *
+ * 저장된 스케치(SampleProfile.fromBase64)는 같은 설정의 프로파일끼리 다시 병합할 수 있다.
+ */
+@Component
+public class SampleProfileRepository {
+
+    private static final int TOP_NAMES_LENGTH = 2000;
+    private static final int TOP_RESULT_STATUSES_LENGTH = 1000;
+
+    private static final RowMapper<ProfileSummary> ROW_MAPPER = (rs, rowNum) -> new ProfileSummary(
+            rs.getLong("ROW_COUNT"),
+            rs.getLong("DISTINCT_NAMES"),
+            rs.getBigDecimal("AMOUNT_P50"),
+            rs.getBigDecimal("AMOUNT_P90"),
+            rs.getBigDecimal("AMOUNT_P99"),
+            rs.getString("TOP_NAMES"),
+            rs.getLong("RESULT_COUNT"),
+            rs.getLong("DISTINCT_RESULT_SAMPLES"),
+            rs.getString("TOP_RESULT_STATUSES"));
+
+    private static final String UPDATE_SQL =
+            "UPDATE SAMPLE_PROFILE SET ROW_COUNT = ?, DISTINCT_NAMES = ?, AMOUNT_P50 = ?, AMOUNT_P90 = ?, " +
+            "AMOUNT_P99 = ?, TOP_NAMES = ?, RESULT_COUNT = ?, DISTINCT_RESULT_SAMPLES = ?, TOP_RESULT_STATUSES = ?, " +
+            "SKETCH = ?, JOB_EXECUTION_ID = ?, PROFILED_AT = CURRENT_TIMESTAMP WHERE JOB_INSTANCE_ID = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO SAMPLE_PROFILE (ROW_COUNT, DISTINCT_NAMES, AMOUNT_P50, AMOUNT_P90, AMOUNT_P99, TOP_NAMES, " +
+            "RESULT_COUNT, DISTINCT_RESULT_SAMPLES, TOP_RESULT_STATUSES, SKETCH, JOB_EXECUTION_ID, JOB_INSTANCE_ID) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SampleProfileRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 프로파일 저장 (같은 JobInstance의 행이 있으면 마지막 JobExecution 값으로 갱신)
+     * - 동시에 INSERT가 겹치면 UK_SAMPLE_PROFILE_JOB_INSTANCE 위반으로 실패
+     */
+    public void save(long jobInstanceId, long jobExecutionId, ProfileSummary summary, SampleProfile profile) {
+        Object[] parameters = {summary.rowCount(), summary.distinctNames(),
+                summary.amountP50(), summary.amountP90(), summary.amountP99(),
+                truncate(summary.topNames(), TOP_NAMES_LENGTH),
+                summary.resultCount(), summary.distinctResultSamples(),
+                truncate(summary.topResultStatuses(), TOP_RESULT_STATUSES_LENGTH),
+                profile.toBase64(), jobExecutionId, jobInstanceId};
+        if (jdbcTemplate.update(UPDATE_SQL, parameters) == 0) {
+            jdbcTemplate.update(INSERT_SQL, parameters);
+        }
+    }
+
+    /**
+     * 다른 JobInstance의 가장 최근 프로파일 요약 (재시작한 실행이 자기 이전 저장분과 비교하지 않도록 제외)
+     */
+    public Optional<ProfileSummary> findLatest(long excludedJobInstanceId) {
+        List<ProfileSummary> summaries = jdbcTemplate.query(
+                "SELECT ROW_COUNT, DISTINCT_NAMES, AMOUNT_P50, AMOUNT_P90, AMOUNT_P99, TOP_NAMES, RESULT_COUNT, " +
+                "DISTINCT_RESULT_SAMPLES, TOP_RESULT_STATUSES FROM SAMPLE_PROFILE WHERE JOB_INSTANCE_ID <> ? " +
+                "ORDER BY ID DESC LIMIT 1",
+                ROW_MAPPER, excludedJobInstanceId);
+        return summaries.stream().findFirst();
+    }
+
+    private static String truncate(String value, int length) {
+        return value.length() > length ? value.substring(0, length) : value;
+    }
+
+    /**
+     * 프로파일 요약값
+     *
+     * @param topNames          빈도 상위 NAME ("이름=추정 건수" 쉼표 구분)
+     * @param topResultStatuses 빈도 상위 RESULT_STATUS ("상태=추정 건수" 쉼표 구분)
+     */
+    public record ProfileSummary(long rowCount, long distinctNames,
+                                 BigDecimal amountP50, BigDecimal amountP90, BigDecimal amountP99, String topNames,
+                                 long resultCount, long distinctResultSamples, String topResultStatuses) {
+
+        public static ProfileSummary of(SampleProfile profile, int topK) {
+            KllQuantileSketch amounts = profile.getAmounts();
+            return new ProfileSummary(
+                    profile.getRowCount(),
+                    profile.getDistinctNames().estimate(),
+                    quantile(amounts, 0.5),
+                    quantile(amounts, 0.9),
+                    quantile(amounts, 0.99),
+                    describe(profile.getTopNames(), topK),
+                    profile.getResultCount(),
+                    profile.getDistinctResultSamples().estimate(),
+                    describe(profile.getTopResultStatuses(), topK));
+        }
+
+        private static BigDecimal quantile(KllQuantileSketch sketch, double rank) {
+            double value = sketch.quantile(rank);
+            return Double.isNaN(value) ? null : BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        private static String describe(FrequentItemsSketch sketch, int topK) {
+            return sketch.getTopItems(topK).stream()
+                    .map(item -> item.value() + "=" + item.frequency())
+                    .collect(Collectors.joining(","));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.framework.springbatch.batch.profiling;
+
+import com.framework.springbatch.batch.partition.AbstractSamplePartitioner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+
+/**
+ * SAMPLE 근사 프로파일링 Tasklet
+ * - SAMPLE, SAMPLE_RESULT를 한 번씩 스트리밍 조회하며 SampleProfile 스케치 갱신 (GROUP BY / COUNT(DISTINCT) 없음)
+ * - 파티션 워커로 실행하면 StepExecution ExecutionContext의 minId/maxId 구간만 조회
+ *   (SAMPLE_RESULT는 SAMPLE_ID 구간), 구간이 없으면 전체 조회
+ * - 결과 프로파일은 StepExecution ExecutionContext(SampleProfile.CONTEXT_KEY)에 저장하고
+ *   마스터 Step의 SampleProfileAggregator가 병합
+ *
+ * 조회는 dataSource(레플리카 우선 readOnlyDataSource 권장)의 읽기 전용 트랜잭션에서 수행한다.
+ * (PostgreSQL은 autoCommit=false 일 때만 fetchSize 단위로 가져오므로 결과 전체를 메모리에 올리지 않음)
+ * 스케치 크기는 입력 건수와 무관하므로 구간 크기에 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+public class SampleProfileTasklet implements Tasklet, InitializingBean {
+
+    private static final String SAMPLE_SQL = "SELECT NAME, AMOUNT FROM SAMPLE";
+    private static final String RESULT_SQL = "SELECT SAMPLE_ID, RESULT_STATUS FROM SAMPLE_RESULT";
+
+    private DataSource dataSource;
+    private int fetchSize = 1000;
+    private int hllPrecision = 12;
+    private int quantileK = 200;
+    private int frequentItemsCapacity = 64;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public void setHllPrecision(int hllPrecision) {
+        this.hllPrecision = hllPrecision;
+    }
+
+    public void setQuantileK(int quantileK) {
+        this.quantileK = quantileK;
+    }
+
+    public void setFrequentItemsCapacity(int frequentItemsCapacity) {
+        this.frequentItemsCapacity = frequentItemsCapacity;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.isTrue(fetchSize > 0, "fetchSize must be greater than zero");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        boolean ranged = context.containsKey(AbstractSamplePartitioner.MIN_ID);
+        Object[] range = ranged
+                ? new Object[]{context.getLong(AbstractSamplePartitioner.MIN_ID), context.getLong(AbstractSamplePartitioner.MAX_ID)}
+                : new Object[0];
+
+        SampleProfile profile = new SampleProfile(hllPrecision, quantileK, frequentItemsCapacity);
+        long startTime = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query(SAMPLE_SQL + (ranged ? " WHERE ID BETWEEN ? AND ?" : ""), rs -> {
+                BigDecimal amount = rs.getBigDecimal("AMOUNT");
+                profile.update(rs.getString("NAME"), amount != null ? amount.doubleValue() : null);
+            }, range);
+            jdbcTemplate.query(RESULT_SQL + (ranged ? " WHERE SAMPLE_ID BETWEEN ? AND ?" : ""), rs -> {
+                profile.updateResult(rs.getLong("SAMPLE_ID"), rs.getString("RESULT_STATUS"));
+            }, range);
+        });
+
+        context.putString(SampleProfile.CONTEXT_KEY, profile.toBase64());
+        log.info("Profiled SAMPLE {}: {} rows, {} results in {}ms", ranged ? range[0] + "~" + range[1] : "(all)",
+                profile.getRowCount(), profile.getResultCount(), System.currentTimeMillis() - startTime);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,130 @@
+package com.framework.springbatch.batch.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Keyset Cursor Reader 기반 클래스
+ * - 조회를 한 번만 실행하고 결과를 Cursor로 스트리밍 (페이지별 재조회 없음)
+ * - ExecutionContext에는 마지막으로 읽은 키만 저장하여 재시작 시 앞부분을 건너뛰지 않고 이어서 조회
+ *
+ * 하위 클래스는 lastKey보다 큰 키를 키 오름차순으로 반환하는 Cursor를 열어야 한다.
+ * 스레드 안전하지 않으므로 멀티 스레드 Step에서는 별도 동기화가 필요하다.
+ */
+@Slf4j
+public abstract class AbstractKeysetCursorItemReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+    private static final String LAST_KEY = "last.key";
+
+    private String name;
+    private Function<T, Long> keyExtractor;
+    private Long startAfterKey = Long.MIN_VALUE;
+    private boolean saveState = true;
+
+    private Iterator<T> iterator = Collections.emptyIterator();
+    private Long lastReadKey;
+
+    /**
+     * Reader 이름 (ExecutionContext 키 접두어)
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 항목에서 정렬 키(보통 PK)를 추출하는 함수
+     */
+    public void setKeyExtractor(Function<T, Long> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * 조회 시작 키 (이 값보다 큰 키부터 조회, 기본: Long.MIN_VALUE)
+     */
+    public void setStartAfterKey(Long startAfterKey) {
+        this.startAfterKey = startAfterKey;
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.notNull(keyExtractor, "keyExtractor is required");
+        Assert.notNull(startAfterKey, "startAfterKey is required");
+        if (saveState) {
+            Assert.hasText(getName(), "name is required when saveState is true");
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        T item = iterator.next();
+        lastReadKey = keyExtractor.apply(item);
+        return item;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(LAST_KEY);
+        lastReadKey = saveState && executionContext.containsKey(key)
+                ? executionContext.getLong(key)
+                : startAfterKey;
+
+        try {
+            iterator = doOpenCursor(lastReadKey);
+        } catch (Exception e) {
+            close();
+            throw new ItemStreamException("Failed to open cursor", e);
+        }
+
+        log.debug("Keyset cursor reader [{}] opened after key {}", getName(), lastReadKey);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (saveState) {
+            executionContext.putLong(getExecutionContextKey(LAST_KEY), lastReadKey);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        iterator = Collections.emptyIterator();
+        try {
+            doCloseCursor();
+        } catch (Exception e) {
+            throw new ItemStreamException("Error while closing item reader", e);
+        }
+    }
+
+    /**
+     * lastKey보다 큰 키를 가진 항목을 키 오름차순으로 반환하는 Cursor 열기
+     */
+    protected abstract Iterator<T> doOpenCursor(Long lastKey) throws Exception;
+
+    /**
+     * Cursor와 관련 자원 정리 (열기 실패 후에도 호출되므로 null 상태를 허용해야 함)
+     */
+    protected abstract void doCloseCursor() throws Exception;
+
+    private String getExecutionContextKey(String key) {
+        return name + "." + key;
+    }
+}
@@ -0,0 +1,168 @@
+package com.framework.springbatch.batch.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset(Seek Method) 페이징 Reader 기반 클래스
+ * - OFFSET 대신 "WHERE KEY > :lastId ORDER BY KEY LIMIT n" 방식으로 페이지 조회
+ * - 처리 중 조회 대상이 줄어들어도(예: PROCESSED 플래그 변경) 누락 없이 조회
+ * - 페이지 깊이와 무관하게 페이지당 조회 비용이 일정
+ * - ExecutionContext에는 마지막으로 읽은 키만 저장하여 재시작 시 정확히 이어서 조회
+ *
+ * 하위 클래스는 쿼리가 키 오름차순으로 정렬되고 키가 유일하다는 것을 보장해야 한다.
+ * 스레드 안전하지 않으므로 멀티 스레드 Step에서는 별도 동기화가 필요하다.
+ */
+@Slf4j
+public abstract class AbstractKeysetItemReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+    /**
+     * 쿼리에 바인딩되는 마지막 키 파라미터명
+     */
+    public static final String LAST_KEY_PARAMETER = "lastId";
+
+    /**
+     * 쿼리에 바인딩되는 페이지 크기 파라미터명 (JDBC 전용)
+     */
+    public static final String LIMIT_PARAMETER = "limit";
+
+    private static final String LAST_KEY = "last.key";
+
+    private String name;
+    private int pageSize = 1000;
+    private Function<T, Long> keyExtractor;
+    private Long startAfterKey = Long.MIN_VALUE;
+    private boolean saveState = true;
+
+    private Iterator<T> page = Collections.emptyIterator();
+    private Long lastReadKey;
+    private Long lastFetchedKey;
+    private boolean exhausted;
+
+    /**
+     * Reader 이름 (ExecutionContext 키 접두어)
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 항목에서 정렬 키(보통 PK)를 추출하는 함수
+     */
+    public void setKeyExtractor(Function<T, Long> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * 조회 시작 키 (이 값보다 큰 키부터 조회, 기본: Long.MIN_VALUE)
+     */
+    public void setStartAfterKey(Long startAfterKey) {
+        this.startAfterKey = startAfterKey;
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.isTrue(pageSize > 0, "pageSize must be greater than zero");
+        Assert.notNull(keyExtractor, "keyExtractor is required");
+        Assert.notNull(startAfterKey, "startAfterKey is required");
+        if (saveState) {
+            Assert.hasText(getName(), "name is required when saveState is true");
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        if (!page.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            List<T> items = doReadPage(lastFetchedKey, pageSize);
+            if (items.isEmpty()) {
+                exhausted = true;
+                return null;
+            }
+            lastFetchedKey = keyExtractor.apply(items.get(items.size() - 1));
+            page = items.iterator();
+        }
+
+        T item = page.next();
+        lastReadKey = keyExtractor.apply(item);
+        return item;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(LAST_KEY);
+        lastReadKey = saveState && executionContext.containsKey(key)
+                ? executionContext.getLong(key)
+                : startAfterKey;
+        lastFetchedKey = lastReadKey;
+        page = Collections.emptyIterator();
+        exhausted = false;
+
+        try {
+            doOpen();
+        } catch (Exception e) {
+            throw new ItemStreamException("Failed to initialize the reader", e);
+        }
+
+        log.debug("Keyset reader [{}] opened after key {}", getName(), lastReadKey);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (saveState) {
+            executionContext.putLong(getExecutionContextKey(LAST_KEY), lastReadKey);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        page = Collections.emptyIterator();
+        try {
+            doClose();
+        } catch (Exception e) {
+            throw new ItemStreamException("Error while closing item reader", e);
+        }
+    }
+
+    /**
+     * lastKey보다 큰 키를 가진 항목을 키 오름차순으로 최대 pageSize 건 조회
+     */
+    protected abstract List<T> doReadPage(Long lastKey, int pageSize) throws Exception;
+
+    protected void doOpen() throws Exception {
+    }
+
+    private String getExecutionContextKey(String key) {
+        return name + "." + key;
+    }
+
+    protected void doClose() throws Exception {
+    }
+}
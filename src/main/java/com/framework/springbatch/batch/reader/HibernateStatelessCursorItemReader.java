@@ -0,0 +1,135 @@
+package com.framework.springbatch.batch.reader;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Hibernate StatelessSession 기반 Keyset Cursor Reader
+ * - 영속성 컨텍스트, 1차 캐시, 스냅샷(dirty checking)이 없는 StatelessSession으로 조회
+ * - ScrollableResults(FORWARD_ONLY)로 fetchSize 단위 스트리밍
+ * - 쿼리는 :lastId 파라미터를 포함하고 키 오름차순으로 정렬해야 함
+ *   예) SELECT s FROM Sample s WHERE s.id > :lastId ORDER BY s.id
+ *
+ * 반환되는 엔티티는 항상 비관리(detached) 상태이며 지연 로딩 연관관계는 초기화할 수 없다.
+ * Step 트랜잭션과 별도의 읽기 전용 트랜잭션(커넥션)을 Step 종료 시까지 점유한다.
+ */
+public class HibernateStatelessCursorItemReader<T> extends AbstractKeysetCursorItemReader<T> {
+
+    private EntityManagerFactory entityManagerFactory;
+    private String queryString;
+    private Class<T> resultType;
+    private Map<String, Object> parameterValues = new HashMap<>();
+    private int fetchSize = 1000;
+
+    private StatelessSession session;
+    private Transaction transaction;
+    private ScrollableResults<T> results;
+
+    public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void setQueryString(String queryString) {
+        this.queryString = queryString;
+    }
+
+    public void setResultType(Class<T> resultType) {
+        this.resultType = resultType;
+    }
+
+    public void setParameterValues(Map<String, Object> parameterValues) {
+        this.parameterValues = parameterValues;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        Assert.notNull(entityManagerFactory, "entityManagerFactory is required");
+        Assert.hasText(queryString, "queryString is required");
+        Assert.notNull(resultType, "resultType is required");
+        Assert.isTrue(queryString.contains(":" + AbstractKeysetItemReader.LAST_KEY_PARAMETER),
+                "queryString must contain the :" + AbstractKeysetItemReader.LAST_KEY_PARAMETER + " parameter");
+    }
+
+    @Override
+    protected Iterator<T> doOpenCursor(Long lastKey) {
+        session = entityManagerFactory.unwrap(SessionFactory.class).openStatelessSession();
+        // PostgreSQL은 트랜잭션(autoCommit=false) 안에서만 fetchSize 단위로 가져옴
+        transaction = session.beginTransaction();
+
+        SelectionQuery<T> query = session.createSelectionQuery(queryString, resultType)
+                .setParameter(AbstractKeysetItemReader.LAST_KEY_PARAMETER, lastKey)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true);
+        if (parameterValues != null) {
+            parameterValues.forEach(query::setParameter);
+        }
+
+        results = query.scroll(ScrollMode.FORWARD_ONLY);
+        return new ScrollIterator<>(results);
+    }
+
+    @Override
+    protected void doCloseCursor() {
+        try {
+            if (results != null) {
+                results.close();
+            }
+            if (transaction != null && transaction.isActive()) {
+                transaction.commit();
+            }
+        } finally {
+            if (session != null) {
+                session.close();
+            }
+            results = null;
+            transaction = null;
+            session = null;
+        }
+    }
+
+    /**
+     * ScrollableResults -> Iterator 어댑터
+     */
+    private static class ScrollIterator<T> implements Iterator<T> {
+
+        private final ScrollableResults<T> results;
+        private Boolean hasNext;
+
+        ScrollIterator(ScrollableResults<T> results) {
+            this.results = results;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext == null) {
+                hasNext = results.next();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = null;
+            return results.get();
+        }
+    }
+}
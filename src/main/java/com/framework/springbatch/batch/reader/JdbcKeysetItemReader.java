@@ -0,0 +1,77 @@
+package com.framework.springbatch.batch.reader;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC Keyset 페이징 Reader
+ * - SQL에 :lastId, :limit 파라미터를 포함하고 키 오름차순으로 정렬해야 함
+ *   예) SELECT ID, NAME FROM SAMPLE WHERE ID > :lastId ORDER BY ID LIMIT :limit
+ * - 영속성 컨텍스트 없이 RowMapper로 바로 매핑
+ */
+public class JdbcKeysetItemReader<T> extends AbstractKeysetItemReader<T> {
+
+    private DataSource dataSource;
+    private String sql;
+    private RowMapper<T> rowMapper;
+    private Map<String, Object> parameterValues = new HashMap<>();
+    private int fetchSize = -1;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    public void setRowMapper(RowMapper<T> rowMapper) {
+        this.rowMapper = rowMapper;
+    }
+
+    public void setParameterValues(Map<String, Object> parameterValues) {
+        this.parameterValues = parameterValues;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.hasText(sql, "sql is required");
+        Assert.notNull(rowMapper, "rowMapper is required");
+        Assert.isTrue(sql.contains(":" + LAST_KEY_PARAMETER),
+                "sql must contain the :" + LAST_KEY_PARAMETER + " parameter");
+    }
+
+    @Override
+    protected void doOpen() {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize > 0 ? fetchSize : getPageSize());
+        template.setMaxRows(getPageSize());
+        jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    @Override
+    protected List<T> doReadPage(Long lastKey, int pageSize) {
+        Map<String, Object> params = new HashMap<>();
+        if (parameterValues != null) {
+            params.putAll(parameterValues);
+        }
+        params.put(LAST_KEY_PARAMETER, lastKey);
+        params.put(LIMIT_PARAMETER, pageSize);
+        return jdbcTemplate.query(sql, params, rowMapper);
+    }
+}
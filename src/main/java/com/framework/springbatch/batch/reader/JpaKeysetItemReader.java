@@ -0,0 +1,96 @@
+package com.framework.springbatch.batch.reader;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPA Keyset 페이징 Reader
+ * - JPQL에 :lastId 파라미터를 포함하고 키 오름차순으로 정렬해야 함
+ *   예) SELECT s FROM Sample s WHERE s.id > :lastId AND s.processed = false ORDER BY s.id
+ * - 페이지 크기는 setMaxResults로 제한 (DB LIMIT로 변환)
+ * - transacted=true(기본)이면 JpaPagingItemReader와 동일하게 페이지마다
+ *   트랜잭션을 열어 이전 페이지 엔티티의 변경분을 flush 후 clear
+ */
+public class JpaKeysetItemReader<T> extends AbstractKeysetItemReader<T> {
+
+    private EntityManagerFactory entityManagerFactory;
+    private String queryString;
+    private Map<String, Object> parameterValues = new HashMap<>();
+    private boolean transacted = true;
+
+    private EntityManager entityManager;
+
+    public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void setQueryString(String queryString) {
+        this.queryString = queryString;
+    }
+
+    public void setParameterValues(Map<String, Object> parameterValues) {
+        this.parameterValues = parameterValues;
+    }
+
+    public void setTransacted(boolean transacted) {
+        this.transacted = transacted;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        Assert.notNull(entityManagerFactory, "entityManagerFactory is required");
+        Assert.hasText(queryString, "queryString is required");
+        Assert.isTrue(queryString.contains(":" + LAST_KEY_PARAMETER),
+                "queryString must contain the :" + LAST_KEY_PARAMETER + " parameter");
+    }
+
+    @Override
+    protected void doOpen() {
+        entityManager = entityManagerFactory.createEntityManager();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<T> doReadPage(Long lastKey, int pageSize) {
+        EntityTransaction tx = null;
+        if (transacted) {
+            tx = entityManager.getTransaction();
+            tx.begin();
+            entityManager.flush();
+        }
+        entityManager.clear();
+
+        Query query = entityManager.createQuery(queryString)
+                .setParameter(LAST_KEY_PARAMETER, lastKey)
+                .setMaxResults(pageSize);
+        if (parameterValues != null) {
+            parameterValues.forEach(query::setParameter);
+        }
+
+        List<T> results = new ArrayList<>(query.getResultList());
+
+        if (transacted) {
+            tx.commit();
+        } else {
+            results.forEach(entityManager::detach);
+        }
+        return results;
+    }
+
+    @Override
+    protected void doClose() {
+        if (entityManager != null) {
+            entityManager.close();
+            entityManager = null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.framework.springbatch.batch.reader;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.util.Assert;
+
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * MyBatis Cursor 기반 Keyset Reader
+ * - 매퍼 Statement를 Cursor로 한 번 실행하여 결과를 스트리밍 (페이지별 재조회 없음)
+ * - fetchSize는 Statement에 지정하지 않으면 MyBatisConfig의 defaultFetchSize를 따름
+ * - Statement는 #{lastId} 파라미터를 포함하고 키 오름차순으로 정렬해야 함
+ *   예) SELECT ... FROM SAMPLE WHERE ID &gt; #{lastId} ORDER BY ID
+ *
+ * Step 트랜잭션과 별도의 SqlSession(커넥션)을 Step 종료 시까지 점유한다.
+ * PostgreSQL은 autoCommit=false 일 때만 fetchSize 단위로 가져오므로 열기 전에 autoCommit을 해제한다.
+ */
+public class MyBatisKeysetCursorItemReader<T> extends AbstractKeysetCursorItemReader<T> {
+
+    private SqlSessionFactory sqlSessionFactory;
+    private String queryId;
+    private Map<String, Object> parameterValues = new HashMap<>();
+
+    private SqlSession sqlSession;
+    private Cursor<T> cursor;
+    private boolean restoreAutoCommit;
+
+    public void setSqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
+        this.sqlSessionFactory = sqlSessionFactory;
+    }
+
+    /**
+     * 매퍼 Statement ID (namespace.id)
+     */
+    public void setQueryId(String queryId) {
+        this.queryId = queryId;
+    }
+
+    public void setParameterValues(Map<String, Object> parameterValues) {
+        this.parameterValues = parameterValues;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        Assert.notNull(sqlSessionFactory, "sqlSessionFactory is required");
+        Assert.hasText(queryId, "queryId is required");
+    }
+
+    @Override
+    protected Iterator<T> doOpenCursor(Long lastKey) throws Exception {
+        Map<String, Object> parameters = new HashMap<>(parameterValues);
+        parameters.put(AbstractKeysetItemReader.LAST_KEY_PARAMETER, lastKey);
+
+        sqlSession = sqlSessionFactory.openSession(ExecutorType.SIMPLE);
+        Connection connection = sqlSession.getConnection();
+        if (connection.getAutoCommit()) {
+            connection.setAutoCommit(false);
+            restoreAutoCommit = true;
+        }
+        cursor = sqlSession.selectCursor(queryId, parameters);
+        return cursor.iterator();
+    }
+
+    @Override
+    protected void doCloseCursor() throws Exception {
+        try {
+            if (cursor != null) {
+                cursor.close();
+            }
+            if (sqlSession != null && restoreAutoCommit) {
+                sqlSession.getConnection().setAutoCommit(true);
+            }
+        } finally {
+            if (sqlSession != null) {
+                sqlSession.close();
+            }
+            cursor = null;
+            sqlSession = null;
+            restoreAutoCommit = false;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.framework.springbatch.batch.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 선행 조회(Read-Ahead) Reader
+ * - 위임 Reader를 백그라운드 작업(taskExecutor)에서 batchSize 단위로 미리 읽어 최대 prefetchDepth개 묶음을 버퍼링
+ * - 현재 청크를 처리/적재하는 동안 다음 페이지 조회가 진행되어 DB 대기와 처리 시간이 겹침
+ * - 위임 Reader 종류와 무관하게 사용 가능 (Keyset, Cursor, MyBatis 등)
+ *
+ * 재시작 상태는 묶음 경계의 위임 Reader 상태로 저장한다.
+ * 백그라운드 작업이 묶음마다 한 번, 묶음을 다 읽은 직후의 위임 Reader 상태를 함께 버퍼에 넣는다.
+ * - 현재 묶음을 끝까지 소비했으면 그 묶음의 끝 상태, 아니면 직전 묶음의 끝 상태를 저장
+ * - 버퍼에만 있던 항목과 일부만 소비한 묶음은 재시작 시 위임 Reader가 다시 읽음 (누락 없음)
+ * - batchSize를 청크 크기와 같게 두면 청크 커밋 시점이 묶음 경계와 맞아 다시 읽는 항목이 없음
+ * (건너뛸 건수를 저장하지 않음: 미처리 조건으로 조회하는 위임 Reader는 커밋된 항목이 다시 조회되지 않으므로
+ *  건수만큼 건너뛰면 다음 미처리 항목이 누락됨)
+ *
+ * 백그라운드 조회가 실패하면 이후 read()는 모두 PrefetchFailedException을 던진다 (데이터 끝으로 처리하지 않음).
+ * 위임 Reader 위치를 잃었으므로 Step에서 skip 대상에서 제외(noSkip)하여 Step을 실패시켜야 한다.
+ *
+ * 위임 Reader는 open 이후 백그라운드 작업에서만 접근하므로 Step에 별도 Stream으로 등록하지 않는다.
+ * read()는 단일 스레드에서 호출해야 한다.
+ */
+@Slf4j
+public class PrefetchingItemReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+    private String name;
+    private ItemStreamReader<T> delegate;
+    private TaskExecutor taskExecutor;
+    private int batchSize = 1000;
+    private int prefetchDepth = 2;
+    private boolean saveState = true;
+
+    private BlockingQueue<Batch<T>> buffer;
+    private volatile Thread producer;
+    private volatile boolean stopped;
+    private CountDownLatch finished;
+
+    private Batch<T> current;
+    private int position;
+    private ExecutionContext lastState;
+    private Throwable failure;
+
+    /**
+     * Reader 이름 (로그와 예외 메시지용, 저장 상태는 위임 Reader의 키를 그대로 사용)
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setDelegate(ItemStreamReader<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 백그라운드 조회 실행기 (Reader가 열려 있는 동안 작업 1개를 점유하므로 대기열 없이 바로 실행되어야 함)
+     */
+    public void setTaskExecutor(TaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * 한 번에 미리 읽을 항목 수 (재시작 상태 저장 단위, 보통 청크 사이즈와 동일)
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 버퍼링할 최대 묶음 수
+     */
+    public void setPrefetchDepth(int prefetchDepth) {
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.notNull(delegate, "delegate is required");
+        Assert.notNull(taskExecutor, "taskExecutor is required");
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than zero");
+        Assert.isTrue(prefetchDepth > 0, "prefetchDepth must be greater than zero");
+        if (saveState) {
+            Assert.hasText(getName(), "name is required when saveState is true");
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        if (failure != null) {
+            throw new PrefetchFailedException(getName(), failure);
+        }
+        while (current == null || position == current.items().size()) {
+            if (current != null && current.last()) {
+                return null;
+            }
+            current = buffer.take();
+            position = 0;
+            if (current.error() != null) {
+                failure = current.error();
+                throw new PrefetchFailedException(getName(), failure);
+            }
+        }
+
+        T item = current.items().get(position++);
+        lastState = position == current.items().size() ? current.endState() : current.startState();
+        return item;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+
+        buffer = new ArrayBlockingQueue<>(prefetchDepth);
+        current = null;
+        position = 0;
+        failure = null;
+        lastState = snapshot();
+        stopped = false;
+        CountDownLatch latch = new CountDownLatch(1);
+        finished = latch;
+
+        ExecutionContext initialState = lastState;
+        taskExecutor.execute(() -> produce(initialState, latch));
+
+        log.debug("Prefetching reader [{}] opened (batchSize={}, depth={})", getName(), batchSize, prefetchDepth);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (!saveState || lastState == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : lastState.entrySet()) {
+            executionContext.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        stopped = true;
+        if (finished != null) {
+            Thread thread = producer;
+            if (thread != null) {
+                thread.interrupt();
+            }
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished = null;
+        }
+        if (buffer != null) {
+            buffer.clear();
+        }
+        current = null;
+        lastState = null;
+        delegate.close();
+    }
+
+    /**
+     * 백그라운드 조회 루프
+     * - 묶음마다 시작/끝 위임 Reader 상태를 함께 버퍼에 넣음 (상태 복사는 묶음당 1회)
+     */
+    private void produce(ExecutionContext initialState, CountDownLatch latch) {
+        producer = Thread.currentThread();
+        try {
+            ExecutionContext startState = initialState;
+            while (!stopped) {
+                List<T> items = new ArrayList<>(batchSize);
+                T item;
+                while (items.size() < batchSize && (item = delegate.read()) != null) {
+                    items.add(item);
+                }
+                boolean last = items.size() < batchSize;
+                ExecutionContext endState = snapshot();
+
+                buffer.put(new Batch<>(items, startState, endState, last, null));
+                startState = endState;
+                if (last) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            if (!stopped) {
+                try {
+                    buffer.put(new Batch<>(List.of(), null, null, true, t));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        } finally {
+            producer = null;
+            Thread.interrupted();
+            latch.countDown();
+        }
+    }
+
+    private ExecutionContext snapshot() {
+        ExecutionContext state = new ExecutionContext();
+        delegate.update(state);
+        return state;
+    }
+
+    private record Batch<T>(List<T> items, ExecutionContext startState, ExecutionContext endState,
+                            boolean last, Throwable error) {
+    }
+
+    /**
+     * 백그라운드 조회 실패 (위임 Reader 위치를 잃었으므로 skip하지 않고 Step을 실패시켜야 함)
+     */
+    public static class PrefetchFailedException extends ItemStreamException {
+
+        public PrefetchFailedException(String name, Throwable cause) {
+            super("Prefetching reader [" + name + "] failed to read ahead", cause);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.framework.springbatch.batch.reader;
+
+import com.framework.springbatch.global.common.datasource.ReplicaReadContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.util.Assert;
+
+/**
+ * 레플리카 읽기 Reader
+ * - 위임 Reader의 open/read/close를 ReplicaReadContext 구간에서 실행하여
+ *   Reader가 새로 얻는 커넥션(JPA EntityManager, StatelessSession, Cursor)을 레플리카로 라우팅
+ * - 청크 트랜잭션에 묶인 커넥션을 쓰는 Reader(JdbcTemplate, 트랜잭션 참여 EntityManager)는 Primary에서 읽음
+ * - 레플리카를 쓰지 않거나 지연이 허용치를 넘으면 위임 Reader와 동일하게 Primary에서 읽음
+ *
+ * 레플리카는 Writer의 최근 커밋을 늦게 볼 수 있으므로 Keyset처럼 이미 읽은 범위를 다시 조회하지 않는 Reader에만 사용한다.
+ * 읽는 중에 쓰기(작업 단위 선점 등)를 하는 Reader는 쓰기까지 레플리카로 향하므로 감싸지 않는다.
+ * 선행 조회(PrefetchingItemReader)와 함께 쓸 때는 백그라운드 스레드에서도 적용되도록 이 Reader를 안쪽에 둔다.
+ */
+public class ReplicaReadItemStreamReader<T> implements ItemStreamReader<T> {
+
+    private final ItemStreamReader<T> delegate;
+
+    public ReplicaReadItemStreamReader(ItemStreamReader<T> delegate) {
+        Assert.notNull(delegate, "delegate is required");
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        boolean previous = ReplicaReadContext.enter();
+        try {
+            delegate.open(executionContext);
+        } finally {
+            ReplicaReadContext.restore(previous);
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        boolean previous = ReplicaReadContext.enter();
+        try {
+            return delegate.read();
+        } finally {
+            ReplicaReadContext.restore(previous);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        boolean previous = ReplicaReadContext.enter();
+        try {
+            delegate.close();
+        } finally {
+            ReplicaReadContext.restore(previous);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.framework.springbatch.batch.service;
 
+import com.framework.springbatch.batch.admission.JobAdmissionService;
+import com.framework.springbatch.batch.admission.JobAdmissionTicket;
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.JobPriority;
+import com.framework.springbatch.batch.dto.BatchJobAdmissionDTO;
 import com.framework.springbatch.batch.dto.BatchJobExecutionDTO;
 import com.framework.springbatch.batch.dto.BatchJobInfoDTO;
 import com.framework.springbatch.global.error.ErrorCode;
@@ -21,6 +26,8 @@ import java.util.stream.Collectors;
 
 /**
  * 배치 작업 실행 서비스
+ * - 실행 이력 조회는 REST API 전용 풀(webJobExplorer), 실행/중지/재시작은 메타데이터 풀(JobRepository, JobOperator) 사용
+ * - 방금 변경한 실행의 조회(재시작, 포기, 승인 직후)는 레플리카 지연을 피하도록 메타데이터 풀(jobExplorer)에서 읽음
  */
 @Slf4j
 @Service
@@ -29,31 +36,44 @@ public class BatchJobService {
 
     private final ApplicationContext applicationContext;
     private final JobExplorer jobExplorer;
+    @Qualifier("webJobExplorer")
+    private final JobExplorer webJobExplorer;
     private final JobRepository jobRepository;
     private final JobOperator jobOperator;
     private final JobLauncher jobLauncher;
     @Qualifier("asyncJobLauncher")
     private final JobLauncher asyncJobLauncher;
     private final BatchLockService batchLockService;
+    private final JobAdmissionService jobAdmissionService;
+    private final BatchProperties batchProperties;
 
     /**
      * 배치 작업 동기 실행
      */
     public BatchJobExecutionDTO runJob(String jobName, Map<String, String> parameters) {
-        return executeJob(jobName, parameters, false);
+        return executeJob(jobName, parameters, false, null);
     }
 
     /**
      * 배치 작업 비동기 실행
      */
     public BatchJobExecutionDTO runJobAsync(String jobName, Map<String, String> parameters) {
-        return executeJob(jobName, parameters, true);
+        return runJobAsync(jobName, parameters, null);
+    }
+
+    /**
+     * 배치 작업 비동기 실행 (우선순위 지정)
+     * - batch.admission.enabled 이면 실행 한도를 넘는 요청은 대기열에 보관 (status: QUEUED)
+     */
+    public BatchJobExecutionDTO runJobAsync(String jobName, Map<String, String> parameters, JobPriority priority) {
+        return executeJob(jobName, parameters, true, priority);
     }
 
     /**
      * 배치 작업 실행
      */
-    private BatchJobExecutionDTO executeJob(String jobName, Map<String, String> parameters, boolean async) {
+    private BatchJobExecutionDTO executeJob(String jobName, Map<String, String> parameters, boolean async,
+                                            JobPriority priority) {
         // 1. Job 조회
         Job job = getJob(jobName);
 
@@ -66,13 +86,20 @@ public class BatchJobService {
             // 3. Job Parameters 생성
             JobParameters jobParameters = createJobParameters(parameters);
 
-            // 4. Job 실행
+            // 4. Job 실행 (비동기 요청은 실행 승인 대기열 경유)
+            if (async && batchProperties.getAdmission().isEnabled()) {
+                return toDTO(jobAdmissionService.submit(job, jobParameters, priority));
+            }
+
             JobLauncher launcher = async ? asyncJobLauncher : jobLauncher;
             JobExecution jobExecution = launcher.run(job, jobParameters);
 
             log.info("Job {} started with execution id: {}", jobName, jobExecution.getId());
 
             return toDTO(jobExecution);
+        } catch (BatchJobException e) {
+            batchLockService.unlock(jobName);
+            throw e;
         } catch (Exception e) {
             batchLockService.unlock(jobName);
             log.error("Failed to execute job: {}", jobName, e);
@@ -129,11 +156,34 @@ public class BatchJobService {
         }
     }
 
+    /**
+     * 실행 승인 대기열 조회 (실행 중 + 대기 중)
+     */
+    public List<BatchJobAdmissionDTO> getAdmissionQueue() {
+        return jobAdmissionService.getTickets().stream()
+                .map(this::toAdmissionDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 실행 승인 요청 조회
+     */
+    public BatchJobAdmissionDTO getAdmission(String ticketId) {
+        return toAdmissionDTO(jobAdmissionService.getTicket(ticketId));
+    }
+
+    /**
+     * 대기 중인 실행 요청 취소
+     */
+    public boolean cancelAdmission(String ticketId) {
+        return jobAdmissionService.cancel(ticketId);
+    }
+
     /**
      * 등록된 모든 Job 목록 조회
      */
     public List<BatchJobInfoDTO> getAllJobs() {
-        return jobExplorer.getJobNames().stream()
+        return webJobExplorer.getJobNames().stream()
                 .map(this::getJobInfo)
                 .collect(Collectors.toList());
     }
@@ -142,11 +192,11 @@ public class BatchJobService {
      * Job 정보 조회
      */
     public BatchJobInfoDTO getJobInfo(String jobName) {
-        List<JobInstance> jobInstances = jobExplorer.getJobInstances(jobName, 0, 1);
+        List<JobInstance> jobInstances = webJobExplorer.getJobInstances(jobName, 0, 1);
         JobExecution lastExecution = null;
         
         if (!jobInstances.isEmpty()) {
-            List<JobExecution> executions = jobExplorer.getJobExecutions(jobInstances.get(0));
+            List<JobExecution> executions = webJobExplorer.getJobExecutions(jobInstances.get(0));
             if (!executions.isEmpty()) {
                 lastExecution = executions.get(0);
             }
@@ -166,7 +216,7 @@ public class BatchJobService {
      * Job Execution 조회
      */
     public BatchJobExecutionDTO getJobExecution(Long executionId) {
-        JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        JobExecution jobExecution = webJobExplorer.getJobExecution(executionId);
         if (jobExecution == null) {
             throw new BatchJobException(ErrorCode.BATCH_JOB_NOT_FOUND, "executionId:" + executionId);
         }
@@ -177,10 +227,10 @@ public class BatchJobService {
      * Job Execution 이력 조회
      */
     public List<BatchJobExecutionDTO> getJobExecutionHistory(String jobName, int page, int size) {
-        List<JobInstance> jobInstances = jobExplorer.getJobInstances(jobName, 0, 100);
+        List<JobInstance> jobInstances = webJobExplorer.getJobInstances(jobName, 0, 100);
         
         return jobInstances.stream()
-                .flatMap(instance -> jobExplorer.getJobExecutions(instance).stream())
+                .flatMap(instance -> webJobExplorer.getJobExecutions(instance).stream())
                 .sorted((e1, e2) -> e2.getStartTime().compareTo(e1.getStartTime()))
                 .skip((long) page * size)
                 .limit(size)
@@ -216,10 +266,47 @@ public class BatchJobService {
         return builder.toJobParameters();
     }
 
+    /**
+     * 실행 승인 티켓 -> DTO 변환
+     * - 실행이 시작되었으면 JobExecution 정보를, 대기 중이면 QUEUED 상태와 대기열 순번을 반환
+     */
+    private BatchJobExecutionDTO toDTO(JobAdmissionTicket ticket) {
+        BatchJobAdmissionDTO admission = toAdmissionDTO(ticket);
+        if (ticket.getExecutionId() != null) {
+            JobExecution execution = jobExplorer.getJobExecution(ticket.getExecutionId());
+            if (execution != null) {
+                return toDTO(execution, admission);
+            }
+        }
+        return BatchJobExecutionDTO.builder()
+                .jobName(ticket.getJobName())
+                .status(admission.getStatus())
+                .admission(admission)
+                .build();
+    }
+
+    private BatchJobAdmissionDTO toAdmissionDTO(JobAdmissionTicket ticket) {
+        return BatchJobAdmissionDTO.builder()
+                .ticketId(ticket.getTicketId())
+                .jobName(ticket.getJobName())
+                .priority(ticket.getPriority().name())
+                .status(ticket.isStarted() ? "RUNNING" : "QUEUED")
+                .position(jobAdmissionService.getPosition(ticket.getTicketId()))
+                .queuedAt(ticket.getQueuedAt())
+                .startedAt(ticket.getStartedAt())
+                .waitMillis(ticket.getWaitTime().toMillis())
+                .executionId(ticket.getExecutionId())
+                .build();
+    }
+
     /**
      * JobExecution -> DTO 변환
      */
     private BatchJobExecutionDTO toDTO(JobExecution execution) {
+        return toDTO(execution, null);
+    }
+
+    private BatchJobExecutionDTO toDTO(JobExecution execution, BatchJobAdmissionDTO admission) {
         return BatchJobExecutionDTO.builder()
                 .executionId(execution.getId())
                 .jobName(execution.getJobInstance().getJobName())
@@ -239,6 +326,7 @@ public class BatchJobService {
                 .stepExecutions(execution.getStepExecutions().stream()
                         .map(this::toStepDTO)
                         .collect(Collectors.toList()))
+                .admission(admission)
                 .build();
     }
 
@@ -0,0 +1,317 @@
+package com.framework.springbatch.batch.service;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.dto.SampleStatisticsDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * SAMPLE 상태별 통계 서비스
+ * - 상태별 행 수, AMOUNT 합계, 처리 완료 행 수를 SAMPLE_STATISTICS에 증분(delta)으로 유지
+ * - SAMPLE을 바꾸는 Writer/Step이 같은 트랜잭션에서 증분을 반영하므로 청크 커밋과 함께 확정되고, 롤백되면 같이 취소
+ * - 같은 상태 행에 갱신이 몰리지 않도록 상태마다 slots개 행으로 나누어 스레드별 슬롯에 반영하고, 조회 시 합산
+ * - 조회는 SAMPLE_STATISTICS(상태 수 x 슬롯 수)만 읽으므로 SAMPLE 크기와 무관
+ * - reconcile-interval마다 SAMPLE 전체 집계와 비교하여 차이(증분 누락, 직접 수정한 데이터)를 슬롯 0에 보정
+ *
+ * 보정은 잠금 없이 한 스냅샷(REPEATABLE READ)에서 SAMPLE 집계와 SAMPLE_STATISTICS 합계를 읽어 차이를 구한 뒤,
+ * 짧은 별도 트랜잭션에서 그 차이를 증분으로 더한다. 증분은 SAMPLE 변경과 같은 트랜잭션에서 커밋되므로 스냅샷 안에서는
+ * 둘이 항상 함께 보이고, 스냅샷 이후의 변경은 각자의 증분이 반영하므로 전체 집계 동안 청크 커밋이 대기하지 않는다.
+ * SAMPLE에 행을 추가/삭제하거나 STATUS, AMOUNT, PROCESSED를 바꾸는 코드는 같은 트랜잭션에서 record* 메서드를 호출해야 한다.
+ *
+ * 메트릭: batch.sample.count, batch.sample.amount, batch.sample.processed (status 태그, refresh 시 갱신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SampleStatisticsService implements InitializingBean {
+
+    private static final String CAPTURE_SQL =
+            "SELECT COALESCE(STATUS, 'UNKNOWN') AS STATUS, COUNT(*) AS ROW_COUNT, "
+                    + "COALESCE(SUM(AMOUNT), 0) AS AMOUNT_SUM, "
+                    + "SUM(CASE WHEN PROCESSED = TRUE THEN 1 ELSE 0 END) AS PROCESSED_COUNT FROM SAMPLE";
+
+    private static final String SUMMARY_SQL =
+            "SELECT STATUS, SUM(ROW_COUNT) AS ROW_COUNT, SUM(AMOUNT_SUM) AS AMOUNT_SUM, "
+                    + "SUM(PROCESSED_COUNT) AS PROCESSED_COUNT FROM SAMPLE_STATISTICS GROUP BY STATUS ORDER BY STATUS";
+
+    private static final String UPDATE_SQL =
+            "UPDATE SAMPLE_STATISTICS SET ROW_COUNT = ROW_COUNT + ?, AMOUNT_SUM = AMOUNT_SUM + ?, "
+                    + "PROCESSED_COUNT = PROCESSED_COUNT + ?, UPDATED_AT = CURRENT_TIMESTAMP WHERE STATUS = ? AND SLOT = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO SAMPLE_STATISTICS (STATUS, SLOT, ROW_COUNT, AMOUNT_SUM, PROCESSED_COUNT, UPDATED_AT) "
+                    + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final String POSTGRES_UPSERT_SQL = INSERT_SQL
+            + " ON CONFLICT (STATUS, SLOT) DO UPDATE SET "
+            + "ROW_COUNT = SAMPLE_STATISTICS.ROW_COUNT + EXCLUDED.ROW_COUNT, "
+            + "AMOUNT_SUM = SAMPLE_STATISTICS.AMOUNT_SUM + EXCLUDED.AMOUNT_SUM, "
+            + "PROCESSED_COUNT = SAMPLE_STATISTICS.PROCESSED_COUNT + EXCLUDED.PROCESSED_COUNT, "
+            + "UPDATED_AT = EXCLUDED.UPDATED_AT";
+
+    private static final String H2_UPSERT_SQL =
+            "MERGE INTO SAMPLE_STATISTICS T USING (SELECT CAST(? AS VARCHAR(50)) AS STATUS, CAST(? AS INT) AS SLOT, "
+                    + "CAST(? AS BIGINT) AS ROW_COUNT, CAST(? AS DECIMAL(19,2)) AS AMOUNT_SUM, "
+                    + "CAST(? AS BIGINT) AS PROCESSED_COUNT) S ON (T.STATUS = S.STATUS AND T.SLOT = S.SLOT) "
+                    + "WHEN MATCHED THEN UPDATE SET ROW_COUNT = T.ROW_COUNT + S.ROW_COUNT, "
+                    + "AMOUNT_SUM = T.AMOUNT_SUM + S.AMOUNT_SUM, PROCESSED_COUNT = T.PROCESSED_COUNT + S.PROCESSED_COUNT, "
+                    + "UPDATED_AT = CURRENT_TIMESTAMP "
+                    + "WHEN NOT MATCHED THEN INSERT (STATUS, SLOT, ROW_COUNT, AMOUNT_SUM, PROCESSED_COUNT, UPDATED_AT) "
+                    + "VALUES (S.STATUS, S.SLOT, S.ROW_COUNT, S.AMOUNT_SUM, S.PROCESSED_COUNT, CURRENT_TIMESTAMP)";
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final BatchProperties batchProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, SampleStatisticsDTO> published = new ConcurrentHashMap<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate snapshotTemplate;
+    private String upsertSql;
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.isTrue(batchProperties.getStatistics().getSlots() > 0, "batch.statistics.slots must be greater than zero");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        DatabaseType databaseType = detectDatabaseType();
+        snapshotTemplate = new TransactionTemplate(transactionManager);
+        snapshotTemplate.setReadOnly(true);
+        // Oracle은 REPEATABLE READ가 없고 SERIALIZABLE이 스냅샷 읽기
+        snapshotTemplate.setIsolationLevel(databaseType == DatabaseType.ORACLE
+                ? TransactionDefinition.ISOLATION_SERIALIZABLE
+                : TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        upsertSql = switch (databaseType) {
+            case POSTGRES -> POSTGRES_UPSERT_SQL;
+            case H2 -> H2_UPSERT_SQL;
+            default -> null;
+        };
+    }
+
+    /**
+     * 처리 완료 플래그 반영 전 호출 (호출 측 트랜잭션 안)
+     * - ids 중 아직 미처리(PROCESSED = FALSE)인 행을 상태별로 세어 처리 완료 수에 더함
+     */
+    public void recordProcessed(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Map<String, Totals> delta = new TreeMap<>();
+        capture("PROCESSED = FALSE AND ID IN (" + placeholders + ")", ids.toArray())
+                .forEach((status, totals) -> delta.put(status, new Totals(0, BigDecimal.ZERO, totals.count())));
+        apply(delta, currentSlot());
+    }
+
+    /**
+     * SAMPLE 행 삭제(이동) 전 호출 (호출 측 트랜잭션 안)
+     * - condition에 맞는 행의 상태별 건수, 금액, 처리 완료 수를 뺌
+     */
+    public void recordRemoved(String condition, Object... parameters) {
+        Map<String, Totals> delta = new TreeMap<>();
+        capture(condition, parameters).forEach((status, totals) -> delta.put(status, totals.negate()));
+        apply(delta, currentSlot());
+    }
+
+    /**
+     * 상태별 통계 조회 (슬롯 합계)
+     */
+    public List<SampleStatisticsDTO> getStatistics() {
+        List<SampleStatisticsDTO> statistics = new ArrayList<>();
+        summary().forEach((status, totals) -> {
+            if (totals.count() != 0) {
+                statistics.add(SampleStatisticsDTO.builder()
+                        .status(status)
+                        .count(totals.count())
+                        .amountSum(totals.amount())
+                        .processedCount(totals.processed())
+                        .build());
+            }
+        });
+        return statistics;
+    }
+
+    /**
+     * 통계 조회 후 메트릭 갱신
+     */
+    public List<SampleStatisticsDTO> refresh() {
+        List<SampleStatisticsDTO> statistics = getStatistics();
+        Map<String, SampleStatisticsDTO> current = new TreeMap<>();
+        statistics.forEach(dto -> current.put(dto.getStatus(), dto));
+
+        for (String status : published.keySet()) {
+            if (!current.containsKey(status)) {
+                published.put(status, SampleStatisticsDTO.builder()
+                        .status(status).amountSum(BigDecimal.ZERO).build());
+            }
+        }
+        current.forEach((status, dto) -> {
+            if (published.put(status, dto) == null) {
+                registerGauges(status);
+            }
+        });
+        return statistics;
+    }
+
+    /**
+     * SAMPLE 전체 집계와 비교하여 차이를 보정
+     * - 스냅샷에서 차이를 구한 뒤 별도 트랜잭션으로 슬롯 0에 더하므로 집계 동안 SAMPLE_STATISTICS를 잠그지 않음
+     * - SAMPLE_STATISTICS가 비어 있던 경우(초기 적재)는 보정이 아닌 초기화로 기록
+     *
+     * @return 상태별 보정 건수 (차이가 없으면 비어 있음)
+     */
+    @Scheduled(fixedDelayString = "${batch.statistics.reconcile-interval:3600000}")
+    public Map<String, Long> reconcile() {
+        long started = System.currentTimeMillis();
+        Drift drift = snapshotTemplate.execute(status -> {
+            Map<String, Totals> actual = capture(null);
+            Map<String, Totals> current = summary();
+
+            Map<String, Totals> diff = new TreeMap<>();
+            TreeSet<String> statuses = new TreeSet<>(actual.keySet());
+            statuses.addAll(current.keySet());
+            for (String key : statuses) {
+                Totals totals = actual.getOrDefault(key, Totals.ZERO)
+                        .minus(current.getOrDefault(key, Totals.ZERO));
+                if (!totals.isZero()) {
+                    diff.put(key, totals);
+                }
+            }
+            return new Drift(diff, current.isEmpty());
+        });
+        if (!drift.diff().isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> apply(drift.diff(), 0));
+        }
+
+        Map<String, Long> result = new TreeMap<>();
+        drift.diff().forEach((status, totals) -> result.put(status, totals.count()));
+        long elapsed = System.currentTimeMillis() - started;
+        if (drift.diff().isEmpty()) {
+            log.debug("Sample statistics reconciled without drift in {}ms", elapsed);
+        } else if (drift.initial()) {
+            log.info("Sample statistics initialized from SAMPLE in {}ms: {}", elapsed, drift.diff());
+        } else {
+            log.warn("Sample statistics drift corrected in {}ms: {}", elapsed, drift.diff());
+        }
+        return result;
+    }
+
+    /**
+     * SAMPLE 상태별 집계 (condition이 null이면 전체)
+     */
+    private Map<String, Totals> capture(String condition, Object... parameters) {
+        String sql = CAPTURE_SQL + (condition != null ? " WHERE " + condition : "") + " GROUP BY COALESCE(STATUS, 'UNKNOWN')";
+        return query(sql, parameters);
+    }
+
+    private Map<String, Totals> summary() {
+        return query(SUMMARY_SQL);
+    }
+
+    private Map<String, Totals> query(String sql, Object... parameters) {
+        Map<String, Totals> result = new TreeMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            BigDecimal amount = rs.getBigDecimal("AMOUNT_SUM");
+            result.put(rs.getString("STATUS"), new Totals(rs.getLong("ROW_COUNT"),
+                    amount != null ? amount : BigDecimal.ZERO, rs.getLong("PROCESSED_COUNT")));
+        }, parameters);
+        return result;
+    }
+
+    /**
+     * 증분 반영 (상태 이름 순으로 잠가 동시 반영 간 교착 방지)
+     */
+    private void apply(Map<String, Totals> delta, int slot) {
+        delta.forEach((status, totals) -> {
+            if (totals.isZero()) {
+                return;
+            }
+            if (upsertSql != null) {
+                jdbcTemplate.update(upsertSql, status, slot, totals.count(), totals.amount(), totals.processed());
+                return;
+            }
+            int updated = jdbcTemplate.update(UPDATE_SQL,
+                    totals.count(), totals.amount(), totals.processed(), status, slot);
+            if (updated == 0) {
+                jdbcTemplate.update(INSERT_SQL, status, slot, totals.count(), totals.amount(), totals.processed());
+            }
+        });
+    }
+
+    private int currentSlot() {
+        return (int) Math.floorMod(Thread.currentThread().getId(), (long) batchProperties.getStatistics().getSlots());
+    }
+
+    private void registerGauges(String status) {
+        gauge("batch.sample.count", "Sample rows by status", status, dto -> dto.getCount());
+        gauge("batch.sample.amount", "Sample amount sum by status", status, dto -> dto.getAmountSum().doubleValue());
+        gauge("batch.sample.processed", "Processed sample rows by status", status, dto -> dto.getProcessedCount());
+    }
+
+    private void gauge(String name, String description, String status, ToDoubleFunction<SampleStatisticsDTO> value) {
+        Gauge.builder(name, published, map -> {
+                    SampleStatisticsDTO dto = map.get(status);
+                    return dto != null ? value.applyAsDouble(dto) : 0;
+                })
+                .description(description)
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+
+    private DatabaseType detectDatabaseType() {
+        try {
+            return DatabaseType.fromMetaData(dataSource);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Failed to detect database type for sample statistics", e);
+        }
+    }
+
+    /**
+     * 보정할 차이 (initial: SAMPLE_STATISTICS가 비어 있었음)
+     */
+    private record Drift(Map<String, Totals> diff, boolean initial) {
+    }
+
+    private record Totals(long count, BigDecimal amount, long processed) {
+
+        static final Totals ZERO = new Totals(0, BigDecimal.ZERO, 0);
+
+        Totals negate() {
+            return new Totals(-count, amount.negate(), -processed);
+        }
+
+        Totals minus(Totals other) {
+            return new Totals(count - other.count, amount.subtract(other.amount), processed - other.processed);
+        }
+
+        boolean isZero() {
+            return count == 0 && amount.signum() == 0 && processed == 0;
+        }
+    }
+}
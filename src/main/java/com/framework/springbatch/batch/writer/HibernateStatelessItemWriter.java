@@ -0,0 +1,106 @@
+package com.framework.springbatch.batch.writer;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Hibernate StatelessSession 기반 Writer
+ * - JpaItemWriter 대체용 (영속성 컨텍스트, 스냅샷, flush 시 dirty checking 없음)
+ * - 항목마다 INSERT 또는 UPDATE 실행 (식별자 생성기는 엔티티 매핑을 그대로 사용)
+ * - 청크를 jdbcBatchSize 건씩 나누어 조각마다 StatelessSession을 열고, 배치 크기를 조각 크기로 지정
+ *   (조각의 마지막 항목에서 배치가 가득 차 실행되므로 세션을 닫을 때 남는 배치가 없음)
+ *   (시퀀스 기반 식별자여야 배치가 동작하며, IDENTITY 엔티티는 건별 INSERT)
+ *
+ * 청크 트랜잭션의 JDBC 커넥션(DataSourceUtils)으로 StatelessSession을 열어 Step 트랜잭션에 참여한다.
+ * JPA 엔티티 리스너(BaseEntity 감사 필드 등)와 Cascade는 적용되지 않으므로 필요한 값은 미리 채워야 한다.
+ */
+public class HibernateStatelessItemWriter<T> implements ItemWriter<T>, InitializingBean {
+
+    /**
+     * 실행 방식
+     */
+    public enum Operation {
+        INSERT,
+        UPDATE
+    }
+
+    private EntityManagerFactory entityManagerFactory;
+    private DataSource dataSource;
+    private Operation operation = Operation.INSERT;
+    private int jdbcBatchSize = 100;
+
+    private SessionFactory sessionFactory;
+
+    public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * StatelessSession JDBC 배치 크기 (1이면 건별 실행)
+     */
+    public void setJdbcBatchSize(int jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(entityManagerFactory, "entityManagerFactory is required");
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.notNull(operation, "operation is required");
+        Assert.isTrue(jdbcBatchSize > 0, "jdbcBatchSize must be greater than zero");
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<? extends T> items = chunk.getItems();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            for (int from = 0; from < items.size(); from += jdbcBatchSize) {
+                write(connection, items.subList(from, Math.min(from + jdbcBatchSize, items.size())));
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * 조각 단위 실행
+     * - 외부 커넥션으로 연 세션은 Hibernate 트랜잭션 완료(배치 실행) 시점이 없으므로
+     *   배치 크기를 조각 크기와 같게 두어 마지막 항목에서 배치가 실행되게 함
+     */
+    private void write(Connection connection, List<? extends T> items) {
+        try (StatelessSession session = sessionFactory.openStatelessSession(connection)) {
+            session.setJdbcBatchSize(items.size());
+            for (T item : items) {
+                if (operation == Operation.INSERT) {
+                    session.insert(item);
+                } else {
+                    session.update(item);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.framework.springbatch.batch.writer;
+
+import com.framework.springbatch.batch.service.SampleStatisticsService;
+import com.framework.springbatch.domain.sample.mapper.SampleMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * SAMPLE 처리 완료 플래그 Writer
+ * - 청크의 SAMPLE ID를 모아 UPDATE ... WHERE ID IN (...) 1회로 PROCESSED = TRUE 반영
+ * - 엔티티 dirty checking 없이 청크 트랜잭션 안에서 결과 적재와 함께 커밋
+ * - CompositeItemWriter로 결과 Writer와 조합하여 사용
+ * - 상태별 처리 완료 수(SAMPLE_STATISTICS) 증분도 같은 청크 트랜잭션에서 반영
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SampleProcessedFlagItemWriter<T> implements ItemWriter<T> {
+
+    private final SampleMapper sampleMapper;
+    private final SampleStatisticsService statisticsService;
+
+    /**
+     * 항목에서 SAMPLE ID 추출 (예: Sample::getId, SampleResult::getSampleId)
+     */
+    private final Function<T, Long> sampleIdExtractor;
+
+    @Override
+    public void write(Chunk<? extends T> chunk) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (T item : chunk) {
+            Long id = sampleIdExtractor.apply(item);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        statisticsService.recordProcessed(ids);
+        int updated = sampleMapper.updateProcessedBatch(new ArrayList<>(ids), true);
+        if (updated != ids.size()) {
+            log.warn("Processed flag updated {} of {} samples", updated, ids.size());
+        } else {
+            log.debug("Processed flag updated: {} samples", updated);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.framework.springbatch.batch.writer;
+
+import com.framework.springbatch.domain.sample.entity.SampleResult;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * SAMPLE_RESULT PostgreSQL COPY Writer
+ * - 청크를 CSV로 직렬화하여 COPY ... FROM STDIN으로 스트리밍 적재
+ * - 직렬화 버퍼는 스레드별로 재사용하며 flushThreshold 단위로 나누어 전송
+ * - PostgreSQL이 아닌 경우(H2 등) JDBC 배치 INSERT로 대체
+ *
+ * 청크 트랜잭션의 커넥션을 그대로 사용하므로 롤백 시 COPY 적재분도 함께 롤백된다.
+ */
+@Slf4j
+public class SampleResultCopyItemWriter extends SampleResultJdbcItemWriter {
+
+    public static final String COPY_SQL =
+            "COPY SAMPLE_RESULT (ID, SAMPLE_ID, JOB_EXECUTION_ID, RESULT_STATUS, RESULT_MESSAGE, PROCESSED_AT) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final int DEFAULT_FLUSH_THRESHOLD = 64 * 1024;
+
+    private final ThreadLocal<CopyBuffer> buffers = ThreadLocal.withInitial(CopyBuffer::new);
+    private int flushThreshold = DEFAULT_FLUSH_THRESHOLD;
+
+    /**
+     * COPY 전송 단위 (bytes)
+     */
+    public void setFlushThreshold(int flushThreshold) {
+        this.flushThreshold = flushThreshold;
+    }
+
+    @Override
+    protected void doWrite(List<? extends SampleResult> items) throws Exception {
+        Connection connection = DataSourceUtils.getConnection(getDataSource());
+        try {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                super.doWrite(items);
+                return;
+            }
+            copy(connection.unwrap(PGConnection.class), items);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, getDataSource());
+        }
+    }
+
+    private void copy(PGConnection connection, List<? extends SampleResult> items) throws SQLException {
+        CopyBuffer buffer = buffers.get();
+        buffer.reset();
+
+        CopyIn copyIn = connection.getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder row = new StringBuilder(256);
+            for (SampleResult result : items) {
+                row.setLength(0);
+                appendRow(row, result);
+                buffer.writeUtf8(row);
+                if (buffer.size() >= flushThreshold) {
+                    copyIn.writeToCopy(buffer.array(), 0, buffer.size());
+                    buffer.reset();
+                }
+            }
+            if (buffer.size() > 0) {
+                copyIn.writeToCopy(buffer.array(), 0, buffer.size());
+            }
+            long rows = copyIn.endCopy();
+            log.debug("COPY wrote {} rows into SAMPLE_RESULT", rows);
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            buffer.reset();
+        }
+    }
+
+    /**
+     * CSV 1행 직렬화 (COPY_SQL 컬럼 순서)
+     */
+    protected void appendRow(StringBuilder row, SampleResult result) {
+        row.append(result.getId()).append(',');
+        row.append(result.getSampleId()).append(',');
+        if (result.getJobExecutionId() != null) {
+            row.append(result.getJobExecutionId());
+        }
+        row.append(',');
+        appendText(row, result.getResultStatus());
+        row.append(',');
+        appendText(row, result.getResultMessage());
+        row.append(',');
+        row.append(result.getProcessedAt());
+        row.append('\n');
+    }
+
+    /**
+     * CSV 문자열 값 (NULL은 빈 값, 빈 문자열은 "")
+     */
+    private void appendText(StringBuilder row, String value) {
+        if (value == null) {
+            return;
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        row.append('"');
+    }
+
+    /**
+     * 내부 배열을 복사 없이 노출하는 재사용 버퍼
+     */
+    private static class CopyBuffer extends ByteArrayOutputStream {
+
+        CopyBuffer() {
+            super(DEFAULT_FLUSH_THRESHOLD * 2);
+        }
+
+        void writeUtf8(CharSequence value) {
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            write(bytes, 0, bytes.length);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
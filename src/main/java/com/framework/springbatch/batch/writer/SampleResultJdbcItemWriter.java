@@ -0,0 +1,89 @@
+package com.framework.springbatch.batch.writer;
+
+import com.framework.springbatch.domain.sample.entity.SampleResult;
+import com.framework.springbatch.global.common.id.SequenceIdAllocator;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.util.Assert;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SAMPLE_RESULT JDBC 배치 Writer
+ * - JpaItemWriter 대체용 (IDENTITY 키로 인한 건별 INSERT 회피)
+ * - JOB_EXECUTION_ID가 비어 있으면 현재 JobExecution ID로 채움
+ * - ID가 비어 있으면 SAMPLE_RESULT_SEQ 블록 할당기로 채번 (건별 키 조회 없음)
+ * - 보정된 값은 항목에 다시 기록되어 재시도 시 같은 ID로 적재
+ */
+public class SampleResultJdbcItemWriter extends JdbcBatchInsertItemWriter<SampleResult> {
+
+    public static final String INSERT_SQL =
+            "INSERT INTO SAMPLE_RESULT (ID, SAMPLE_ID, JOB_EXECUTION_ID, RESULT_STATUS, RESULT_MESSAGE, PROCESSED_AT) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private SequenceIdAllocator idAllocator;
+    private Long jobExecutionId;
+
+    public SampleResultJdbcItemWriter() {
+        setSql(INSERT_SQL);
+        setPreparedStatementSetter(this::setValues);
+    }
+
+    public void setIdAllocator(SequenceIdAllocator idAllocator) {
+        this.idAllocator = idAllocator;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        Assert.notNull(idAllocator, "idAllocator is required");
+    }
+
+    @Override
+    protected void beforeWrite(List<? extends SampleResult> items) {
+        for (SampleResult result : items) {
+            if (result.getId() == null) {
+                result.setId(idAllocator.nextId());
+            }
+            fillDefaults(result);
+        }
+    }
+
+    /**
+     * JOB_EXECUTION_ID, PROCESSED_AT 보정
+     */
+    protected void fillDefaults(SampleResult result) {
+        if (result.getJobExecutionId() == null) {
+            result.setJobExecutionId(jobExecutionId);
+        }
+        if (result.getProcessedAt() == null) {
+            result.setProcessedAt(LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        super.beforeStep(stepExecution);
+        this.jobExecutionId = stepExecution.getJobExecutionId();
+    }
+
+    /**
+     * SAMPLE_RESULT 컬럼 바인딩 (INSERT_SQL 컬럼 순서)
+     */
+    protected void setValues(PreparedStatement ps, SampleResult result) throws SQLException {
+        ps.setLong(1, result.getId());
+        ps.setLong(2, result.getSampleId());
+        if (result.getJobExecutionId() != null) {
+            ps.setLong(3, result.getJobExecutionId());
+        } else {
+            ps.setNull(3, Types.BIGINT);
+        }
+        ps.setString(4, result.getResultStatus());
+        ps.setString(5, result.getResultMessage());
+        ps.setTimestamp(6, Timestamp.valueOf(result.getProcessedAt()));
+    }
+}
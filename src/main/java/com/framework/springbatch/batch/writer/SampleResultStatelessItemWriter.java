@@ -0,0 +1,53 @@
+package com.framework.springbatch.batch.writer;
+
+import com.framework.springbatch.domain.sample.entity.SampleResult;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * SAMPLE_RESULT Hibernate StatelessSession Writer
+ * - JpaItemWriter를 쓰던 Step의 대체용 (엔티티 매핑으로 INSERT, 영속성 컨텍스트 없음)
+ * - 적재는 HibernateStatelessItemWriter에 위임하고 batchSize 건씩 JDBC 배치로 실행
+ * - JOB_EXECUTION_ID, PROCESSED_AT 보정과 처리량 기록은 SampleResultJdbcItemWriter와 동일
+ *
+ * ID는 미리 채번하지 않는다. StatelessSession INSERT는 항목의 ID와 무관하게 엔티티의 식별자 생성기
+ * (PooledSequenceGenerator, SAMPLE_RESULT_SEQ)로 새 ID를 할당하므로 재시도하면 다른 ID로 적재된다.
+ * JPA 엔티티 리스너와 Cascade는 적용되지 않는다 (HibernateStatelessItemWriter 참고).
+ */
+public class SampleResultStatelessItemWriter extends SampleResultJdbcItemWriter {
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private HibernateStatelessItemWriter<SampleResult> delegate;
+
+    public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        Assert.notNull(entityManagerFactory, "entityManagerFactory is required");
+        delegate = new HibernateStatelessItemWriter<>();
+        delegate.setEntityManagerFactory(entityManagerFactory);
+        delegate.setDataSource(getDataSource());
+        delegate.setJdbcBatchSize(getBatchSize());
+        delegate.afterPropertiesSet();
+    }
+
+    /**
+     * JOB_EXECUTION_ID, PROCESSED_AT만 보정 (ID는 엔티티 식별자 생성기가 할당)
+     */
+    @Override
+    protected void beforeWrite(List<? extends SampleResult> items) {
+        items.forEach(this::fillDefaults);
+    }
+
+    @Override
+    protected void doWrite(List<? extends SampleResult> items) {
+        delegate.write(new Chunk<>(items));
+    }
+}
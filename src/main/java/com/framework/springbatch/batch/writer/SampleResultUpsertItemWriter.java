@@ -0,0 +1,173 @@
+package com.framework.springbatch.batch.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.util.Assert;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SAMPLE_RESULT 멱등 UPSERT Writer
+ * - 자연키(기본: SAMPLE_ID)가 같은 행은 INSERT 대신 갱신
+ * - PostgreSQL: INSERT ... ON CONFLICT (key) DO UPDATE
+ * - H2: MERGE INTO ... USING ... ON (key)
+ * - JDBC 배치(addBatch/executeBatch)는 그대로 유지
+ *
+ * 같은 청크를 다시 적재해도 중복 행이 생기지 않으므로 실패한 청크를 통째로 재실행할 수 있다.
+ * JOB_EXECUTION_ID는 재시작(새 JobExecution)마다 바뀌므로 키에 넣으면 재시작 간 중복 행이 생긴다.
+ *
+ * 자연키 컬럼과 정확히 같은 UNIQUE 인덱스가 있어야 한다 (ON CONFLICT 대상, 동시 MERGE 시 중복 방지).
+ * 생성 시 인덱스를 확인하여 없으면 UK_SAMPLE_RESULT_NATURAL_KEY로 만들고, 만들 수 없으면 설정 오류로 실패한다.
+ * (파티션 테이블은 파티션 키가 빠진 UNIQUE 인덱스를 만들 수 없고, 기존 중복 행이 있어도 실패)
+ * UPSERT를 쓰지 않으면 인덱스를 만들지 않으므로 다른 Writer는 SAMPLE당 여러 결과 행을 적재할 수 있다.
+ */
+@Slf4j
+public class SampleResultUpsertItemWriter extends SampleResultJdbcItemWriter {
+
+    /**
+     * INSERT_SQL 컬럼 순서와 SQL 타입 (ID는 키/갱신 대상에서 제외)
+     */
+    private static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+
+    static {
+        COLUMNS.put("ID", "BIGINT");
+        COLUMNS.put("SAMPLE_ID", "BIGINT");
+        COLUMNS.put("JOB_EXECUTION_ID", "BIGINT");
+        COLUMNS.put("RESULT_STATUS", "VARCHAR(50)");
+        COLUMNS.put("RESULT_MESSAGE", "VARCHAR(1000)");
+        COLUMNS.put("PROCESSED_AT", "TIMESTAMP");
+    }
+
+    private static final String TABLE_NAME = "SAMPLE_RESULT";
+    private static final String INDEX_NAME = "UK_SAMPLE_RESULT_NATURAL_KEY";
+
+    private List<String> keyColumns = List.of("SAMPLE_ID");
+
+    public void setKeyColumns(List<String> keyColumns) {
+        this.keyColumns = keyColumns.stream()
+                .map(column -> column.trim().toUpperCase())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notEmpty(keyColumns, "keyColumns is required");
+        for (String column : keyColumns) {
+            Assert.isTrue(COLUMNS.containsKey(column) && !"ID".equals(column),
+                    "Unsupported upsert key column: " + column);
+        }
+        setSql(buildUpsertSql(detectDatabaseType()));
+        super.afterPropertiesSet();
+        ensureUniqueKey();
+        log.debug("Upsert writer keyed by {}: {}", keyColumns, getSql());
+    }
+
+    /**
+     * 자연키 UNIQUE 인덱스 확인 (없으면 생성, 생성 후에도 없으면 설정 오류)
+     */
+    private void ensureUniqueKey() {
+        if (hasUniqueKey()) {
+            return;
+        }
+        String columns = String.join(", ", keyColumns);
+        try {
+            getJdbcTemplate().execute(
+                    "CREATE UNIQUE INDEX IF NOT EXISTS " + INDEX_NAME + " ON " + TABLE_NAME + " (" + columns + ")");
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("Upsert key (" + columns + ") has no unique index on " + TABLE_NAME
+                    + " and it could not be created (partitioned table or duplicate rows)", e);
+        }
+        if (!hasUniqueKey()) {
+            throw new IllegalStateException("Upsert key (" + columns + ") has no unique index on " + TABLE_NAME
+                    + "; " + INDEX_NAME + " exists on other columns, drop it or change batch.writer.upsert-key-columns");
+        }
+        log.info("Created unique index {} on {} ({}) for upsert writer", INDEX_NAME, TABLE_NAME, columns);
+    }
+
+    /**
+     * 자연키 컬럼 집합과 정확히 같은 UNIQUE 인덱스 존재 여부
+     */
+    private boolean hasUniqueKey() {
+        Set<String> expected = new HashSet<>(keyColumns);
+        Boolean found = getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesLowerCaseIdentifiers() ? TABLE_NAME.toLowerCase() : TABLE_NAME;
+            Map<String, Set<String>> indexes = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table,
+                    true, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    if (indexName != null && columnName != null) {
+                        indexes.computeIfAbsent(indexName, name -> new HashSet<>()).add(columnName.toUpperCase());
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to read indexes of " + TABLE_NAME, e);
+            }
+            return indexes.containsValue(expected);
+        });
+        return Boolean.TRUE.equals(found);
+    }
+
+    private DatabaseType detectDatabaseType() {
+        try {
+            return DatabaseType.fromMetaData(getDataSource());
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Failed to detect database type for upsert writer", e);
+        }
+    }
+
+    private String buildUpsertSql(DatabaseType databaseType) {
+        List<String> updateColumns = new ArrayList<>();
+        for (String column : COLUMNS.keySet()) {
+            if (!"ID".equals(column) && !keyColumns.contains(column)) {
+                updateColumns.add(column);
+            }
+        }
+        Assert.notEmpty(updateColumns, "At least one non-key column is required for upsert");
+        String columns = String.join(", ", COLUMNS.keySet());
+
+        switch (databaseType) {
+            case POSTGRES:
+                return "INSERT INTO SAMPLE_RESULT (" + columns + ") VALUES (?, ?, ?, ?, ?, ?) "
+                        + "ON CONFLICT (" + String.join(", ", keyColumns) + ") DO UPDATE SET "
+                        + updateColumns.stream()
+                                .map(column -> column + " = EXCLUDED." + column)
+                                .collect(Collectors.joining(", "));
+            case H2:
+                return "MERGE INTO SAMPLE_RESULT T USING (SELECT "
+                        + COLUMNS.entrySet().stream()
+                                .map(e -> "CAST(? AS " + e.getValue() + ") AS " + e.getKey())
+                                .collect(Collectors.joining(", "))
+                        + ") S ON ("
+                        + keyColumns.stream()
+                                .map(column -> "T." + column + " = S." + column)
+                                .collect(Collectors.joining(" AND "))
+                        + ") WHEN MATCHED THEN UPDATE SET "
+                        + updateColumns.stream()
+                                .map(column -> column + " = S." + column)
+                                .collect(Collectors.joining(", "))
+                        + " WHEN NOT MATCHED THEN INSERT (" + columns + ") VALUES ("
+                        + COLUMNS.keySet().stream()
+                                .map(column -> "S." + column)
+                                .collect(Collectors.joining(", "))
+                        + ")";
+            default:
+                throw new IllegalStateException("Upsert writer does not support database: " + databaseType);
+        }
+    }
+}
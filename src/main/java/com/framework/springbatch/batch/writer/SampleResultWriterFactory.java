@@ -0,0 +1,74 @@
+package com.framework.springbatch.batch.writer;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.batch.config.BatchProperties.WriterType;
+import com.framework.springbatch.global.common.id.SequenceIdAllocator;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * SAMPLE_RESULT Writer 생성기
+ * - BatchProperties(batch.writer)의 Step별 Writer 유형에 따라 JDBC/COPY/UPSERT/STATELESS Writer 생성
+ * - UPSERT가 설정되어 있으면 기동 시 자연키 UNIQUE 인덱스를 확인/생성 (불가능하면 기동 실패)
+ */
+@Component
+@RequiredArgsConstructor
+public class SampleResultWriterFactory implements SmartInitializingSingleton {
+
+    private final DataSource dataSource;
+    private final BatchProperties batchProperties;
+    private final SequenceIdAllocator sampleResultIdAllocator;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * UPSERT 설정 검증 (스키마 초기화 후 실행)
+     * - Writer 생성 시 자연키 UNIQUE 인덱스를 확인하므로 Step 첫 실행 전에 설정 오류를 드러냄
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        BatchProperties.Writer properties = batchProperties.getWriter();
+        if (properties.getType() == WriterType.UPSERT || properties.getSteps().containsValue(WriterType.UPSERT)) {
+            create(WriterType.UPSERT);
+        }
+    }
+
+    /**
+     * Step 설정에 맞는 Writer 생성
+     */
+    public SampleResultJdbcItemWriter create(String stepName) {
+        return create(batchProperties.getWriter().getType(stepName));
+    }
+
+    /**
+     * 지정 유형의 Writer 생성
+     */
+    public SampleResultJdbcItemWriter create(WriterType type) {
+        BatchProperties.Writer properties = batchProperties.getWriter();
+
+        SampleResultJdbcItemWriter writer;
+        if (type == WriterType.COPY) {
+            SampleResultCopyItemWriter copyWriter = new SampleResultCopyItemWriter();
+            copyWriter.setFlushThreshold(properties.getCopyFlushThreshold());
+            writer = copyWriter;
+        } else if (type == WriterType.UPSERT) {
+            SampleResultUpsertItemWriter upsertWriter = new SampleResultUpsertItemWriter();
+            upsertWriter.setKeyColumns(properties.getUpsertKeyColumns());
+            writer = upsertWriter;
+        } else if (type == WriterType.STATELESS) {
+            SampleResultStatelessItemWriter statelessWriter = new SampleResultStatelessItemWriter();
+            statelessWriter.setEntityManagerFactory(entityManagerFactory);
+            writer = statelessWriter;
+        } else {
+            writer = new SampleResultJdbcItemWriter();
+        }
+        writer.setDataSource(dataSource);
+        writer.setIdAllocator(sampleResultIdAllocator);
+        writer.setBatchSize(properties.getJdbcBatchSize());
+        writer.afterPropertiesSet();
+        return writer;
+    }
+}
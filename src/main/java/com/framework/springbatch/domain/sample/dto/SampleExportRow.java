@@ -0,0 +1,17 @@
+package com.framework.springbatch.domain.sample.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 샘플 CSV 출력용 Projection
+ * - 출력 대상 컬럼만 보유하는 불변 레코드 (영속성 컨텍스트 비관리)
+ */
+public record SampleExportRow(
+        Long id,
+        String name,
+        String description,
+        String status,
+        BigDecimal amount,
+        Boolean processed
+) {
+}
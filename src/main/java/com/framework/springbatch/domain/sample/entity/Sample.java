@@ -1,8 +1,12 @@
 package com.framework.springbatch.domain.sample.entity;
 
 import com.framework.springbatch.global.common.entity.BaseEntity;
+import com.framework.springbatch.global.common.id.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 
@@ -19,7 +23,9 @@ import java.math.BigDecimal;
 public class Sample extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "sampleIdGenerator")
+    @GenericGenerator(name = "sampleIdGenerator", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "SAMPLE_SEQ"))
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -1,7 +1,11 @@
 package com.framework.springbatch.domain.sample.entity;
 
+import com.framework.springbatch.global.common.id.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 
@@ -18,7 +22,9 @@ import java.time.LocalDateTime;
 public class SampleResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "sampleResultIdGenerator")
+    @GenericGenerator(name = "sampleResultIdGenerator", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "SAMPLE_RESULT_SEQ"))
     private Long id;
 
     @Column(name = "SAMPLE_ID", nullable = false)
@@ -23,13 +23,19 @@ public interface SampleMapper {
      */
     List<SampleDTO> selectByStatus(@Param("status") String status);
 
+    /**
+     * 샘플 일괄 등록 (multi-row INSERT)
+     * - ID는 호출 측에서 sampleIdAllocator(SAMPLE_SEQ)로 미리 채번해야 함
+     */
+    int insertSampleBatch(@Param("samples") List<SampleDTO> samples);
+
     /**
      * 처리 상태 일괄 업데이트
      */
     int updateProcessedBatch(@Param("ids") List<Long> ids, @Param("processed") boolean processed);
 
     /**
-     * 상태별 건수 통계
+     * 상태별 건수 통계 (SAMPLE_STATISTICS 조회, SAMPLE 전체를 집계하지 않음)
      */
     List<Map<String, Object>> selectCountByStatus();
 
@@ -0,0 +1,121 @@
+package com.framework.springbatch.global.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 레플리카 지연 감시
+ * - check-interval마다 레플리카에서 지연(ms) 조회 쿼리를 실행하여 maxLag 이하이면 사용 가능으로 표시
+ * - 조회 실패, 지연 초과, 커넥션 획득 실패(markUnavailable) 시 다음 확인까지 Primary 사용
+ * - lagQuery 미지정 시 PostgreSQL은 WAL 재생 시각 기준 지연, 그 외(H2 등)는 0(연결 확인만)
+ *
+ * 메트릭: batch.datasource.replica.lag (ms, 조회 실패 시 -1), batch.datasource.replica.available (1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements InitializingBean {
+
+    static final String POSTGRESQL_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+                    + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private static final String DEFAULT_LAG_QUERY = "SELECT 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private Duration maxLag = Duration.ofSeconds(5);
+    private String lagQuery;
+
+    private volatile boolean available;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replica) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("batch.datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Replica replication lag in milliseconds (-1 when unknown)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("batch.datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("Whether reads are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(maxLag, "maxLag is required");
+        check();
+    }
+
+    /**
+     * 레플리카 지연 확인
+     */
+    @Scheduled(fixedDelayString = "${batch.datasource.replica.check-interval:5000}")
+    public void check() {
+        try {
+            Number lag = jdbcTemplate.queryForObject(resolveLagQuery(), Number.class);
+            lagMillis = lag != null ? lag.longValue() : 0;
+            update(lagMillis <= maxLag.toMillis(), "lag " + lagMillis + "ms, max " + maxLag.toMillis() + "ms");
+        } catch (Exception e) {
+            lagMillis = -1;
+            update(false, e.getMessage());
+        }
+    }
+
+    /**
+     * 레플리카 커넥션 획득 실패 (다음 확인까지 Primary 사용)
+     */
+    public void markUnavailable(SQLException e) {
+        update(false, "connection failed: " + e.getMessage());
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    private synchronized void update(boolean newState, String reason) {
+        if (available != newState) {
+            if (newState) {
+                log.info("Replica available, routing reads to replica ({})", reason);
+            } else {
+                log.warn("Replica unavailable, routing reads to primary ({})", reason);
+            }
+        }
+        available = newState;
+    }
+
+    private String resolveLagQuery() {
+        if (StringUtils.hasText(lagQuery)) {
+            return lagQuery;
+        }
+        String product = jdbcTemplate.execute(
+                (Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        lagQuery = "PostgreSQL".equalsIgnoreCase(product) ? POSTGRESQL_LAG_QUERY : DEFAULT_LAG_QUERY;
+        return lagQuery;
+    }
+}
@@ -0,0 +1,47 @@
+package com.framework.springbatch.global.common.datasource;
+
+/**
+ * 레플리카 읽기 구간 (스레드 단위)
+ * - 구간 안에서 ReplicaRoutingDataSource가 새로 얻는 커넥션은 레플리카로 라우팅
+ * - 이미 트랜잭션에 묶인 커넥션(청크 트랜잭션 등)에는 영향 없음
+ *
+ * 구간 안에서 새 쓰기 트랜잭션을 시작하면 쓰기까지 레플리카로 향하므로 읽기만 하는 코드에만 사용한다.
+ * <pre>
+ * boolean previous = ReplicaReadContext.enter();
+ * try {
+ *     ...
+ * } finally {
+ *     ReplicaReadContext.restore(previous);
+ * }
+ * </pre>
+ */
+public final class ReplicaReadContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReplicaReadContext() {
+    }
+
+    /**
+     * 레플리카 읽기 구간 시작
+     *
+     * @return 이전 상태 (restore에 전달)
+     */
+    public static boolean enter() {
+        boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restore(boolean previous) {
+        if (previous) {
+            ACTIVE.set(Boolean.TRUE);
+        } else {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+}
@@ -0,0 +1,84 @@
+package com.framework.springbatch.global.common.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Primary / Replica 라우팅 DataSource
+ * - 레플리카가 사용 가능(ReplicaLagMonitor: 지연이 허용치 이하)하고 읽기 요청이면 레플리카 커넥션 반환
+ *   - 읽기 요청: ReplicaReadContext 구간에서 얻는 커넥션, 또는 readOnly 라우터의 모든 커넥션
+ * - 레플리카 커넥션 획득에 실패하면 레플리카를 사용 불가로 표시하고 Primary로 대체
+ *
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 라우팅 기준으로 쓰지 않는다.
+ * JobExplorer가 모든 조회를 읽기 전용 트랜잭션으로 실행하므로, 재시작/중지 판단이 지연된 레플리카를 읽게 되기 때문이다.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final boolean readOnly;
+
+    /**
+     * @param readOnly true면 모든 요청을 읽기로 보고 레플리카 우선 (조회 전용 풀)
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor replicaLagMonitor, boolean readOnly) {
+        Assert.notNull(primary, "primary is required");
+        Assert.notNull(replica, "replica is required");
+        Assert.notNull(replicaLagMonitor, "replicaLagMonitor is required");
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (useReplica()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                replicaLagMonitor.markUnavailable(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (useReplica()) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                replicaLagMonitor.markUnavailable(e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    private boolean useReplica() {
+        return (readOnly || ReplicaReadContext.isActive()) && replicaLagMonitor.isAvailable();
+    }
+
+    /**
+     * 풀 정보(Hikari 최대 크기, 메트릭)는 Primary 기준
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
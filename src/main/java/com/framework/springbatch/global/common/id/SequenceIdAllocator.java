@@ -0,0 +1,60 @@
+package com.framework.springbatch.global.common.id;
+
+import org.springframework.batch.item.database.support.DefaultDataFieldMaxValueIncrementerFactory;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import javax.sql.DataSource;
+
+/**
+ * 시퀀스 기반 ID 블록 할당기 (JDBC/MyBatis용)
+ * - {@link PooledSequenceGenerator}와 동일한 pooled-lo 규칙:
+ *   시퀀스 값 v 1건으로 [v, v + allocationSize) 범위를 할당
+ * - Hibernate와 같은 시퀀스를 공유해도 ID가 충돌하지 않음
+ * - 스레드 안전 (여러 파티션/스레드에서 공유 가능)
+ */
+public class SequenceIdAllocator {
+
+    private final DataFieldMaxValueIncrementer incrementer;
+    private final String sequenceName;
+    private final int allocationSize;
+
+    private long next;
+    private long limit;
+
+    public SequenceIdAllocator(DataSource dataSource, String sequenceName, int allocationSize) {
+        if (allocationSize <= 0) {
+            throw new IllegalArgumentException("allocationSize must be greater than zero");
+        }
+        try {
+            DatabaseType databaseType = DatabaseType.fromMetaData(dataSource);
+            this.incrementer = new DefaultDataFieldMaxValueIncrementerFactory(dataSource)
+                    .getIncrementer(databaseType.name(), sequenceName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Failed to detect database type for sequence " + sequenceName, e);
+        }
+        this.sequenceName = sequenceName;
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * 다음 ID 할당
+     */
+    public synchronized long nextId() {
+        if (next >= limit) {
+            long low = incrementer.nextLongValue();
+            next = low;
+            limit = low + allocationSize;
+        }
+        return next++;
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+}
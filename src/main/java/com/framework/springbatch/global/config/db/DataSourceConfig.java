@@ -0,0 +1,255 @@
+package com.framework.springbatch.global.config.db;
+
+import com.framework.springbatch.batch.executor.ConnectionWaitMetrics;
+import com.framework.springbatch.batch.executor.ConnectionWaitTimingDataSource;
+import com.framework.springbatch.global.common.datasource.ReplicaLagMonitor;
+import com.framework.springbatch.global.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 워크로드별 DataSource 설정
+ * - primaryDataSource (HikariPool-Primary): Job Step 업무 데이터 읽기/쓰기, JPA, MyBatis, JdbcTemplate
+ * - replicaDataSource (HikariPool-Replica): 읽기 전용 Step Reader, REST API 조회 (batch.datasource.replica.enabled=true)
+ * - batchMetaDataSource (HikariPool-BatchMeta): JobRepository 메타데이터(BATCH_JOB_*, BATCH_STEP_*) 갱신
+ *   (batch.datasource.meta.enabled=true, 기본은 업무 풀 공유)
+ * - webDataSource (HikariPool-Web): REST API의 배치 메타데이터 조회 (webJobExplorer)
+ *
+ * dataSource(@Primary)는 레플리카를 쓰지 않으면 업무 풀 그대로이고, 쓰면 업무 풀/레플리카 라우팅 DataSource이다.
+ * 풀마다 크기와 접속 DB(URL)를 따로 지정할 수 있고, 각 풀의 hikaricp.* 메트릭은 pool 태그로 구분된다.
+ * 업무 풀은 spring.datasource 설정을 그대로 사용하며, 트랜잭션 매니저도 풀마다 따로 둔다.
+ *
+ * Job Step이 쓰는 풀(업무, 레플리카, 메타데이터)은 ConnectionWaitTimingDataSource로 감싸서 내보내
+ * Step 스레드의 커넥션 획득 시간을 batch.connection.acquire 메트릭으로 기록한다.
+ * 풀 Bean(HikariDataSource)은 hikari.* 설정 바인딩을 위해 감싸지 않고, 이를 쓰는 DataSource Bean에서 감싼다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * 업무 DataSource 속성 (spring.datasource)
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * 업무 커넥션 풀 (Primary DB)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 업무 DataSource (Job Step 데이터 처리)
+     * - 레플리카 사용 시 ReplicaReadContext 구간(ReplicaReadItemStreamReader)에서 얻는 커넥션만 레플리카로 라우팅
+     * - Writer, 청크 트랜잭션, JobRepository(메타데이터 풀 공유 시)는 항상 Primary
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 ObjectProvider<ConnectionWaitMetrics> connectionWaitMetrics) {
+        DataSource primary = timed(primaryDataSource, "primaryDataSource", connectionWaitMetrics);
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null) {
+            return primary;
+        }
+        return new ReplicaRoutingDataSource(primary, timed(replica, "replicaDataSource", connectionWaitMetrics),
+                replicaLagMonitor.getObject(), false);
+    }
+
+    /**
+     * 읽기 전용 DataSource (조회 전용, 레플리카 우선)
+     * - Tasklet 트랜잭션 안의 집계 조회처럼 청크 트랜잭션과 별도 커넥션으로 읽을 때 사용
+     * - 레플리카를 쓰지 않으면 업무 DataSource와 같음
+     */
+    @Bean
+    public DataSource readOnlyDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                         @Qualifier("dataSource") DataSource dataSource,
+                                         @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                         ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                         ObjectProvider<ConnectionWaitMetrics> connectionWaitMetrics) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null) {
+            return dataSource;
+        }
+        return new ReplicaRoutingDataSource(timed(primaryDataSource, "primaryDataSource", connectionWaitMetrics),
+                timed(replica, "replicaDataSource", connectionWaitMetrics), replicaLagMonitor.getObject(), true);
+    }
+
+    /**
+     * 업무 트랜잭션 매니저 (Step 청크 트랜잭션, @Transactional 기본값)
+     * - 다른 트랜잭션 매니저 Bean이 있으면 Spring Boot JPA 자동 설정이 만들지 않으므로 직접 정의
+     */
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    /**
+     * REST API 조회 DataSource 속성 (batch.datasource.web)
+     */
+    @Bean
+    @ConfigurationProperties("batch.datasource.web")
+    public DataSourceProperties webDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * REST API 조회 커넥션 풀
+     * - 배치 메타데이터를 읽으므로 메타데이터 DB를 가리켜야 함
+     */
+    @Bean
+    @ConfigurationProperties("batch.datasource.web.hikari")
+    public HikariDataSource webPoolDataSource(@Qualifier("webDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * REST API 조회 DataSource
+     * - batch.datasource.replica.web=true 이면 레플리카 우선 (레플리카가 메타데이터 DB의 복제본일 때만 사용)
+     */
+    @Bean
+    public DataSource webDataSource(@Qualifier("webPoolDataSource") DataSource webPoolDataSource,
+                                    @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                    ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                    @Value("${batch.datasource.replica.web:false}") boolean replicaWeb) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null || !replicaWeb) {
+            return webPoolDataSource;
+        }
+        return new ReplicaRoutingDataSource(webPoolDataSource, replica, replicaLagMonitor.getObject(), true);
+    }
+
+    @Bean
+    public PlatformTransactionManager webTransactionManager(@Qualifier("webDataSource") DataSource webDataSource) {
+        return new JdbcTransactionManager(webDataSource);
+    }
+
+    /**
+     * Step 스레드의 커넥션 획득 시간 측정 (batch.connection.acquire, name은 풀 Bean 이름)
+     */
+    private static DataSource timed(DataSource pool, String name,
+                                    ObjectProvider<ConnectionWaitMetrics> connectionWaitMetrics) {
+        return new ConnectionWaitTimingDataSource(pool, name, connectionWaitMetrics);
+    }
+
+    /**
+     * JobRepository 메타데이터 DataSource
+     * - batch.datasource.meta.enabled=true 일 때만 생성, 기본은 업무 풀을 공유 (BatchInfrastructureConfig)
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "batch.datasource.meta", name = "enabled", havingValue = "true")
+    static class BatchMetaDataSourceConfiguration {
+
+        @Bean
+        @ConfigurationProperties("batch.datasource.meta")
+        public DataSourceProperties batchMetaDataSourceProperties() {
+            return new DataSourceProperties();
+        }
+
+        @Bean
+        @ConfigurationProperties("batch.datasource.meta.hikari")
+        public HikariDataSource batchMetaPoolDataSource(
+                @Qualifier("batchMetaDataSourceProperties") DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        @Bean
+        public DataSource batchMetaDataSource(@Qualifier("batchMetaPoolDataSource") DataSource batchMetaPoolDataSource,
+                                              ObjectProvider<ConnectionWaitMetrics> connectionWaitMetrics) {
+            return timed(batchMetaPoolDataSource, "batchMetaDataSource", connectionWaitMetrics);
+        }
+
+        @Bean
+        public PlatformTransactionManager batchMetaTransactionManager(
+                @Qualifier("batchMetaDataSource") DataSource batchMetaDataSource) {
+            return new JdbcTransactionManager(batchMetaDataSource);
+        }
+    }
+
+    /**
+     * 읽기 레플리카 DataSource
+     * - batch.datasource.replica.enabled=true 일 때만 생성
+     * - 레플리카 지연이 max-lag를 넘거나 접속에 실패하면 다음 확인(check-interval)까지 Primary에서 읽음
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "batch.datasource.replica", name = "enabled", havingValue = "true")
+    static class ReplicaDataSourceConfiguration {
+
+        @Bean
+        @ConfigurationProperties("batch.datasource.replica")
+        public DataSourceProperties replicaDataSourceProperties() {
+            return new DataSourceProperties();
+        }
+
+        @Bean
+        @ConfigurationProperties("batch.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(
+                @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        @Bean
+        public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${batch.datasource.replica.max-lag:5s}") Duration maxLag,
+                                                   @Value("${batch.datasource.replica.lag-query:}") String lagQuery) {
+            ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource);
+            monitor.setMaxLag(maxLag);
+            monitor.setLagQuery(lagQuery);
+            monitor.bindTo(meterRegistry);
+            return monitor;
+        }
+
+        /**
+         * 로컬(내장 DB) 레플리카 스키마/데이터 초기화
+         * - spring.sql.init 스크립트를 레플리카에도 실행 (내장 DB일 때만)
+         * - 실제 레플리카는 복제로 채워지므로 실행하지 않음
+         * - 레플리카 URL을 Primary와 같은 내장 DB로 지정할 때는 init-scripts=false (중복 INSERT 방지)
+         */
+        @Bean
+        @ConditionalOnProperty(prefix = "batch.datasource.replica", name = "init-scripts", havingValue = "true",
+                matchIfMissing = true)
+        public DataSourceScriptDatabaseInitializer replicaDataSourceInitializer(
+                @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                SqlInitializationProperties sqlInitializationProperties) {
+            DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+            settings.setSchemaLocations(sqlInitializationProperties.getSchemaLocations());
+            settings.setDataLocations(sqlInitializationProperties.getDataLocations());
+            settings.setContinueOnError(sqlInitializationProperties.isContinueOnError());
+            settings.setSeparator(sqlInitializationProperties.getSeparator());
+            settings.setEncoding(sqlInitializationProperties.getEncoding());
+            settings.setMode(DatabaseInitializationMode.EMBEDDED);
+            return new DataSourceScriptDatabaseInitializer(replicaDataSource, settings);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
@@ -18,7 +19,9 @@ import javax.sql.DataSource;
 public class MyBatisConfig {
 
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+    public SqlSessionFactory sqlSessionFactory(
+            DataSource dataSource,
+            @Value("${mybatis.configuration.default-fetch-size:100}") int defaultFetchSize) throws Exception {
         SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
         factoryBean.setDataSource(dataSource);
         factoryBean.setMapperLocations(
@@ -30,7 +33,7 @@ public class MyBatisConfig {
         // MyBatis 설정
         org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
         configuration.setMapUnderscoreToCamelCase(true);
-        configuration.setDefaultFetchSize(100);
+        configuration.setDefaultFetchSize(defaultFetchSize);
         configuration.setDefaultStatementTimeout(30);
         configuration.setCacheEnabled(true);
         factoryBean.setConfiguration(configuration);
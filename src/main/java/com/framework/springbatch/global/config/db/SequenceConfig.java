@@ -0,0 +1,48 @@
+package com.framework.springbatch.global.config.db;
+
+import com.framework.springbatch.global.common.id.PooledSequenceGenerator;
+import com.framework.springbatch.global.common.id.SequenceIdAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 시퀀스 ID 채번 설정
+ * - JPA 엔티티와 JDBC/MyBatis Writer가 같은 allocationSize로 시퀀스를 공유
+ */
+@Configuration
+public class SequenceConfig {
+
+    public static final String SAMPLE_SEQUENCE = "SAMPLE_SEQ";
+    public static final String SAMPLE_RESULT_SEQUENCE = "SAMPLE_RESULT_SEQ";
+
+    @Value("${sequence.allocation-size:" + PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE + "}")
+    private int allocationSize;
+
+    /**
+     * Hibernate 시퀀스 생성기에 allocationSize 전달
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sequenceAllocationSizeCustomizer() {
+        return properties -> properties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+    }
+
+    /**
+     * SAMPLE ID 할당기
+     */
+    @Bean
+    public SequenceIdAllocator sampleIdAllocator(DataSource dataSource) {
+        return new SequenceIdAllocator(dataSource, SAMPLE_SEQUENCE, allocationSize);
+    }
+
+    /**
+     * SAMPLE_RESULT ID 할당기
+     */
+    @Bean
+    public SequenceIdAllocator sampleResultIdAllocator(DataSource dataSource) {
+        return new SequenceIdAllocator(dataSource, SAMPLE_RESULT_SEQUENCE, allocationSize);
+    }
+}
@@ -43,6 +43,8 @@ public enum ErrorCode {
     BATCH_INVALID_PARAMETER(400, "B006", "잘못된 배치 파라미터입니다."),
     BATCH_LOCK_FAILED(409, "B007", "배치 락 획득에 실패했습니다."),
     BATCH_RESTART_FAILED(500, "B008", "배치 재시작에 실패했습니다."),
+    BATCH_QUEUE_FULL(429, "B009", "배치 실행 대기열이 가득 찼습니다. 잠시 후 다시 요청하세요."),
+    BATCH_QUEUE_TICKET_NOT_FOUND(404, "B010", "대기 중인 배치 실행 요청을 찾을 수 없습니다."),
 
     // ═══════════════════════════════════════════════════════════════
     // 비즈니스 에러 (E0xx)
@@ -68,8 +68,14 @@ VALUES ('sampleJob', 'skipLimit', '10', 'INTEGER', '스킵 한도');
 -- ───────────────────────────────────────────────────────────────────────────────
 -- 샘플 데이터 (배치 처리 대상)
 -- ───────────────────────────────────────────────────────────────────────────────
-INSERT INTO SAMPLE (NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES ('Sample 001', '테스트 데이터 1', 'ACTIVE', 1000.00, false, CURRENT_TIMESTAMP);
-INSERT INTO SAMPLE (NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES ('Sample 002', '테스트 데이터 2', 'ACTIVE', 2000.00, false, CURRENT_TIMESTAMP);
-INSERT INTO SAMPLE (NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES ('Sample 003', '테스트 데이터 3', 'ACTIVE', 3000.00, false, CURRENT_TIMESTAMP);
-INSERT INTO SAMPLE (NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES ('Sample 004', '테스트 데이터 4', 'ACTIVE', 4000.00, false, CURRENT_TIMESTAMP);
-INSERT INTO SAMPLE (NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES ('Sample 005', '테스트 데이터 5', 'INACTIVE', 5000.00, false, CURRENT_TIMESTAMP);
+INSERT INTO SAMPLE (ID, NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES (nextval('SAMPLE_SEQ'), 'Sample 001', '테스트 데이터 1', 'ACTIVE', 1000.00, false, CURRENT_TIMESTAMP);
+INSERT INTO SAMPLE (ID, NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES (nextval('SAMPLE_SEQ'), 'Sample 002', '테스트 데이터 2', 'ACTIVE', 2000.00, false, CURRENT_TIMESTAMP);
+INSERT INTO SAMPLE (ID, NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES (nextval('SAMPLE_SEQ'), 'Sample 003', '테스트 데이터 3', 'ACTIVE', 3000.00, false, CURRENT_TIMESTAMP);
+INSERT INTO SAMPLE (ID, NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES (nextval('SAMPLE_SEQ'), 'Sample 004', '테스트 데이터 4', 'ACTIVE', 4000.00, false, CURRENT_TIMESTAMP);
+INSERT INTO SAMPLE (ID, NAME, DESCRIPTION, STATUS, AMOUNT, PROCESSED, CREATED_AT) VALUES (nextval('SAMPLE_SEQ'), 'Sample 005', '테스트 데이터 5', 'INACTIVE', 5000.00, false, CURRENT_TIMESTAMP);
+
+-- SAMPLE 통계 초기값 (SampleStatisticsService 증분 기준, 위 샘플 데이터 집계를 슬롯 0에 적재)
+INSERT INTO SAMPLE_STATISTICS (STATUS, SLOT, ROW_COUNT, AMOUNT_SUM, PROCESSED_COUNT, UPDATED_AT)
+SELECT COALESCE(STATUS, 'UNKNOWN'), 0, COUNT(*), COALESCE(SUM(AMOUNT), 0),
+       SUM(CASE WHEN PROCESSED = TRUE THEN 1 ELSE 0 END), CURRENT_TIMESTAMP
+FROM SAMPLE GROUP BY COALESCE(STATUS, 'UNKNOWN');
@@ -0,0 +1,60 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- SAMPLE_RESULT 시간 Range 파티션 전환 (PostgreSQL 11 이상)
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- schema.sql 적용 후 psql로 한 번 실행 (spring.sql.init 대상 아님: DO 블록 사용)
+--   psql -v ON_ERROR_STOP=1 -f sample_result_partitioned.sql
+--
+-- - PROCESSED_AT 월 단위 Range 파티션 + DEFAULT 파티션
+-- - 파티션 키가 PK에 포함되어야 하므로 PK는 (ID, PROCESSED_AT), PROCESSED_AT은 NOT NULL
+-- - 기존 행은 월별 파티션을 만든 뒤 옮김 (대용량이면 점검 시간에 실행)
+-- - 이후 파티션 생성/만료 파티션 삭제는 dataCleanupJob cleanupOldDataStep이 수행
+--   (batch.purge.partition-interval=MONTH 와 일치해야 함)
+-- - JPA/JDBC/COPY Writer는 그대로 동작 (INSERT가 파티션으로 자동 분배)
+-- - UPSERT Writer(ON CONFLICT)는 UNIQUE 인덱스에 PROCESSED_AT이 포함되어야 하므로 사용하지 않음
+--   (UPSERT 설정 시 UK_SAMPLE_RESULT_NATURAL_KEY(SAMPLE_ID)를 만들 수 없어 기동에 실패함)
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+BEGIN;
+
+ALTER TABLE SAMPLE_RESULT RENAME TO SAMPLE_RESULT_LEGACY;
+ALTER INDEX IF EXISTS IDX_SAMPLE_RESULT_PROCESSED_AT RENAME TO IDX_SAMPLE_RESULT_LEGACY_PROCESSED_AT;
+
+CREATE TABLE SAMPLE_RESULT (
+    ID BIGINT NOT NULL,
+    SAMPLE_ID BIGINT NOT NULL,
+    JOB_EXECUTION_ID BIGINT,
+    RESULT_STATUS VARCHAR(50),
+    RESULT_MESSAGE VARCHAR(1000),
+    PROCESSED_AT TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT PK_SAMPLE_RESULT PRIMARY KEY (ID, PROCESSED_AT),
+    CONSTRAINT FK_SAMPLE_RESULT_SAMPLE FOREIGN KEY (SAMPLE_ID) REFERENCES SAMPLE(ID)
+) PARTITION BY RANGE (PROCESSED_AT);
+
+CREATE TABLE SAMPLE_RESULT_DEFAULT PARTITION OF SAMPLE_RESULT DEFAULT;
+
+-- 기존 데이터 구간 ~ 3개월 후까지 월별 파티션 생성 (이름: sample_result_pYYYYMM)
+DO $$
+DECLARE
+    period_start DATE := date_trunc('month', COALESCE(
+            (SELECT MIN(PROCESSED_AT) FROM SAMPLE_RESULT_LEGACY), CURRENT_TIMESTAMP))::DATE;
+    period_end DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '4 month')::DATE;
+BEGIN
+    WHILE period_start < period_end LOOP
+        EXECUTE format('CREATE TABLE sample_result_p%s PARTITION OF SAMPLE_RESULT FOR VALUES FROM (%L) TO (%L)',
+                       to_char(period_start, 'YYYYMM'),
+                       period_start::TIMESTAMP,
+                       (period_start + INTERVAL '1 month')::TIMESTAMP);
+        period_start := (period_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO SAMPLE_RESULT (ID, SAMPLE_ID, JOB_EXECUTION_ID, RESULT_STATUS, RESULT_MESSAGE, PROCESSED_AT)
+SELECT ID, SAMPLE_ID, JOB_EXECUTION_ID, RESULT_STATUS, RESULT_MESSAGE, COALESCE(PROCESSED_AT, CURRENT_TIMESTAMP)
+FROM SAMPLE_RESULT_LEGACY;
+
+DROP TABLE SAMPLE_RESULT_LEGACY;
+
+CREATE INDEX IDX_SAMPLE_RESULT_PROCESSED_AT ON SAMPLE_RESULT (PROCESSED_AT);
+CREATE INDEX IDX_SAMPLE_RESULT_SAMPLE_ID ON SAMPLE_RESULT (SAMPLE_ID);
+
+COMMIT;
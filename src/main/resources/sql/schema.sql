@@ -53,11 +53,21 @@ CREATE TABLE IF NOT EXISTS BATCH_PARAMETER (
     CONSTRAINT UK_BATCH_PARAM UNIQUE (JOB_NAME, PARAM_KEY)
 );
 
+-- ───────────────────────────────────────────────────────────────────────────────
+-- 샘플 도메인 시퀀스 (pooled-lo 채번)
+-- INCREMENT BY는 sequence.allocation-size와 같아야 함 (기본 50)
+-- 기존 IDENTITY 테이블 이관 시(PostgreSQL):
+--   ALTER TABLE SAMPLE ALTER COLUMN ID DROP IDENTITY;
+--   SELECT SETVAL('SAMPLE_SEQ', (SELECT COALESCE(MAX(ID), 0) + 1 FROM SAMPLE), false);
+-- ───────────────────────────────────────────────────────────────────────────────
+CREATE SEQUENCE IF NOT EXISTS SAMPLE_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS SAMPLE_RESULT_SEQ START WITH 1 INCREMENT BY 50;
+
 -- ───────────────────────────────────────────────────────────────────────────────
 -- 샘플 도메인 테이블
 -- ───────────────────────────────────────────────────────────────────────────────
 CREATE TABLE IF NOT EXISTS SAMPLE (
-    ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ID BIGINT PRIMARY KEY,
     NAME VARCHAR(200) NOT NULL,
     DESCRIPTION VARCHAR(1000),
     STATUS VARCHAR(50) DEFAULT 'ACTIVE',
@@ -73,7 +83,7 @@ CREATE TABLE IF NOT EXISTS SAMPLE (
 -- 샘플 처리 결과 테이블
 -- ───────────────────────────────────────────────────────────────────────────────
 CREATE TABLE IF NOT EXISTS SAMPLE_RESULT (
-    ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ID BIGINT PRIMARY KEY,
     SAMPLE_ID BIGINT NOT NULL,
     JOB_EXECUTION_ID BIGINT,
     RESULT_STATUS VARCHAR(50),
@@ -82,6 +92,57 @@ CREATE TABLE IF NOT EXISTS SAMPLE_RESULT (
     CONSTRAINT FK_SAMPLE_RESULT FOREIGN KEY (SAMPLE_ID) REFERENCES SAMPLE(ID)
 );
 
+-- ───────────────────────────────────────────────────────────────────────────────
+-- 샘플 아카이브 테이블 (dataCleanupJob archiveDataStep이 처리 완료 행을 SAMPLE에서 옮김)
+-- ───────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS SAMPLE_ARCHIVE (
+    ID BIGINT PRIMARY KEY,
+    NAME VARCHAR(200) NOT NULL,
+    DESCRIPTION VARCHAR(1000),
+    STATUS VARCHAR(50),
+    AMOUNT DECIMAL(15,2),
+    PROCESSED BOOLEAN,
+    CREATED_AT TIMESTAMP,
+    UPDATED_AT TIMESTAMP,
+    CREATED_BY VARCHAR(100),
+    UPDATED_BY VARCHAR(100),
+    ARCHIVED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ───────────────────────────────────────────────────────────────────────────────
+-- 샘플 상태별 통계 (SampleStatisticsService가 증분 반영, 상태마다 SLOT 행을 합산하여 조회)
+-- ───────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS SAMPLE_STATISTICS (
+    STATUS VARCHAR(50) NOT NULL,
+    SLOT INT NOT NULL,
+    ROW_COUNT BIGINT DEFAULT 0 NOT NULL,
+    AMOUNT_SUM DECIMAL(19,2) DEFAULT 0 NOT NULL,
+    PROCESSED_COUNT BIGINT DEFAULT 0 NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (STATUS, SLOT)
+);
+
+-- ───────────────────────────────────────────────────────────────────────────────
+-- 샘플 근사 프로파일 이력 (dataCleanupJob sampleProfileStep, JobInstance마다 1행)
+-- 분위수/고유값 수는 스케치 추정치, SKETCH는 병합 스케치(Base64)
+-- ───────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS SAMPLE_PROFILE (
+    ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    JOB_INSTANCE_ID BIGINT NOT NULL,
+    JOB_EXECUTION_ID BIGINT NOT NULL,
+    ROW_COUNT BIGINT NOT NULL,
+    DISTINCT_NAMES BIGINT NOT NULL,
+    AMOUNT_P50 DECIMAL(15,2),
+    AMOUNT_P90 DECIMAL(15,2),
+    AMOUNT_P99 DECIMAL(15,2),
+    TOP_NAMES VARCHAR(2000),
+    RESULT_COUNT BIGINT NOT NULL,
+    DISTINCT_RESULT_SAMPLES BIGINT NOT NULL,
+    TOP_RESULT_STATUSES VARCHAR(1000),
+    SKETCH VARCHAR(1000000),
+    PROFILED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- ───────────────────────────────────────────────────────────────────────────────
 -- 사용자 테이블 (배치 관리자)
 -- ───────────────────────────────────────────────────────────────────────────────
@@ -126,10 +187,65 @@ CREATE TABLE IF NOT EXISTS COMMON_CODE (
     CONSTRAINT UK_COMMON_CODE UNIQUE (GROUP_CODE, CODE)
 );
 
+-- ───────────────────────────────────────────────────────────────────────────────
+-- 동적 파티셔닝 작업 단위 큐 (batch.partition.type=DYNAMIC)
+-- ───────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS BATCH_WORK_UNIT (
+    ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    JOB_INSTANCE_ID BIGINT NOT NULL,
+    QUEUE_NAME VARCHAR(100) NOT NULL,
+    MIN_KEY BIGINT NOT NULL,
+    MAX_KEY BIGINT NOT NULL,
+    LAST_KEY BIGINT NOT NULL,
+    STATUS VARCHAR(20) NOT NULL,
+    JOB_EXECUTION_ID BIGINT,
+    OWNER VARCHAR(100),
+    HEARTBEAT_AT TIMESTAMP,
+    SPLIT_REQUESTED BOOLEAN DEFAULT FALSE NOT NULL,
+    CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ───────────────────────────────────────────────────────────────────────────────
+-- 원격 파티션 요청 큐 (batch.partition.remote.enabled=true)
+-- ───────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS BATCH_PARTITION_REQUEST (
+    ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    JOB_EXECUTION_ID BIGINT NOT NULL,
+    STEP_EXECUTION_ID BIGINT NOT NULL,
+    STEP_NAME VARCHAR(100) NOT NULL,
+    STATUS VARCHAR(20) NOT NULL,
+    OWNER VARCHAR(200),
+    HEARTBEAT_AT TIMESTAMP,
+    CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ───────────────────────────────────────────────────────────────────────────────
+-- 원격 청크 처리 영수증 (워커 중복 처리 방지, remoteChunkJob)
+-- ───────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS BATCH_REMOTE_CHUNK (
+    CHUNK_ID VARCHAR(100) PRIMARY KEY,
+    JOB_EXECUTION_ID BIGINT NOT NULL,
+    WRITE_COUNT INT NOT NULL,
+    FILTER_COUNT INT NOT NULL,
+    COMPLETED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- ───────────────────────────────────────────────────────────────────────────────
 -- 인덱스 생성
 -- ───────────────────────────────────────────────────────────────────────────────
 CREATE INDEX IF NOT EXISTS IDX_SAMPLE_STATUS ON SAMPLE(STATUS);
 CREATE INDEX IF NOT EXISTS IDX_SAMPLE_PROCESSED ON SAMPLE(PROCESSED);
+-- 보관 기간 분할 삭제 (cleanupOldDataStep, 운영 DB는 Step 첫 실행 시 생성)
+CREATE INDEX IF NOT EXISTS IDX_SAMPLE_RESULT_PROCESSED_AT ON SAMPLE_RESULT(PROCESSED_AT);
+-- 결과 없는 SAMPLE 아카이브 조건(NOT EXISTS) 조회 (archiveDataStep, 운영 DB는 Step 첫 실행 시 생성)
+CREATE INDEX IF NOT EXISTS IDX_SAMPLE_RESULT_SAMPLE_ID ON SAMPLE_RESULT(SAMPLE_ID);
+-- UPSERT Writer 자연키 UNIQUE 인덱스(UK_SAMPLE_RESULT_NATURAL_KEY)는 UPSERT 설정 시 Writer가 기동 시 생성
+-- (batch.writer.upsert-key-columns 컬럼 기준, 다른 Writer만 쓰면 SAMPLE당 결과 행 수를 제한하지 않음)
 CREATE INDEX IF NOT EXISTS IDX_JOB_HISTORY_NAME ON BATCH_JOB_HISTORY(JOB_NAME);
 CREATE INDEX IF NOT EXISTS IDX_JOB_HISTORY_STATUS ON BATCH_JOB_HISTORY(STATUS);
+CREATE INDEX IF NOT EXISTS IDX_WORK_UNIT_QUEUE ON BATCH_WORK_UNIT(JOB_INSTANCE_ID, QUEUE_NAME, STATUS);
+CREATE INDEX IF NOT EXISTS IDX_PARTITION_REQUEST_STATUS ON BATCH_PARTITION_REQUEST(STATUS);
+-- SAMPLE 프로파일 이력은 JobInstance당 1행 (SampleProfileRepository.save가 갱신 후 INSERT, 재시작 시 중복 방지)
+CREATE UNIQUE INDEX IF NOT EXISTS UK_SAMPLE_PROFILE_JOB_INSTANCE ON SAMPLE_PROFILE(JOB_INSTANCE_ID);
+-- 원격 청크 영수증 보관 기간 분할 삭제 (purgeRemoteChunkStep, 운영 DB는 Step 첫 실행 시 생성)
+CREATE INDEX IF NOT EXISTS IDX_REMOTE_CHUNK_JOB_EXECUTION ON BATCH_REMOTE_CHUNK(JOB_EXECUTION_ID);
@@ -0,0 +1,165 @@
+package com.framework.springbatch.batch.admission;
+
+import com.framework.springbatch.batch.config.BatchProperties;
+import com.framework.springbatch.global.error.exception.BatchJobException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Job 실행 승인 테스트 (노드 동시 실행 1개)
+ * - 실행 중인 Job이 실패해도 afterJob에서 슬롯을 반환하고 대기 중인 요청을 실행하는지 확인
+ * - Launcher가 실행을 거부한 요청은 슬롯을 차지하지 않는지 확인
+ */
+class JobAdmissionServiceTest {
+
+    private final CountDownLatch failingJobGate = new CountDownLatch(1);
+
+    private EmbeddedDatabase database;
+    private JobRepository jobRepository;
+    private DataSourceTransactionManager transactionManager;
+    private Job failingJob;
+    private Job completingJob;
+    private Job rejectedJob;
+    private JobAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("/org/springframework/batch/core/schema-h2.sql")
+                .build();
+        transactionManager = new DataSourceTransactionManager(database);
+
+        JobRepositoryFactoryBean repositoryFactory = new JobRepositoryFactoryBean();
+        repositoryFactory.setDataSource(database);
+        repositoryFactory.setTransactionManager(transactionManager);
+        repositoryFactory.afterPropertiesSet();
+        jobRepository = repositoryFactory.getObject();
+
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("admission-test-"));
+        jobLauncher.afterPropertiesSet();
+
+        failingJob = job("failingJob", (contribution, chunkContext) -> {
+            failingJobGate.await(10, TimeUnit.SECONDS);
+            throw new IllegalStateException("boom");
+        });
+        completingJob = job("completingJob", (contribution, chunkContext) -> RepeatStatus.FINISHED);
+        rejectedJob = new JobBuilder("rejectedJob", jobRepository)
+                .validator(parameters -> {
+                    throw new JobParametersInvalidException("rejected");
+                })
+                .start(new StepBuilder("rejectedStep", jobRepository)
+                        .tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED, transactionManager)
+                        .build())
+                .build();
+
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.getAdmission().setMaxConcurrentJobs(1);
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBeansOfType(Job.class)).thenReturn(Map.of(
+                "failingJob", failingJob, "completingJob", completingJob, "rejectedJob", rejectedJob));
+
+        admissionService = new JobAdmissionService(applicationContext, batchProperties, jobLauncher);
+        admissionService.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        failingJobGate.countDown();
+        database.shutdown();
+    }
+
+    @Test
+    void failedJobReleasesSlotToQueuedRequest() throws Exception {
+        JobAdmissionTicket failing = admissionService.submit(failingJob, parameters(1), null);
+        JobAdmissionTicket queued = admissionService.submit(completingJob, parameters(2), null);
+
+        assertThat(failing.isStarted()).isTrue();
+        assertThat(queued.isStarted()).isFalse();
+        assertThat(admissionService.getPosition(queued.getTicketId())).isEqualTo(1);
+
+        failingJobGate.countDown();
+
+        await(() -> status(failingJob, parameters(1)) == BatchStatus.FAILED
+                && status(completingJob, parameters(2)) == BatchStatus.COMPLETED
+                && admissionService.getTickets().isEmpty());
+        assertThat(queued.getExecutionId()).isNotNull();
+
+        // 슬롯이 모두 반환되어 다음 요청은 바로 실행
+        JobAdmissionTicket next = admissionService.submit(completingJob, parameters(3), null);
+        assertThat(next.isStarted()).isTrue();
+        await(() -> admissionService.getTickets().isEmpty());
+    }
+
+    @Test
+    void rejectedLaunchDoesNotHoldSlot() {
+        assertThatThrownBy(() -> admissionService.submit(rejectedJob, parameters(1), null))
+                .isInstanceOf(BatchJobException.class);
+        assertThat(admissionService.getTickets()).isEmpty();
+
+        JobAdmissionTicket next = admissionService.submit(completingJob, parameters(2), null);
+        assertThat(next.isStarted()).isTrue();
+        await(() -> admissionService.getTickets().isEmpty());
+    }
+
+    private Job job(String name, Tasklet tasklet) {
+        return new JobBuilder(name, jobRepository)
+                .start(new StepBuilder(name + "Step", jobRepository).tasklet(tasklet, transactionManager).build())
+                .build();
+    }
+
+    private BatchStatus status(Job job, JobParameters parameters) {
+        JobExecution execution = jobRepository.getLastJobExecution(job.getName(), parameters);
+        return execution != null ? execution.getStatus() : null;
+    }
+
+    private static JobParameters parameters(long run) {
+        return new JobParametersBuilder().addLong("run", run).toJobParameters();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 10s").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.framework.springbatch.batch.chunk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 원격 청크 중복/지연 응답 테스트
+ * - 매니저(RemoteChunkItemWriter)는 이전 회차 응답과 중복 응답을 건수에 반영하지 않는지 확인
+ * - 워커(RemoteChunkHandler)는 재전달된 요청을 다시 적재하지 않고 영수증 결과를 회신하는지 확인
+ * - 워커는 끝난 JobExecution의 잔여 요청을 적재하지 않는지 확인
+ */
+class RemoteChunkDeduplicationTest {
+
+    private static final String CHANNEL = "test-chunks";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void managerIgnoresStaleAndDuplicateReplies() throws Exception {
+        InMemoryChunkTransport transport = new InMemoryChunkTransport();
+        RemoteChunkItemWriter<String> writer = new RemoteChunkItemWriter<>();
+        writer.setChunkTransport(transport);
+        writer.setObjectMapper(objectMapper);
+        writer.setChannel(CHANNEL);
+        writer.setPollTimeout(Duration.ofMillis(50));
+        writer.setResponseTimeout(Duration.ofSeconds(5));
+        writer.afterPropertiesSet();
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        writer.beforeStep(stepExecution);
+
+        writer.write(Chunk.of("a", "b"));
+        ChunkRequest first = receiveOne(transport);
+        transport.reply(first.replyTo(), ChunkResponse.failure(first, "deadlock"));
+
+        // 다음 write에서 실패 응답을 받아 2회차로 재전송
+        writer.write(Chunk.of("c", "d"));
+        List<ChunkRequest> requests = transport.receive(CHANNEL, "worker", 10, Duration.ofMillis(50));
+        assertThat(requests).hasSize(2);
+        ChunkRequest retried = requests.get(0);
+        ChunkRequest second = requests.get(1);
+        assertThat(retried.chunkId()).isEqualTo(first.chunkId());
+        assertThat(retried.attempt()).isEqualTo(2);
+        assertThat(second.attempt()).isEqualTo(1);
+
+        // 1회차에 늦게 도착한 성공 응답(이전 회차)은 무시, 2회차 성공 응답의 재전달(중복)도 한 번만 반영
+        transport.reply(first.replyTo(), ChunkResponse.success(first, 99, 0));
+        transport.reply(retried.replyTo(), ChunkResponse.success(retried, 2, 0));
+        transport.reply(retried.replyTo(), ChunkResponse.success(retried, 2, 0));
+        transport.reply(second.replyTo(), ChunkResponse.success(second, 1, 1));
+        transport.reply(second.replyTo(), ChunkResponse.success(second, 1, 1));
+
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+        stepExecution.setExitStatus(ExitStatus.COMPLETED);
+        ExitStatus exitStatus = writer.afterStep(stepExecution);
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        assertThat(exitStatus.getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+        assertThat(context.getLong(RemoteChunkItemWriter.REMOTE_WRITE_COUNT_KEY)).isEqualTo(3);
+        assertThat(context.getLong(RemoteChunkItemWriter.REMOTE_FILTER_COUNT_KEY)).isEqualTo(1);
+        assertThat(context.getLong(RemoteChunkItemWriter.REMOTE_RETRY_COUNT_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    void workerRepliesWithReceiptForRedeliveredChunk() throws Exception {
+        List<String> written = new ArrayList<>();
+        RemoteChunkHandler<String, String> handler = handler(BatchStatus.STARTED, written);
+        ChunkRequest request = request(1);
+
+        ChunkResponse first = handler.handle(request);
+        // ACK 전에 워커가 죽어 같은 요청이 재전달되거나, 매니저가 다음 회차로 재전송한 경우
+        ChunkResponse redelivered = handler.handle(request);
+        ChunkResponse resent = handler.handle(request.withAttempt(2));
+
+        assertThat(first.successful()).isTrue();
+        assertThat(first.writeCount()).isEqualTo(2);
+        assertThat(redelivered).isEqualTo(first);
+        assertThat(resent.successful()).isTrue();
+        assertThat(resent.attempt()).isEqualTo(2);
+        assertThat(resent.writeCount()).isEqualTo(2);
+        assertThat(written).containsExactly("a", "b");
+    }
+
+    @Test
+    void workerDiscardsChunkOfFinishedJobExecution() throws Exception {
+        List<String> written = new ArrayList<>();
+        RemoteChunkHandler<String, String> handler = handler(BatchStatus.FAILED, written);
+
+        ChunkResponse response = handler.handle(request(1));
+
+        assertThat(response.successful()).isFalse();
+        assertThat(written).isEmpty();
+    }
+
+    private RemoteChunkHandler<String, String> handler(BatchStatus managerStatus, List<String> written) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        jobExecution.setStatus(managerStatus);
+        JobExplorer jobExplorer = mock(JobExplorer.class);
+        when(jobExplorer.getJobExecution(jobExecution.getId())).thenReturn(jobExecution);
+
+        RemoteChunkHandler<String, String> handler = new RemoteChunkHandler<>();
+        handler.setChannel(CHANNEL);
+        handler.setItemType(String.class);
+        handler.setItemProcessor(item -> item);
+        handler.setItemWriter(chunk -> written.addAll(chunk.getItems()));
+        handler.setObjectMapper(objectMapper);
+        handler.setTransactionManager(new DataSourceTransactionManager(dataSource));
+        handler.setJdbcTemplate(new JdbcTemplate(dataSource));
+        handler.setJobExplorer(jobExplorer);
+        handler.afterPropertiesSet();
+        return handler;
+    }
+
+    private ChunkRequest request(int sequence) throws Exception {
+        long jobExecutionId = MetaDataInstanceFactory.createJobExecution().getId();
+        return new ChunkRequest("1-" + sequence, CHANNEL + ":replies:1", jobExecutionId, sequence, 1,
+                objectMapper.writeValueAsString(List.of("a", "b")), null);
+    }
+
+    private static ChunkRequest receiveOne(InMemoryChunkTransport transport) {
+        List<ChunkRequest> requests = transport.receive(CHANNEL, "worker", 1, Duration.ofMillis(50));
+        assertThat(requests).hasSize(1);
+        return requests.get(0);
+    }
+}
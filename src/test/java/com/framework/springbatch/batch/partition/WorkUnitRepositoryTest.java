@@ -0,0 +1,203 @@
+package com.framework.springbatch.batch.partition;
+
+import com.framework.springbatch.batch.partition.WorkUnitRepository.WorkUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 단위 큐 저장소 테스트 (H2 PostgreSQL 모드)
+ * - 여러 워커가 동시에 할당해도 단위를 한 번씩만 받는지 확인
+ * - 유휴 워커의 분할 요청을 소유 워커가 진행 기록 때 받아 뒷부분을 넘기는지 확인
+ * - 동시 할당/분할 중에도 모든 키를 정확히 한 번 처리하는지 확인
+ */
+class WorkUnitRepositoryTest {
+
+    private static final long JOB_INSTANCE_ID = 1L;
+    private static final long JOB_EXECUTION_ID = 1L;
+    private static final String QUEUE = "partitionMasterStep";
+    private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate chunkTransaction;
+    private WorkUnitRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        repository = new WorkUnitRepository(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void concurrentClaimsHandOutEachUnitOnce() throws Exception {
+        List<long[]> ranges = new ArrayList<>();
+        for (long i = 0; i < 50; i++) {
+            ranges.add(new long[]{i * 100 + 1, i * 100 + 100});
+        }
+        repository.create(JOB_INSTANCE_ID, QUEUE, ranges);
+
+        ConcurrentLinkedQueue<Long> claimed = new ConcurrentLinkedQueue<>();
+        runWorkers(8, owner -> {
+            Optional<WorkUnit> unit;
+            while ((unit = repository.claim(JOB_INSTANCE_ID, QUEUE, JOB_EXECUTION_ID, owner, STALE_AFTER)).isPresent()) {
+                claimed.add(unit.get().id());
+            }
+        });
+
+        assertThat(claimed).hasSize(50).doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM BATCH_WORK_UNIT WHERE STATUS = 'CLAIMED'", Integer.class)).isEqualTo(50);
+    }
+
+    @Test
+    void idleWorkerRequestsSplitAndOwnerReleasesTail() {
+        repository.create(JOB_INSTANCE_ID, QUEUE, List.<long[]>of(new long[]{1, 10_000}));
+        WorkUnit unit = repository.claim(JOB_INSTANCE_ID, QUEUE, JOB_EXECUTION_ID, "a", STALE_AFTER).orElseThrow();
+
+        // 분할 요청 전에는 진행 기록이 요청 없음을 반환
+        assertThat(saveProgress(unit, "a", 1_000)).isFalse();
+
+        assertThat(repository.claim(JOB_INSTANCE_ID, QUEUE, JOB_EXECUTION_ID, "b", STALE_AFTER)).isEmpty();
+        Optional<Long> requested = repository.requestSplit(JOB_INSTANCE_ID, QUEUE, 1_000);
+        assertThat(requested).contains(unit.id());
+        assertThat(repository.isSplitPending(unit.id())).isTrue();
+        // 이미 요청된 단위에는 다시 요청하지 않음
+        assertThat(repository.requestSplit(JOB_INSTANCE_ID, QUEUE, 1_000)).isEmpty();
+
+        assertThat(saveProgress(unit, "a", 2_000)).isTrue();
+        long maxKey = repository.split(unit, JOB_INSTANCE_ID, QUEUE, "a", 2_000, 1_000);
+
+        assertThat(maxKey).isEqualTo(6_000);
+        assertThat(repository.isSplitPending(unit.id())).isFalse();
+        WorkUnit released = repository.claim(JOB_INSTANCE_ID, QUEUE, JOB_EXECUTION_ID, "b", STALE_AFTER).orElseThrow();
+        assertThat(released.minKey()).isEqualTo(6_001);
+        assertThat(released.lastKey()).isEqualTo(6_000);
+        assertThat(released.maxKey()).isEqualTo(10_000);
+    }
+
+    @Test
+    void splitTooSmallClearsRequestWithoutReleasing() {
+        repository.create(JOB_INSTANCE_ID, QUEUE, List.<long[]>of(new long[]{1, 3_000}));
+        WorkUnit unit = repository.claim(JOB_INSTANCE_ID, QUEUE, JOB_EXECUTION_ID, "a", STALE_AFTER).orElseThrow();
+        assertThat(repository.requestSplit(JOB_INSTANCE_ID, QUEUE, 1_000)).contains(unit.id());
+
+        // 요청 후 이미 조회한 구간이 늘어 남은 구간이 minSplitSpan의 2배 미만
+        long maxKey = repository.split(unit, JOB_INSTANCE_ID, QUEUE, "a", 1_500, 1_000);
+
+        assertThat(maxKey).isEqualTo(3_000);
+        assertThat(repository.isSplitPending(unit.id())).isFalse();
+        assertThat(repository.claim(JOB_INSTANCE_ID, QUEUE, JOB_EXECUTION_ID, "b", STALE_AFTER)).isEmpty();
+    }
+
+    @Test
+    void concurrentWorkersProcessEveryKeyOnceWhileSplitting() throws Exception {
+        int keys = 20_000;
+        repository.create(JOB_INSTANCE_ID, QUEUE, List.of(new long[]{1, 15_000}, new long[]{15_001, keys}));
+
+        AtomicIntegerArray processed = new AtomicIntegerArray(keys + 1);
+        runWorkers(4, owner -> process(owner, processed));
+
+        assertThat(LongStream.rangeClosed(1, keys).filter(key -> processed.get((int) key) != 1))
+                .as("keys processed other than once")
+                .isEmpty();
+        assertThat(repository.hasOpenUnits(JOB_INSTANCE_ID, QUEUE)).isFalse();
+        int units = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_WORK_UNIT", Integer.class);
+        assertThat(units).as("units after splits").isGreaterThan(2);
+
+        assertThat(repository.purge(JOB_INSTANCE_ID)).isEqualTo(units);
+        assertThat(repository.exists(JOB_INSTANCE_ID, QUEUE)).isFalse();
+    }
+
+    /**
+     * WorkUnitItemReader와 같은 순서로 단위를 처리하는 워커
+     * - 100건 청크마다 진행 기록, 분할 요청을 받으면 청크 커밋 후 분할
+     * - 할당할 단위가 없으면 이전 요청이 처리된 뒤에만 다시 분할 요청
+     */
+    private void process(String owner, AtomicIntegerArray processed) throws InterruptedException {
+        Long pendingSplit = null;
+        while (true) {
+            Optional<WorkUnit> claimed = repository.claim(JOB_INSTANCE_ID, QUEUE, JOB_EXECUTION_ID, owner, STALE_AFTER);
+            if (claimed.isEmpty()) {
+                if (!repository.hasOpenUnits(JOB_INSTANCE_ID, QUEUE)) {
+                    return;
+                }
+                if (pendingSplit == null || !repository.isSplitPending(pendingSplit)) {
+                    pendingSplit = repository.requestSplit(JOB_INSTANCE_ID, QUEUE, 100).orElse(null);
+                }
+                Thread.sleep(5);
+                continue;
+            }
+            pendingSplit = null;
+
+            WorkUnit unit = claimed.get();
+            long lastKey = unit.lastKey();
+            while (lastKey < unit.maxKey()) {
+                long chunkEnd = Math.min(lastKey + 100, unit.maxKey());
+                for (long key = lastKey + 1; key <= chunkEnd; key++) {
+                    processed.incrementAndGet((int) key);
+                }
+                lastKey = chunkEnd;
+                if (saveProgress(unit, owner, lastKey)) {
+                    unit = unit.withMaxKey(repository.split(unit, JOB_INSTANCE_ID, QUEUE, owner, lastKey, 100));
+                }
+                Thread.sleep(1);
+            }
+            repository.complete(unit.id(), owner, unit.maxKey());
+        }
+    }
+
+    private boolean saveProgress(WorkUnit unit, String owner, long lastKey) {
+        Boolean requested = chunkTransaction.execute(status -> repository.saveProgress(unit.id(), owner, lastKey));
+        return Boolean.TRUE.equals(requested);
+    }
+
+    private void runWorkers(int count, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String owner = "worker-" + i;
+                futures.add(executor.submit(() -> {
+                    worker.run(owner);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run(String owner) throws Exception;
+    }
+}
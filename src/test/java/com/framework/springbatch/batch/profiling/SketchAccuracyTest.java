@@ -0,0 +1,211 @@
+package com.framework.springbatch.batch.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 근사 스케치 정확도/병합 테스트
+ * - 고정 시드 입력으로 HyperLogLog, KLL, Misra-Gries 추정치가 문서화된 오차 범위 안에 있는지 확인
+ * - 파티션별 스케치를 병합한 결과도 같은 오차 범위를 지키는지 확인
+ */
+class SketchAccuracyTest {
+
+    private static final long SEED = 20240101L;
+
+    @Test
+    void hyperLogLogEstimatesDistinctCount() {
+        HyperLogLogSketch sketch = new HyperLogLogSketch(12);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.update("name-" + i);
+            sketch.update("name-" + (i / 2));
+        }
+
+        // 상대 오차 약 1.6% (precision 12), 3 표준편차 이내
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    void hyperLogLogUsesLinearCountingForSmallCardinality() {
+        HyperLogLogSketch sketch = new HyperLogLogSketch(12);
+        for (int i = 0; i < 100; i++) {
+            sketch.update((long) i);
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(100, within(3.0));
+    }
+
+    @Test
+    void hyperLogLogMergeEqualsSketchOfUnion() {
+        HyperLogLogSketch union = new HyperLogLogSketch(12);
+        HyperLogLogSketch first = new HyperLogLogSketch(12);
+        HyperLogLogSketch second = new HyperLogLogSketch(12);
+        for (long i = 0; i < 60_000; i++) {
+            first.update(i);
+            union.update(i);
+        }
+        for (long i = 40_000; i < 100_000; i++) {
+            second.update(i);
+            union.update(i);
+        }
+
+        first.merge(second);
+
+        assertThat(first.estimate()).isEqualTo(union.estimate());
+        assertThat((double) first.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    void kllQuantilesStayWithinRankError() {
+        double[] values = gaussianValues(100_000);
+        KllQuantileSketch sketch = new KllQuantileSketch(200, new Random(SEED));
+        for (double value : values) {
+            sketch.update(value);
+        }
+
+        assertQuantiles(sketch, values);
+    }
+
+    @Test
+    void kllMergedPartitionsStayWithinRankError() {
+        double[] values = gaussianValues(100_000);
+        Random random = new Random(SEED);
+        List<KllQuantileSketch> partitions = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            partitions.add(new KllQuantileSketch(200, random));
+        }
+        for (int i = 0; i < values.length; i++) {
+            partitions.get(i % partitions.size()).update(values[i]);
+        }
+
+        KllQuantileSketch merged = partitions.get(0);
+        for (int p = 1; p < partitions.size(); p++) {
+            merged.merge(partitions.get(p));
+        }
+
+        assertThat(merged.getCount()).isEqualTo(values.length);
+        assertQuantiles(merged, values);
+    }
+
+    @Test
+    void misraGriesFrequenciesAreBoundedLowerEstimates() {
+        List<String> stream = skewedStream();
+        FrequentItemsSketch sketch = new FrequentItemsSketch(64);
+        stream.forEach(sketch::update);
+
+        assertThat(sketch.getCount()).isEqualTo(stream.size());
+        assertFrequencies(sketch, stream, 64);
+    }
+
+    @Test
+    void misraGriesMergedPartitionsKeepErrorBound() {
+        List<String> stream = skewedStream();
+        List<FrequentItemsSketch> partitions = new ArrayList<>();
+        for (int p = 0; p < 3; p++) {
+            partitions.add(new FrequentItemsSketch(64));
+        }
+        for (int i = 0; i < stream.size(); i++) {
+            partitions.get(i % partitions.size()).update(stream.get(i));
+        }
+
+        FrequentItemsSketch merged = partitions.get(0);
+        for (int p = 1; p < partitions.size(); p++) {
+            merged.merge(partitions.get(p));
+        }
+
+        assertThat(merged.getCount()).isEqualTo(stream.size());
+        assertFrequencies(merged, stream, 64);
+    }
+
+    /**
+     * 추정 분위수의 실제 순위가 목표 순위 +-2% 이내 (k 200: 순위 오차 약 0.8%)
+     */
+    private static void assertQuantiles(KllQuantileSketch sketch, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertThat(sketch.getMin()).isEqualTo(sorted[0]);
+        assertThat(sketch.getMax()).isEqualTo(sorted[sorted.length - 1]);
+
+        for (double rank : new double[]{0.1, 0.25, 0.5, 0.75, 0.9, 0.99}) {
+            double estimate = sketch.quantile(rank);
+            int below = lowerBound(sorted, estimate);
+            int upTo = lowerBound(sorted, Math.nextUp(estimate));
+            double target = rank * sorted.length;
+            double error = target < below ? below - target : target > upTo ? target - upTo : 0;
+            assertThat(error / sorted.length)
+                    .as("rank error at %s", rank)
+                    .isLessThanOrEqualTo(0.02);
+        }
+    }
+
+    /**
+     * 모든 추정 빈도는 [실제 - maxError, 실제] 범위이고, 실제 빈도가 전체/(capacity+1)를 넘는 항목은 빠지지 않음
+     */
+    private static void assertFrequencies(FrequentItemsSketch sketch, List<String> stream, int capacity) {
+        Map<String, Long> actual = new HashMap<>();
+        stream.forEach(item -> actual.merge(item, 1L, Long::sum));
+        long bound = stream.size() / (capacity + 1);
+        assertThat(sketch.getMaxError()).isLessThanOrEqualTo(bound);
+
+        Map<String, Long> estimated = new HashMap<>();
+        sketch.getTopItems(capacity).forEach(item -> estimated.put(item.value(), item.frequency()));
+        estimated.forEach((item, frequency) -> {
+            assertThat(frequency).as(item).isLessThanOrEqualTo(actual.get(item));
+            assertThat(actual.get(item) - frequency).as(item).isLessThanOrEqualTo(sketch.getMaxError());
+        });
+        actual.forEach((item, frequency) -> {
+            if (frequency > bound) {
+                assertThat(estimated).as("heavy hitter %s", item).containsKey(item);
+            }
+        });
+
+        List<FrequentItemsSketch.Item> top = sketch.getTopItems(2);
+        assertThat(top).extracting(FrequentItemsSketch.Item::value).containsExactly("item-0", "item-1");
+    }
+
+    private static double[] gaussianValues(int size) {
+        Random random = new Random(SEED);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 1_000 + random.nextGaussian() * 250;
+        }
+        return values;
+    }
+
+    /**
+     * item-j가 1000 / (j + 1)번 나오는 1000종 항목을 고정 시드로 섞은 입력
+     */
+    private static List<String> skewedStream() {
+        List<String> stream = new ArrayList<>();
+        for (int j = 0; j < 1_000; j++) {
+            for (int n = 0; n < 1_000 / (j + 1); n++) {
+                stream.add("item-" + j);
+            }
+        }
+        Collections.shuffle(stream, new Random(SEED));
+        return stream;
+    }
+
+    private static int lowerBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,132 @@
+package com.framework.springbatch.batch.reader;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 선행 조회 Reader 테스트
+ * - 저장 상태는 소비한 묶음 경계의 위임 Reader 위치이고, 재시작하면 그 위치부터 다시 읽는지 확인
+ * - 백그라운드 조회 실패가 데이터 끝이 아니라 예외로 전달되는지 확인
+ */
+class PrefetchingItemReaderTest {
+
+    private static final String INDEX_KEY = "delegate.index";
+
+    @Test
+    void savesDelegateStateAtConsumedBatchBoundary() throws Exception {
+        PrefetchingItemReader<Integer> reader = prefetching(new IndexReader(10, -1));
+        reader.open(new ExecutionContext());
+
+        assertThat(read(reader, 4)).containsExactly(1, 2, 3, 4);
+        assertThat(update(reader)).isEqualTo(4);
+
+        // 묶음 중간까지 소비하면 직전 묶음 경계를 저장 (재시작 시 5부터 다시 읽음)
+        assertThat(read(reader, 1)).containsExactly(5);
+        assertThat(update(reader)).isEqualTo(4);
+
+        assertThat(read(reader, 5)).containsExactly(6, 7, 8, 9, 10);
+        assertThat(reader.read()).isNull();
+        assertThat(update(reader)).isEqualTo(10);
+        reader.close();
+    }
+
+    @Test
+    void restartsFromSavedDelegateState() throws Exception {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putInt(INDEX_KEY, 4);
+
+        PrefetchingItemReader<Integer> reader = prefetching(new IndexReader(10, -1));
+        reader.open(executionContext);
+
+        List<Integer> items = new ArrayList<>();
+        Integer item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        reader.close();
+
+        assertThat(items).containsExactly(5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void producerFailureIsNotTreatedAsEndOfData() throws Exception {
+        PrefetchingItemReader<Integer> reader = prefetching(new IndexReader(10, 6));
+        reader.open(new ExecutionContext());
+
+        assertThat(read(reader, 4)).containsExactly(1, 2, 3, 4);
+        assertThatThrownBy(reader::read).isInstanceOf(PrefetchingItemReader.PrefetchFailedException.class);
+        assertThatThrownBy(reader::read).isInstanceOf(PrefetchingItemReader.PrefetchFailedException.class);
+        assertThat(update(reader)).isEqualTo(4);
+        reader.close();
+    }
+
+    private static PrefetchingItemReader<Integer> prefetching(IndexReader delegate) throws Exception {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("prefetch-test-");
+        executor.setDaemon(true);
+
+        PrefetchingItemReader<Integer> reader = new PrefetchingItemReader<>();
+        reader.setName("testReader");
+        reader.setDelegate(delegate);
+        reader.setTaskExecutor(executor);
+        reader.setBatchSize(4);
+        reader.setPrefetchDepth(2);
+        reader.afterPropertiesSet();
+        return reader;
+    }
+
+    private static List<Integer> read(PrefetchingItemReader<Integer> reader, int count) throws Exception {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(reader.read());
+        }
+        return items;
+    }
+
+    private static int update(PrefetchingItemReader<Integer> reader) {
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.update(executionContext);
+        return executionContext.getInt(INDEX_KEY);
+    }
+
+    /**
+     * 1부터 size까지 읽고 읽은 건수를 상태로 저장하는 위임 Reader (failAt번째 조회에서 실패)
+     */
+    private static class IndexReader implements ItemStreamReader<Integer> {
+
+        private final List<Integer> items;
+        private final int failAt;
+        private int index;
+
+        IndexReader(int size, int failAt) {
+            this.items = IntStream.rangeClosed(1, size).boxed().toList();
+            this.failAt = failAt;
+        }
+
+        @Override
+        public Integer read() {
+            if (index + 1 == failAt) {
+                throw new IllegalStateException("read failed");
+            }
+            return index < items.size() ? items.get(index++) : null;
+        }
+
+        @Override
+        public void open(ExecutionContext executionContext) {
+            index = executionContext.getInt(INDEX_KEY, 0);
+        }
+
+        @Override
+        public void update(ExecutionContext executionContext) {
+            executionContext.putInt(INDEX_KEY, index);
+        }
+    }
+}